@@ -0,0 +1,111 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.DTO.CommitDTO;
+import com.ossdoctor.DTO.ContributionDTO;
+import com.ossdoctor.DTO.RepositoryDTO;
+import com.ossdoctor.benchmark.BenchmarkFixtures;
+import com.ossdoctor.util.JsonStreamDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 응답 파싱 벤치마크
+ * - 저장소 정보, 최근 활동: 응답 크기가 쿼리로 고정 (first: 10 / 20)
+ * - 커밋 활동: 1년치 커밋 이력 페이지 => 날짜별 집계 => CommitDTO
+ * - 기여 이력: 응답 본문 스트리밍 디코딩 + 저장소별 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GitHubParsingBenchmark {
+
+    private static final String CONTRIBUTIONS_PATH = "data.user.contributionsCollection.";
+
+    // 응답 크기 배율 (1: 일반 저장소 / 사용자, 10: 큰 저장소 / 활동이 많은 사용자)
+    @Param({"1", "10"})
+    private double scale;
+
+    private GitHubApiService gitHubApiService;
+    private JsonStreamDecoder contributionDecoder;
+    private JsonNode repositoryInfo;
+    private JsonNode recentActivities;
+    private List<JsonNode> commitHistoryPages;
+    private byte[] contributions;
+    private List<JsonStreamDecoder.Record> contributionRecords;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(objectMapper, scale);
+
+        // 파싱 메서드는 주입받는 빈을 사용하지 않음
+        gitHubApiService = new GitHubApiService(null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        contributionDecoder = new JsonStreamDecoder(objectMapper, List.of(
+                CONTRIBUTIONS_PATH + "pullRequestContributionsByRepository.*",
+                CONTRIBUTIONS_PATH + "issueContributionsByRepository.*",
+                CONTRIBUTIONS_PATH + "pullRequestReviewContributionsByRepository.*"));
+
+        repositoryInfo = fixtures.repositoryInfo();
+        recentActivities = fixtures.recentActivities();
+        commitHistoryPages = fixtures.commitHistoryPages(Duration.ofDays(365), 100, 50);
+        contributions = fixtures.contributions(Duration.ofDays(365));
+        contributionRecords = decode(contributions).collectList().block();
+    }
+
+    @Benchmark
+    public RepositoryDTO parseRepositoryInfo() {
+        return gitHubApiService.parseRepositoryInfo(repositoryInfo);
+    }
+
+    @Benchmark
+    public GitHubApiService.ActivitiesWithRepoId parseRecentActivities() {
+        return gitHubApiService.parseRecentActivities(recentActivities);
+    }
+
+    // GitHubCommitHistoryFetcher.dailyCommits + GitHubApiService.toCommitActivity 와 같은 경로
+    @Benchmark
+    public List<CommitDTO> parseCommitActivity() {
+        SortedMap<LocalDate, Integer> daily = new TreeMap<>();
+        for (JsonNode nodes : commitHistoryPages) {
+            for (LocalDate date : GitHubCommitHistoryFetcher.toDates(nodes)) {
+                daily.merge(date, 1, Integer::sum);
+            }
+        }
+        return gitHubApiService.toCommitActivity(daily);
+    }
+
+    @Benchmark
+    public List<ContributionDTO> parseContributions() {
+        return Flux.fromIterable(contributionRecords)
+                .concatMap(record -> gitHubApiService.parseContributions(BenchmarkFixtures.LOGIN, record))
+                .collectList()
+                .block();
+    }
+
+    // 응답 본문 디코딩까지 포함 (실제 요청 경로)
+    @Benchmark
+    public List<ContributionDTO> decodeAndParseContributions() {
+        return decode(contributions)
+                .concatMap(record -> gitHubApiService.parseContributions(BenchmarkFixtures.LOGIN, record))
+                .collectList()
+                .block();
+    }
+
+    private Flux<JsonStreamDecoder.Record> decode(byte[] body) {
+        return contributionDecoder.decode(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.model.UserInfo;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 / 사용자 정보 추출 벤치마크 (인증이 필요한 모든 요청에서 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private final JwtService jwtService = new JwtService();
+
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // @Value 로 주입되는 시크릿 키
+        Field secret = JwtService.class.getDeclaredField("jwtSecret");
+        secret.setAccessible(true);
+        secret.set(jwtService, "benchmark-secret-key-0123456789abcdef0123456789abcdef");
+
+        JSONObject user = new JSONObject()
+                .put("login", "sim-user")
+                .put("id", 1)
+                .put("avatar_url", "https://avatars.githubusercontent.com/u/1?v=4")
+                .put("bio", "Simulated User");
+        Date now = new Date();
+        validToken = jwtService.createJwtToken(user, now, new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)));
+
+        // 서명 한 글자만 바꾼 토큰 (검증 실패 경로)
+        int index = validToken.length() - 10;
+        char replaced = validToken.charAt(index) == 'A' ? 'B' : 'A';
+        tamperedToken = validToken.substring(0, index) + replaced + validToken.substring(index + 1);
+    }
+
+    @Benchmark
+    public boolean isValidJWT() {
+        return jwtService.isValidJWT(validToken);
+    }
+
+    @Benchmark
+    public boolean isValidJWTTampered() {
+        return jwtService.isValidJWT(tamperedToken);
+    }
+
+    @Benchmark
+    public UserInfo extractUserFromJWT() {
+        return jwtService.extractUserFromJWT(validToken);
+    }
+}
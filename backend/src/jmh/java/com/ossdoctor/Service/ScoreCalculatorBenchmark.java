@@ -0,0 +1,63 @@
+package com.ossdoctor.Service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 구간 조회 벤치마크
+ * 저장소 하나를 진단할 때 계산하는 점수 8개를 입력 1024개에 대해 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreCalculatorBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final ScoreCalculatorService scoreCalculator = new ScoreCalculatorService();
+
+    private int[] counts;
+    private LocalDate[] updatedDates;
+
+    @Setup
+    public void setUp() {
+        // 구간 경계 양쪽 값이 고르게 나오도록 0 ~ 2048 로그 분포
+        Random random = new Random(7L);
+        counts = new int[INPUTS];
+        updatedDates = new LocalDate[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            counts[i] = (int) Math.pow(2, random.nextDouble() * 11);
+            updatedDates[i] = LocalDate.now().minusDays(random.nextInt(500));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void thresholdScores(Blackhole blackhole) {
+        for (int i = 0; i < INPUTS; i++) {
+            int value = counts[i];
+            blackhole.consume(scoreCalculator.calculateCommitScore(value));
+            blackhole.consume(scoreCalculator.calculatePRScore(value));
+            blackhole.consume(scoreCalculator.calculateIssueScore(value));
+            blackhole.consume(scoreCalculator.calculateStarScore(value));
+            blackhole.consume(scoreCalculator.calculateForkScore(value));
+            blackhole.consume(scoreCalculator.calculateWatcherScore(value));
+            blackhole.consume(scoreCalculator.calculateContributorScore(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void updateScore(Blackhole blackhole) {
+        for (int i = 0; i < INPUTS; i++) {
+            blackhole.consume(scoreCalculator.calculateUpdateScore(updatedDates[i]));
+        }
+    }
+}
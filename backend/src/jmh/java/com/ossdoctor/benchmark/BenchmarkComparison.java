@@ -0,0 +1,85 @@
+package com.ossdoctor.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH JSON 결과를 기준 결과와 비교해서 threshold 보다 느려진 벤치마크가 있으면 종료 코드 1
+ * - 평균 시간(avgt, sample, ss)은 점수가 클수록, 처리량(thrpt)은 작을수록 느린 것
+ * - 측정 오차(scoreError)를 뺀 차이로 판단해서 잡음으로 실패하지 않도록 함
+ *
+ * 사용: BenchmarkComparison {기준 결과.json} {현재 결과.json} [threshold=0.1]
+ */
+public class BenchmarkComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: BenchmarkComparison <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.isFile()) {
+            System.err.println("기준 결과 파일이 없습니다: " + baselineFile.getAbsolutePath());
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("  NEW   %s%n", entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            double noise = errorOf(before) + errorOf(after);
+            boolean throughput = "thrpt".equals(after.path("mode").asText());
+
+            // 느려진 정도 (양수면 느려짐)
+            double slowdown = throughput ? beforeScore - afterScore : afterScore - beforeScore;
+            double ratio = beforeScore == 0 ? 0 : slowdown / beforeScore;
+            boolean regressed = slowdown - noise > 0 && ratio > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("  %-5s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+                    regressed ? "SLOW" : "OK", entry.getKey(), beforeScore, afterScore,
+                    after.path("primaryMetric").path("scoreUnit").asText(),
+                    (throughput ? -ratio : ratio) * 100);
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d개 벤치마크가 기준보다 %.0f%% 이상 느려짐%n", regressions, threshold * 100);
+            System.exit(1);
+        }
+        System.out.println("느려진 벤치마크 없음");
+    }
+
+    // 벤치마크 이름 + 파라미터 => 결과
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            result.path("params").properties().forEach(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+
+    private static double errorOf(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
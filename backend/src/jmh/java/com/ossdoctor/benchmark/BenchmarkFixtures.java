@@ -0,0 +1,84 @@
+package com.ossdoctor.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ossdoctor.simulator.PayloadGenerator;
+import com.ossdoctor.simulator.SimulatorSettings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 GitHub 응답 픽스처
+ * 시뮬레이터의 응답 합성기를 고정 시드로 사용해서 실행할 때마다 같은 응답을 만듦
+ */
+public class BenchmarkFixtures {
+
+    public static final String OWNER = "sim-org";
+    public static final String NAME = "benchmark-project";
+    public static final String LOGIN = "sim-user";
+
+    private final ObjectMapper objectMapper;
+    private final PayloadGenerator generator;
+
+    /**
+     * @param scale 응답 크기 배율 (contributor, 커밋, 기여 이력 수)
+     */
+    public BenchmarkFixtures(ObjectMapper objectMapper, double scale) {
+        this.objectMapper = objectMapper;
+        this.generator = new PayloadGenerator(objectMapper, SimulatorSettings.builder()
+                .seed(7L)
+                .scale(scale)
+                .build());
+    }
+
+    // 배치 조회 결과를 저장소 하나의 응답으로 나눈 형태 {"data": {"repository": ...}}
+    public JsonNode repositoryInfo() {
+        return wrap("repository", generator.repositoryFields(OWNER, NAME));
+    }
+
+    public JsonNode recentActivities() {
+        return wrap("repository", generator.recentActivities(OWNER, NAME));
+    }
+
+    // 기여 이력 응답 본문 (스트리밍 디코딩 입력)
+    public byte[] contributions(Duration period) {
+        try {
+            return objectMapper.writeValueAsBytes(wrap("user", generator.userContributions(LOGIN, Instant.now().minus(period))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 기간 내 커밋 이력 페이지들의 history.nodes (최대 maxPages 페이지)
+     */
+    public List<JsonNode> commitHistoryPages(Duration period, int pageSize, int maxPages) {
+        Instant since = Instant.now().minus(period);
+        List<JsonNode> pages = new ArrayList<>();
+        String after = null;
+        for (int page = 0; page < maxPages; page++) {
+            JsonNode history = generator.commitHistory(OWNER, NAME, since, null, pageSize, after)
+                    .path("defaultBranchRef").path("target").path("history");
+            pages.add(history.path("nodes"));
+            if (!history.path("pageInfo").path("hasNextPage").asBoolean()) {
+                break;
+            }
+            after = history.path("pageInfo").path("endCursor").asText();
+        }
+        return pages;
+    }
+
+    private JsonNode wrap(String field, JsonNode node) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.set(field, node);
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("data", data);
+        return response;
+    }
+}
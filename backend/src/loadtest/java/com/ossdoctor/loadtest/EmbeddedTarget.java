@@ -0,0 +1,79 @@
+package com.ossdoctor.loadtest;
+
+import com.ossdoctor.OssdoctorApplication;
+import com.ossdoctor.Entity.UserEntity;
+import com.ossdoctor.Repository.UserRepository;
+import com.ossdoctor.simulator.GitHubApiSimulator;
+import com.ossdoctor.simulator.SimulatorSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 대상 앱을 같은 JVM 에서 실행
+ * - GitHub 대신 GitHubApiSimulator (임의 포트, 한도는 부하 테스트에 걸리지 않게 크게)
+ * - DB 는 application.yml 의 H2 메모리 DB, my-activity 대상 사용자(load-user-N)는 시작할 때 미리 저장
+ * 같은 JVM 이라 부하 생성기와 CPU 를 나눠 쓰므로, 실제 용량 측정은 --target 으로 따로 띄운 서버에 실행
+ */
+@Slf4j
+public class EmbeddedTarget implements AutoCloseable {
+
+    private final GitHubApiSimulator simulator;
+    private final ConfigurableApplicationContext application;
+
+    public EmbeddedTarget(List<String> simulatorArgs, int users) {
+        List<String> args = new ArrayList<>(List.of(
+                "--port=0",
+                "--core-limit=100000000",
+                "--graphql-limit=100000000",
+                "--search-limit=100000000"));
+        args.addAll(simulatorArgs); // 사용자가 준 값이 우선
+        simulator = new GitHubApiSimulator(SimulatorSettings.fromArgs(args.toArray(String[]::new))).start();
+
+        application = new SpringApplicationBuilder(OssdoctorApplication.class)
+                .run("--server.port=0",
+                        "--github.api.base-url=" + simulator.baseUrl(),
+                        "--github.api.graphql-url=" + simulator.baseUrl() + "/graphql",
+                        "--github.token=loadtest-token",
+                        "--github.tokens=",
+                        "--spring.security.oauth2.client.registration.github.client-id=loadtest",
+                        "--spring.security.oauth2.client.registration.github.client-secret=loadtest",
+                        "--jwt.secret.key=loadtest-secret-key-0123456789abcdef0123456789abcdef",
+                        "--app.frontend.url=http://localhost",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.ossdoctor=WARN");
+        seedUsers(users);
+        log.info("부하 테스트 대상 앱 시작: {} (GitHub 시뮬레이터 {})", baseUrl(), simulator.baseUrl());
+    }
+
+    // 없는 사용자는 my-activity 에서 400 이므로 부하 테스트 사용자를 미리 저장 (githubId 는 겹치지 않게 큰 값부터)
+    private void seedUsers(int users) {
+        UserRepository userRepository = application.getBean(UserRepository.class);
+        List<UserEntity> entities = new ArrayList<>();
+        for (int rank = 1; rank <= users; rank++) {
+            entities.add(UserEntity.builder()
+                    .githubId(1_000_000L + rank)
+                    .nickname("load-user-" + rank)
+                    .level(1)
+                    .totalScore(0)
+                    .build());
+        }
+        userRepository.saveAll(entities);
+    }
+
+    public String baseUrl() {
+        int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+        return "http://127.0.0.1:" + port;
+    }
+
+    @Override
+    public void close() {
+        application.close();
+        simulator.stop();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ossdoctor.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * diagnose / my-activity / search 엔드포인트 부하 테스트
+ * - 열린 모델: 응답을 기다리지 않고 도착률(초당 요청 수)에 맞춰 포아송 간격으로 요청 (서버가 느려지면 대기 요청이 쌓임)
+ * - 요청 대상은 Zipf 분포 (인기 저장소 / 사용자에 요청이 몰림 => 캐시 적중률도 실제와 비슷)
+ * - 단계(도착률)마다 엔드포인트별 p50/p90/p99/p999, 처리량, 원인별 에러 출력 + JSON / .hgrm 보고서
+ */
+public class LoadTest {
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Random random;
+    private final ZipfDistribution repositories;
+    private final ZipfDistribution users;
+    private final ZipfDistribution searchQueries;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadTest(LoadTestSettings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(settings.getTimeoutSeconds()))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.random = new Random(settings.getSeed());
+        this.repositories = new ZipfDistribution(settings.getRepositories(), settings.getZipfExponent());
+        this.users = new ZipfDistribution(settings.getUsers(), settings.getZipfExponent());
+        this.searchQueries = new ZipfDistribution(settings.getSearchQueries(), settings.getZipfExponent());
+
+        cumulativeWeights = new int[settings.getMix().size()];
+        int total = 0;
+        for (Map.Entry<Scenario, Integer> entry : settings.getMix().entrySet()) {
+            total += entry.getValue();
+            cumulativeWeights[scenarios.size()] = total;
+            scenarios.add(entry.getKey());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromArgs(args);
+
+        EmbeddedTarget embedded = settings.getTarget() == null ? new EmbeddedTarget(settings.getSimulatorArgs(), settings.getUsers()) : null;
+        try {
+            String baseUrl = embedded != null ? embedded.baseUrl() : settings.getTarget();
+            new LoadTest(settings, baseUrl).run();
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    public void run() throws IOException, InterruptedException {
+        System.out.printf("부하 테스트 대상: %s, 단계 %s req/s x %d초, 비율 %s, Zipf %.2f%n",
+                baseUrl, settings.getRates(), settings.getStageSeconds(), settings.getMix(), settings.getZipfExponent());
+
+        if (settings.getWarmupSeconds() > 0) {
+            StageReport warmup = new StageReport("warmup", settings.getRates().get(0));
+            runStage(warmup, settings.getWarmupSeconds());
+            System.out.printf("워밍업 %d초 완료 (결과 제외)%n", settings.getWarmupSeconds());
+        }
+
+        List<StageReport> reports = new ArrayList<>();
+        for (int i = 0; i < settings.getRates().size(); i++) {
+            StageReport report = new StageReport("stage-" + (i + 1), settings.getRates().get(i));
+            runStage(report, settings.getStageSeconds());
+            reports.add(report);
+            System.out.printf("%s (%.1f req/s) 완료%n", report.getName(), report.getTargetRate());
+        }
+
+        // 마지막 응답까지 기다린 뒤 결과 출력 (단계가 끝난 뒤 도착한 응답도 그 단계에 집계됨)
+        awaitInFlight();
+        reports.forEach(report -> report.print(System.out));
+        writeReports(reports);
+    }
+
+    /**
+     * 한 단계 동안 도착률에 맞춰 요청 (지수 분포 간격 = 포아송 도착)
+     */
+    private void runStage(StageReport report, int seconds) {
+        double rate = report.getTargetRate();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long intended = System.nanoTime();
+
+        report.start();
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(report, nextScenario(), intended);
+        }
+        report.finish();
+    }
+
+    private void send(StageReport report, Scenario scenario, long intendedNanos) {
+        report.recordSent(scenario);
+        if (inFlight.get() >= settings.getMaxInFlight()) {
+            report.recordError(scenario, "client_overload");
+            return;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path(scenario)))
+                .timeout(Duration.ofSeconds(settings.getTimeoutSeconds()))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    // 보내기로 한 시각부터 측정 (coordinated omission 보정)
+                    long latency = System.nanoTime() - intendedNanos;
+                    if (error == null) {
+                        report.recordResponse(scenario, response.statusCode(), latency);
+                    } else {
+                        report.recordError(scenario, errorReason(error));
+                    }
+                });
+    }
+
+    private Scenario nextScenario() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private String path(Scenario scenario) {
+        return switch (scenario) {
+            case DIAGNOSE -> scenario.path(repositories.sample(random), random.nextDouble() < settings.getMissingRatio());
+            case ACTIVITY -> scenario.path(users.sample(random), false);
+            case SEARCH -> scenario.path(searchQueries.sample(random), false);
+        };
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.getTimeoutSeconds());
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private void writeReports(List<StageReport> reports) throws IOException {
+        Path directory = settings.getReportDirectory()
+                .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", baseUrl);
+        report.put("mix", settings.getMix());
+        report.put("zipfExponent", settings.getZipfExponent());
+        report.put("repositories", settings.getRepositories());
+        report.put("users", settings.getUsers());
+        List<Map<String, Object>> stages = new ArrayList<>();
+        for (StageReport stage : reports) {
+            stages.add(stage.summary());
+            stage.writeHistograms(directory, stage.getName());
+        }
+        report.put("stages", stages);
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), report);
+        System.out.printf("%n보고서: %s%n", directory.toAbsolutePath());
+    }
+
+    private static String errorReason(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof ConnectException) {
+            return "connect";
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
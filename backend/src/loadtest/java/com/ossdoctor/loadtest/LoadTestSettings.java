@@ -0,0 +1,115 @@
+package com.ossdoctor.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value)
+ * --sim.* 인자는 내장 시뮬레이터 설정으로 전달 (예: --sim.latency=lognormal:80,0.5)
+ */
+@Getter
+@Builder
+public class LoadTestSettings {
+
+    // 대상 서버 (없으면 H2 + 시뮬레이터로 앱을 직접 띄움)
+    private final String target;
+
+    // 단계별 도착률 (초당 요청 수), 단계마다 stageSeconds 동안 유지
+    @Builder.Default
+    private final List<Double> rates = List.of(20.0);
+    @Builder.Default
+    private final int stageSeconds = 60;
+    // 측정 전 워밍업 (첫 단계 도착률, 결과 제외)
+    @Builder.Default
+    private final int warmupSeconds = 10;
+
+    // 엔드포인트별 요청 비율
+    @Builder.Default
+    private final Map<Scenario, Integer> mix = Map.of(Scenario.DIAGNOSE, 5, Scenario.ACTIVITY, 3, Scenario.SEARCH, 2);
+
+    // 인기도 분포 (순위 k 의 확률 ∝ 1 / k^zipfExponent)
+    @Builder.Default
+    private final int repositories = 1000;
+    @Builder.Default
+    private final int users = 500;
+    @Builder.Default
+    private final int searchQueries = 200;
+    @Builder.Default
+    private final double zipfExponent = 1.1;
+    // 존재하지 않는 저장소 비율 (404 경로)
+    private final double missingRatio;
+
+    @Builder.Default
+    private final int timeoutSeconds = 30;
+    // 응답 대기 중인 요청 상한 (넘으면 보내지 않고 client_overload 로 집계)
+    @Builder.Default
+    private final int maxInFlight = 2000;
+    @Builder.Default
+    private final long seed = 42L;
+
+    @Builder.Default
+    private final Path reportDirectory = Path.of("build", "reports", "loadtest");
+
+    // 내장 시뮬레이터 인자
+    @Builder.Default
+    private final List<String> simulatorArgs = List.of();
+
+    public static LoadTestSettings fromArgs(String[] args) {
+        LoadTestSettingsBuilder builder = LoadTestSettings.builder();
+        List<String> simulatorArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+
+            if (key.startsWith("sim.")) {
+                simulatorArgs.add("--" + key.substring("sim.".length()) + "=" + value);
+                continue;
+            }
+            switch (key) {
+                case "target" -> builder.target(value);
+                case "rates" -> {
+                    List<Double> rates = new ArrayList<>();
+                    for (String rate : value.split(",")) {
+                        rates.add(Double.parseDouble(rate.trim()));
+                    }
+                    builder.rates(rates);
+                }
+                case "stage-seconds" -> builder.stageSeconds(Integer.parseInt(value));
+                case "warmup-seconds" -> builder.warmupSeconds(Integer.parseInt(value));
+                case "mix" -> builder.mix(parseMix(value));
+                case "repositories" -> builder.repositories(Integer.parseInt(value));
+                case "users" -> builder.users(Integer.parseInt(value));
+                case "search-queries" -> builder.searchQueries(Integer.parseInt(value));
+                case "zipf" -> builder.zipfExponent(Double.parseDouble(value));
+                case "missing-ratio" -> builder.missingRatio(Double.parseDouble(value));
+                case "timeout-seconds" -> builder.timeoutSeconds(Integer.parseInt(value));
+                case "max-in-flight" -> builder.maxInFlight(Integer.parseInt(value));
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "report-dir" -> builder.reportDirectory(Path.of(value));
+                default -> throw new IllegalArgumentException("알 수 없는 설정: " + key);
+            }
+        }
+        return builder.simulatorArgs(simulatorArgs).build();
+    }
+
+    // diagnose:5,activity:3,search:2
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            mix.put(Scenario.fromName(weight[0]), Integer.parseInt(weight[1]));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ossdoctor.loadtest;
+
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ * 요청 대상(저장소, 사용자, 검색어)은 인기 순위로 받아서 경로를 만듦
+ */
+public enum Scenario {
+
+    // /api/diagnose/{owner}/{repo}
+    DIAGNOSE("diagnose") {
+        @Override
+        public String path(int rank, boolean missing) {
+            String name = (missing ? "missing-project-" : "project-") + rank;
+            return "/api/diagnose/sim-org-" + (rank % 50) + "/" + name;
+        }
+    },
+
+    // /api/my-activity/stats/{nickname}
+    ACTIVITY("activity") {
+        @Override
+        public String path(int rank, boolean missing) {
+            return "/api/my-activity/stats/load-user-" + rank;
+        }
+    },
+
+    // /api/ecosystem/search
+    SEARCH("search") {
+        private final String[] languages = {"", "java", "typescript", "python", "go", "rust"};
+
+        @Override
+        public String path(int rank, boolean missing) {
+            String query = "topic-" + rank;
+            return "/api/ecosystem/search?searchQuery=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                    + "&language=" + languages[rank % languages.length]
+                    + "&limit=30";
+        }
+    };
+
+    @Getter
+    private final String name;
+
+    Scenario(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param rank    인기 순위 (1부터)
+     * @param missing 존재하지 않는 대상으로 요청 (diagnose 만 사용)
+     */
+    public abstract String path(int rank, boolean missing);
+
+    public static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equalsIgnoreCase(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (diagnose, activity, search)");
+    }
+}
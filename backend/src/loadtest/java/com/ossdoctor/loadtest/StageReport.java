@@ -0,0 +1,164 @@
+package com.ossdoctor.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계 하나(도착률 하나)의 엔드포인트별 결과
+ * - 응답 시간은 요청을 보내기로 한 시각부터 측정 (서버가 느려져서 요청이 밀려도 지연이 가려지지 않도록)
+ * - 응답 시간 분포는 HdrHistogram (μs, 유효숫자 3자리)
+ * - 에러는 원인별로 집계 (http_500, timeout, connect, client_overload ...)
+ */
+public class StageReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    @Getter
+    private final String name;
+    @Getter
+    private final double targetRate;
+    private final Map<Scenario, Endpoint> endpoints = new EnumMap<>(Scenario.class);
+
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    public StageReport(String name, double targetRate) {
+        this.name = name;
+        this.targetRate = targetRate;
+        for (Scenario scenario : Scenario.values()) {
+            endpoints.put(scenario, new Endpoint());
+        }
+    }
+
+    public void start() {
+        startedNanos = System.nanoTime();
+    }
+
+    public void finish() {
+        finishedNanos = System.nanoTime();
+    }
+
+    public void recordSent(Scenario scenario) {
+        endpoints.get(scenario).sent.increment();
+    }
+
+    public void recordResponse(Scenario scenario, int status, long latencyNanos) {
+        Endpoint endpoint = endpoints.get(scenario);
+        endpoint.latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        if (status >= 200 && status < 300) {
+            endpoint.succeeded.increment();
+        } else {
+            recordError(scenario, "http_" + status);
+        }
+    }
+
+    public void recordError(Scenario scenario, String reason) {
+        endpoints.get(scenario).errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    public void print(PrintStream out) {
+        double seconds = Math.max(1e-9, (finishedNanos - startedNanos) / 1e9);
+        out.printf("%n== %s (목표 %.1f req/s, %.0f초) ==%n", name, targetRate, seconds);
+        out.printf("%-10s %8s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "sent", "ok", "errors", "ok/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        endpoints.forEach((scenario, endpoint) -> {
+            long sent = endpoint.sent.sum();
+            if (sent == 0) {
+                return;
+            }
+            Histogram latency = endpoint.latency;
+            out.printf("%-10s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    scenario.getName(), sent, endpoint.succeeded.sum(), endpoint.errorCount(),
+                    endpoint.succeeded.sum() / seconds,
+                    millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                    latency.getMaxValue() / 1000.0);
+            if (!endpoint.errors.isEmpty()) {
+                out.printf("%-10s errors: %s%n", "", endpoint.errorTotals());
+            }
+        });
+    }
+
+    /**
+     * 단계 요약 (JSON 보고서용)
+     */
+    public Map<String, Object> summary() {
+        double seconds = Math.max(1e-9, (finishedNanos - startedNanos) / 1e9);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("stage", name);
+        summary.put("targetRate", targetRate);
+        summary.put("durationSeconds", seconds);
+
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((scenario, endpoint) -> {
+            if (endpoint.sent.sum() == 0) {
+                return;
+            }
+            Histogram latency = endpoint.latency;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("sent", endpoint.sent.sum());
+            result.put("succeeded", endpoint.succeeded.sum());
+            result.put("errors", endpoint.errorTotals());
+            result.put("throughput", endpoint.succeeded.sum() / seconds);
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50", millis(latency, 50));
+            percentiles.put("p90", millis(latency, 90));
+            percentiles.put("p99", millis(latency, 99));
+            percentiles.put("p999", millis(latency, 99.9));
+            percentiles.put("max", latency.getMaxValue() / 1000.0);
+            percentiles.put("mean", latency.getMean() / 1000.0);
+            result.put("latencyMillis", percentiles);
+            byEndpoint.put(scenario.getName(), result);
+        });
+        summary.put("endpoints", byEndpoint);
+        return summary;
+    }
+
+    /**
+     * 엔드포인트별 전체 응답 시간 분포 (.hgrm, HdrHistogram 도구로 그래프 작성 가능)
+     */
+    public void writeHistograms(Path directory, String prefix) throws IOException {
+        for (Map.Entry<Scenario, Endpoint> entry : endpoints.entrySet()) {
+            if (entry.getValue().sent.sum() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(prefix + "-" + entry.getKey().getName() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latency.outputPercentileDistribution(out, 1000.0); // μs -> ms
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static class Endpoint {
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        Map<String, Long> errorTotals() {
+            Map<String, Long> totals = new TreeMap<>();
+            errors.forEach((reason, count) -> totals.put(reason, count.sum()));
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ossdoctor.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 (순위 k 의 확률 ∝ 1 / k^exponent)
+ * 소수의 인기 저장소 / 사용자에 요청이 몰리는 실제 트래픽을 흉내냄, 누적 분포를 미리 계산해서 이분 탐색으로 샘플링
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 순위 (1 ~ size)
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,5 +15,11 @@ import lombok.NoArgsConstructor;
 public class ApiStatusDTO {
     private Boolean tokenValid;
     private RateLimitDTO rateLimit;
+    private Map<String, RateLimitDTO> resources; // core, graphql, search 별 한도
+    private Integer queuedRequests; // 한도 리셋을 기다리는 요청 수
+    private List<TokenStatusDTO> tokens; // 토큰별 사용량
+    private List<ConnectionPoolDTO> connectionPools; // GitHub 연결 풀 상태
+    private Map<String, Long> retries; // 원인별 재시도 / 포기 횟수
+    private List<CircuitBreakerDTO> circuitBreakers; // 작업별 서킷 브레이커 / 동시 호출 상태
     private String error;
 }
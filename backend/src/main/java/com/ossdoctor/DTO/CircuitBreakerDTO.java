@@ -0,0 +1,21 @@
+package com.ossdoctor.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerDTO {
+    private String operation;       // 작업 이름 (repositoryInfo, search, ...)
+    private String state;           // CLOSED, OPEN, HALF_OPEN
+    private double failureRate;     // 최근 호출 중 실패 비율
+    private int bufferedCalls;      // 실패율 계산에 사용된 호출 수
+    private long rejectedCalls;     // 차단으로 거절된 호출 수
+    private int activeCalls;        // 진행 중인 호출 수
+    private int maxConcurrentCalls;
+    private long bulkheadRejectedCalls; // 동시 호출 상한으로 거절된 호출 수
+}
@@ -0,0 +1,21 @@
+package com.ossdoctor.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolDTO {
+    private String name;            // 연결 풀 이름
+    private String remoteAddress;   // 연결 대상 (api.github.com:443 등)
+    private int active;             // 사용 중인 연결 수
+    private int idle;               // 유휴 연결 수
+    private int pending;            // 연결을 기다리는 요청 수
+    private int allocated;          // 열려 있는 전체 연결 수
+    private int maxConnections;
+    private int maxPending;
+}
@@ -14,4 +14,5 @@ public class RateLimitDTO {
     private int used;
     private int remaining;
     private String resetAt;
+    private Integer lastCost; // 마지막 GraphQL 쿼리 비용
 }
@@ -4,6 +4,7 @@ import com.ossdoctor.Entity.SOURCE_TYPE;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -36,6 +37,7 @@ public class RepositoryDTO {
     private int totalIssues;
     private LocalDate lastUpdatedAt;
     private LocalDate lastCommitedAt;
+    private LocalDateTime lastFetchedAt; // GitHub 에서 마지막으로 가져온 시각
 
     private List<String> topics;
 }
\ No newline at end of file
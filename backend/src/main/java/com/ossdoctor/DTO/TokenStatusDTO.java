@@ -0,0 +1,20 @@
+package com.ossdoctor.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenStatusDTO {
+    private String id;              // 토큰 식별자 (token-1, token-2, ...)
+    private boolean valid;          // 인증 실패 시 false
+    private long requests;          // 이 토큰으로 보낸 요청 수
+    private long exhaustions;       // 한도를 다 써서 순환에서 제외된 횟수
+    private Map<String, RateLimitDTO> resources;
+}
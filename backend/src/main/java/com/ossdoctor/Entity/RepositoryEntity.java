@@ -3,8 +3,10 @@ package com.ossdoctor.Entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +17,7 @@ import java.util.List;
 @AllArgsConstructor
 @Table(name = "repository")
 @Entity
+@DynamicUpdate // 바뀐 컬럼만 UPDATE (조회할 때마다 전체 컬럼을 다시 쓰지 않도록)
 public class RepositoryEntity {
 
     @Id
@@ -100,6 +103,10 @@ public class RepositoryEntity {
     @Column(name = "last_commited_at")
     private LocalDate lastCommitedAt;
 
+    // GitHub 에서 마지막으로 가져온 시각 (신선도 판단 기준)
+    @Column(name = "last_fetched_at")
+    private LocalDateTime lastFetchedAt;
+
     @ToString.Exclude
     @OneToMany(mappedBy = "repository", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
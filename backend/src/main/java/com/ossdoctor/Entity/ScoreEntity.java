@@ -2,6 +2,7 @@ package com.ossdoctor.Entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
@@ -27,6 +28,13 @@ public class ScoreEntity {
     @Column(nullable = false)
     private Integer score;
 
+    // 점수 계산 입력값 해시 + 계산 날짜 (같으면 같은 점수 => 다시 저장하지 않음)
+    @Column(name = "input_hash")
+    private Integer inputHash;
+
+    @Column(name = "score_date")
+    private LocalDate scoreDate;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
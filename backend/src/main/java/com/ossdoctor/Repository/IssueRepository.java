@@ -6,7 +6,11 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface IssueRepository extends JpaRepository<IssueEntity, Long> {
 
+    // 저장소의 issue 번호로 조회 (중복 저장된 경우 가장 최근 것)
+    Optional<IssueEntity> findFirstByRepositoryAndIssueNumberOrderByIdxDesc(RepositoryEntity repository, Integer issueNumber);
 }
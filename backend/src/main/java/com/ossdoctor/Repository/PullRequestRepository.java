@@ -1,10 +1,15 @@
 package com.ossdoctor.Repository;
 
 import com.ossdoctor.Entity.PullRequestEntity;
+import com.ossdoctor.Entity.RepositoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PullRequestRepository extends JpaRepository<PullRequestEntity, Long> {
 
+    // 저장소의 PR 번호로 조회 (중복 저장된 경우 가장 최근 것)
+    Optional<PullRequestEntity> findFirstByRepositoryAndPrNumberOrderByIdxDesc(RepositoryEntity repository, Integer prNumber);
 }
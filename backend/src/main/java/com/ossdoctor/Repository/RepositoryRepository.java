@@ -1,9 +1,14 @@
 package com.ossdoctor.Repository;
 
 import com.ossdoctor.Entity.RepositoryEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +21,17 @@ public interface RepositoryRepository extends JpaRepository<RepositoryEntity, Lo
 
     // fullName
     Optional<RepositoryEntity> findByOwnerAndName(String owner, String name);
+
+    // fullName (GitHub 은 대소문자를 구분하지 않음)
+    Optional<RepositoryEntity> findByOwnerIgnoreCaseAndNameIgnoreCase(String owner, String name);
+
+    boolean existsByOwnerIgnoreCaseAndNameIgnoreCase(String owner, String name);
+
+    // 조회수 상위 저장소 (백그라운드 갱신 대상)
+    List<RepositoryEntity> findByOrderByViewCountDesc(Pageable pageable);
+
+    // 조회수 누적 (메모리에 모아둔 조회수를 한 번에 반영)
+    @Modifying
+    @Query("update RepositoryEntity r set r.viewCount = r.viewCount + :views where r.githubRepoId = :githubRepoId")
+    int addViewCount(@Param("githubRepoId") Long githubRepoId, @Param("views") long views);
 }
@@ -5,8 +5,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ScoreRepository extends JpaRepository<ScoreEntity, Long> {
     List<ScoreEntity> findByRepositoryIdx(Long repositoryId);
+
+    // 저장소의 마지막 점수 행 (마지막 스냅샷)
+    Optional<ScoreEntity> findTopByRepositoryIdxOrderByIdxDesc(Long repositoryId);
 }
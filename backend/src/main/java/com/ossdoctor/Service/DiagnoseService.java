@@ -1,12 +1,21 @@
 package com.ossdoctor.Service;
 
 import com.ossdoctor.DTO.RepositoryDTO;
+import com.ossdoctor.util.SingleFlight;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -15,6 +24,9 @@ public class DiagnoseService {
 
     private final GitHubApiService gitHubApiService;
 
+    // 같은 저장소에 대한 동시 진단 요청은 하나의 수집 작업을 공유
+    private final SingleFlight<String, Map<String, Object>> inFlightDiagnoses = new SingleFlight<>();
+
     /**
      * 저장소 전체 진단 정보 조회
      * @param owner 저장소 소유자
@@ -22,43 +34,117 @@ public class DiagnoseService {
      * @return 통합 진단 결과
      */
     public Mono<Map<String, Object>> getFullDiagnosisData(String owner, String repo) {
-        return gitHubApiService.getRepositoryInfo(owner, repo)
-                .flatMap(repositoryDTO -> collectAllDiagnosisData(owner, repo, repositoryDTO))
-                .doOnError(error -> log.error("진단 데이터 수집 실패: {}/{}", owner, repo, error));
+        String key = "fullDiagnosis:" + GitHubCacheManager.repoKey(owner, repo);
+        return inFlightDiagnoses.execute(key, () -> collectFullDiagnosisData(owner, repo));
     }
 
     /**
-     * 모든 진단 데이터를 병렬로 수집하고 통합
+     * 저장소 진단 (섹션별 스트리밍)
+     * 각 섹션을 준비되는 순서대로 내보내고, 마지막에 단계별 소요 시간을 담은 complete 섹션
+     * 저장소 정보 조회가 실패하면 error 로 종료
      */
-    private Mono<Map<String, Object>> collectAllDiagnosisData(String owner, String repo, RepositoryDTO repositoryDTO) {
-        // 병렬로 데이터 수집
-        Mono<Object> contributorsMono = gitHubApiService.getContributors(owner, repo)
-                .cast(Object.class)
-                .onErrorReturn("기여자 데이터 로딩 실패");
-
-        Mono<Object> languagesMono = gitHubApiService.getLanguages(owner, repo)
-                .cast(Object.class)
-                .onErrorReturn(Map.of());
-
-        Mono<Object> commitActivitiesMono = gitHubApiService.getCommitActivity(owner, repo)
-                .cast(Object.class)
-                .onErrorReturn(Map.of());
-
-        Mono<Object> recentActivitiesMono = gitHubApiService.getRecentActivitiesForFrontend(owner, repo)
-                .cast(Object.class)
-                .onErrorReturn(Map.of());
-
-        // 모든 데이터를 병렬로 수집하고 통합
-        return Mono.zip(contributorsMono, languagesMono, commitActivitiesMono, recentActivitiesMono)
+    public Flux<Section> streamDiagnosisData(String owner, String repo) {
+        DiagnosisGraph graph = new DiagnosisGraph(owner, repo);
+
+        return Flux.merge(
+                        graph.repository.map(repositoryDTO -> new Section("repository", repositoryDTO)),
+                        graph.contributors.map(contributors -> new Section("contributors", contributors)),
+                        graph.languages.map(languages -> new Section("languages", languages)),
+                        graph.commitActivities.map(commitActivities -> new Section("commitActivities", commitActivities)),
+                        graph.recentActivities.map(recentActivities -> new Section("recentActivities", recentActivities)),
+                        graph.scores.map(scores -> new Section("scores", scores)))
+                .concatWith(Mono.fromSupplier(() -> new Section("complete", Map.of("timings", graph.timings()))))
+                .doOnError(error -> log.error("진단 데이터 스트리밍 실패: {}/{}", owner, repo, error));
+    }
+
+    private Mono<Map<String, Object>> collectFullDiagnosisData(String owner, String repo) {
+        DiagnosisGraph graph = new DiagnosisGraph(owner, repo);
+
+        // 모든 단계를 동시에 구독 => 각 단계는 자기 입력이 준비되는 즉시 시작
+        return Mono.zip(graph.repository, graph.contributors, graph.languages,
+                        graph.commitActivities, graph.recentActivities, graph.scores)
                 .map(tuple -> buildDiagnosisResponse(
-                        repositoryDTO,
                         tuple.getT1(),
                         tuple.getT2(),
                         tuple.getT3(),
                         tuple.getT4(),
-                        owner,
-                        repo
-                ));
+                        tuple.getT5(),
+                        tuple.getT6(),
+                        graph.timings()))
+                .doOnSuccess(response -> log.info("진단 단계별 소요 시간 {}/{}: {}", owner, repo, graph.timings()))
+                .doOnError(error -> log.error("진단 데이터 수집 실패: {}/{}", owner, repo, error));
+    }
+
+    /**
+     * 진단 작업 그래프
+     * - repository, contributors, languages, commitActivities 는 서로 의존하지 않으므로 동시에 시작
+     *   단, DB 에 없는 저장소(처음 진단)는 GitHub 에 없을 수도 있으므로 repository 가 성공한 뒤에 시작 (404 면 호출하지 않음)
+     * - scores, recentActivities 는 repository(저장소 정보 DB 저장)가 끝난 뒤 시작
+     * - 각 단계는 cache() 로 한 번만 실행되고, 단계별 소요 시간(ms)을 기록
+     */
+    private class DiagnosisGraph {
+        private final long startedAt = System.nanoTime();
+        private final Map<String, Long> stageMillis = new ConcurrentHashMap<>();
+
+        private final Mono<RepositoryDTO> repository;
+        private final Mono<Object> contributors;
+        private final Mono<Object> languages;
+        private final Mono<Object> commitActivities;
+        private final Mono<Object> recentActivities;
+        private final Mono<Map<String, Object>> scores;
+
+        DiagnosisGraph(String owner, String repo) {
+            repository = stage("repository", gitHubApiService.getRepositoryInfo(owner, repo));
+
+            // 저장된 저장소면 바로, 처음 보는 저장소면 repository 가 성공한 뒤 (실패하면 에러 => 아래 단계도 시작하지 않음)
+            Mono<?> repositoryExists = gitHubApiService.isStoredRepository(owner, repo)
+                    .onErrorReturn(false)
+                    .flatMap(stored -> stored ? Mono.just(stored) : repository)
+                    .cache();
+
+            contributors = repositoryExists.then(stage("contributors", gitHubApiService.getContributors(owner, repo)
+                    .cast(Object.class)
+                    .onErrorReturn("기여자 데이터 로딩 실패")));
+
+            languages = repositoryExists.then(stage("languages", gitHubApiService.getLanguages(owner, repo)
+                    .cast(Object.class)
+                    .onErrorReturn(Map.of())));
+
+            commitActivities = repositoryExists.then(stage("commitActivities", gitHubApiService.getCommitActivity(owner, repo)
+                    .cast(Object.class)
+                    .onErrorReturn(Map.of())));
+
+            // 최근 활동은 이슈 / PR 을 저장소 행에 연결해서 저장하므로 repository 저장이 끝난 뒤 시작
+            recentActivities = repository.flatMap(repositoryDTO -> stage("recentActivities",
+                    gitHubApiService.getRecentActivitiesForFrontend(owner, repo)
+                            .cast(Object.class)
+                            .onErrorReturn(Map.of())));
+
+            // 점수 계산은 DB 조회가 있으므로 boundedElastic 에서 실행 (에러 발생 시 기본값 제공)
+            scores = repository.flatMap(repositoryDTO -> stage("scores",
+                    Mono.fromCallable(() -> gitHubApiService.getAllScores(owner, repo))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> {
+                                log.warn("점수 계산 실패: {}/{}", owner, repo, e);
+                                return Mono.just(createDefaultScores());
+                            })));
+        }
+
+        // 단계 시작 => 완료까지의 시간과 전체 시작 => 완료까지의 시간(total) 기록
+        private <T> Mono<T> stage(String name, Mono<T> work) {
+            return Mono.defer(() -> {
+                long stageStartedAt = System.nanoTime();
+                return work.doFinally(signal -> {
+                    long now = System.nanoTime();
+                    stageMillis.put(name, TimeUnit.NANOSECONDS.toMillis(now - stageStartedAt));
+                    stageMillis.merge("total", TimeUnit.NANOSECONDS.toMillis(now - startedAt), Math::max);
+                });
+            }).cache();
+        }
+
+        Map<String, Long> timings() {
+            return new TreeMap<>(stageMillis);
+        }
     }
 
     /**
@@ -70,8 +156,8 @@ public class DiagnoseService {
             Object languages,
             Object commitActivities,
             Object recentActivities,
-            String owner,
-            String repo) {
+            Map<String, Object> scores,
+            Map<String, Long> timings) {
 
         Map<String, Object> response = new HashMap<>();
 
@@ -85,18 +171,23 @@ public class DiagnoseService {
         response.put("commitActivities", commitActivities);
         response.put("recentActivities", recentActivities);
 
-        // 점수 정보 (에러 발생 시 기본값 제공)
-        try {
-            Map<String, Object> allScores = gitHubApiService.getAllScores(owner, repo);
-            response.put("scores", allScores);
-        } catch (Exception e) {
-            log.warn("점수 계산 실패: {}/{}", owner, repo, e);
-            response.put("scores", createDefaultScores());
-        }
+        // 점수 정보
+        response.put("scores", scores);
+
+        // 단계별 소요 시간 (ms)
+        response.put("timings", timings);
 
         return response;
     }
 
+    // 스트리밍 진단의 섹션 (name: 통합 응답의 키와 같음)
+    @Getter
+    @AllArgsConstructor
+    public static class Section {
+        private final String name;
+        private final Object data;
+    }
+
     /**
      * 기본 점수 정보 생성 (에러 발생 시 사용)
      */
@@ -1,93 +1,197 @@
 package com.ossdoctor.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.JsonStreamDecoder;
+import com.ossdoctor.util.ReactiveTtlCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EcosystemService {
 
-    private final WebClient webClient;
     private final GithubApiProperties properties;
     private final ObjectMapper objectMapper;
+    private final GitHubRestClient restClient;
+    private final GitHubGraphQLClient graphQLClient;
+    private final GitHubCommitHistoryFetcher historyFetcher;
+    private final GitHubResponseStore responseStore;
+    private final GitHubCacheManager cacheManager;
+    private final GitHubResilience resilience;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
 
-    // GraphQL 엔드포인트
-    private static final String GITHUB_GRAPHQL_ENDPOINT = "https://api.github.com/graphql";
-    private static final String GITHUB_REST_ENDPOINT = "https://api.github.com/repos";
+    // 디스크 응답 저장소에서 결과를 다시 읽을 때의 타입
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
+
+    // 자유 검색어의 단어 (따옴표로 묶은 구문은 한 단어)
+    private static final Pattern SEARCH_TOKEN = Pattern.compile("\"[^\"]*\"|\\S+");
+    // GitHub 검색의 불리언 연산자 (대문자여야 연산자로 인식)
+    private static final Set<String> SEARCH_OPERATORS = Set.of("AND", "OR", "NOT");
+
+    private static final String SEARCH_REPOSITORIES_QUERY = """
+        query SearchRepositories($query: String!, $first: Int!, $after: String) {
+          search(query: $query, type: REPOSITORY, first: $first, after: $after) {
+            repositoryCount
+            pageInfo {
+              hasNextPage
+              hasPreviousPage
+              startCursor
+              endCursor
+            }
+            nodes {
+              ... on Repository {
+                id
+                name
+                nameWithOwner
+                description
+                url
+                stargazerCount
+                forkCount
+                createdAt
+                updatedAt
+                pushedAt
+                primaryLanguage {
+                  name
+                }
+                licenseInfo {
+                  name
+                  spdxId
+                }
+                repositoryTopics(first: 5) {
+                  nodes {
+                    topic {
+                      name
+                    }
+                  }
+                }
+                issues(states: [OPEN], labels: ["good first issue"]) {
+                  totalCount
+                }
+                owner {
+                  login
+                  avatarUrl
+                }
+              }
+            }
+          }
+        }
+        """;
 
     /**
-     * GraphQL 요청 실행
+     * GraphQL 요청 실행 (스트리밍)
+     * data 아래 필드를 바로 Map 으로 읽어서 JsonNode 를 거치지 않음
      */
-    private Mono<Map<String, Object>> executeGraphQL(String query, Map<String, Object> variables) {
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", query);
-        if (variables != null && !variables.isEmpty()) {
-            requestBody.put("variables", variables);
-        }
+    private Mono<Map<String, Object>> executeGraphQL(String operation, String query, Map<String, Object> variables) {
+        Supplier<Mono<Map<String, Object>>> request = () -> resilience.protect(operation,
+                GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH,
+                graphQLClient.stream(query, variables, "data.*", "errors.*")
+                        .collect(DataResult::new, DataResult::add)
+                        .map(DataResult::toMap));
 
-        return webClient.post()
-                .uri(GITHUB_GRAPHQL_ENDPOINT)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getToken())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .map(response -> {
-                    try {
-                        JsonNode jsonNode = objectMapper.readTree(response);
-                        if (jsonNode.has("errors")) {
-                            log.error("GraphQL errors: {}", jsonNode.get("errors"));
-                            throw new RuntimeException("GraphQL API 오류: " + jsonNode.get("errors"));
-                        }
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> result = objectMapper.convertValue(jsonNode.get("data"), Map.class);
-                        return result;
-                    } catch (Exception e) {
-                        log.error("GraphQL 응답 파싱 오류", e);
-                        throw new RuntimeException("GraphQL 응답 파싱 실패", e);
-                    }
-                });
+        // 전체 응답(JsonNode)을 저장하는 graphQLClient.execute 와 키가 겹치지 않도록 구분
+        return cachedResult("map:" + responseStore.graphQLKey(query, variables), request);
     }
 
     /**
-     * REST API 요청 실행
+     * 검색 GraphQL 요청 실행 (스트리밍)
+     * search.nodes 의 저장소를 하나씩 Map 으로 읽어서 응답 전체를 String/JsonNode 로 만들지 않음
+     * 결과 형태는 executeGraphQL 과 같음: {"search": {"repositoryCount", "pageInfo", "nodes"}}
      */
-    private Mono<Map<String, Object>> executeRestAPI(String endpoint) {
-        return webClient.get()
-                .uri(GITHUB_REST_ENDPOINT + endpoint)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getToken())
-                .header(HttpHeaders.ACCEPT, "application/vnd.github.v3+json")
-                .retrieve()
-                .bodyToMono(String.class)
-                .map(response -> {
-                    try {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> result = objectMapper.readValue(response, Map.class);
-                        return result;
-                    } catch (Exception e) {
-                        log.error("REST API 응답 파싱 오류", e);
-                        throw new RuntimeException("REST API 응답 파싱 실패", e);
-                    }
-                });
+    private Mono<Map<String, Object>> executeSearch(String query, Map<String, Object> variables,
+                                                    GitHubRateLimitGovernor.Priority priority) {
+        Supplier<Mono<Map<String, Object>>> search = () -> resilience.protect(GitHubResilience.SEARCH,
+                GitHubRateLimitGovernor.GRAPHQL, priority,
+                graphQLClient.stream(query, variables, priority,
+                                "data.search.repositoryCount", "data.search.pageInfo", "data.search.nodes.*", "errors.*")
+                        .collect(SearchResult::new, SearchResult::add)
+                        .map(SearchResult::toMap));
+
+        return cachedResult(responseStore.graphQLKey(query, variables), search);
+    }
+
+    // 디스크 응답 저장소가 켜져 있으면 같은 요청의 결과를 재사용
+    private Mono<Map<String, Object>> cachedResult(String key, Supplier<Mono<Map<String, Object>>> request) {
+        if (!responseStore.isEnabled()) {
+            return request.get();
+        }
+        return responseStore.cached(key, cacheManager.ttl(GitHubCacheManager.ECOSYSTEM), RESULT_TYPE, request);
+    }
+
+    // 캐시 조회 (GitHub 장애로 실패하면 만료된 캐시 값이라도 응답)
+    private Mono<Map<String, Object>> getCached(String operation, String key, Supplier<Mono<Map<String, Object>>> loader) {
+        ReactiveTtlCache<String, Map<String, Object>> cache = cacheManager.getCache(GitHubCacheManager.ECOSYSTEM);
+        return resilience.withFallback(operation, cache.get(key, loader), () -> cache.getStale(key));
+    }
+
+    // data 아래 필드별 레코드를 모아서 Map 으로 구성
+    private static class DataResult {
+        private final Map<String, Object> data = new LinkedHashMap<>();
+        private final List<Object> errors = new ArrayList<>();
+
+        void add(JsonStreamDecoder.Record record) {
+            if (record.isUnder("errors")) {
+                errors.add(record.as(Map.class));
+            } else {
+                data.put(record.segment(1), record.as(Object.class));
+            }
+        }
+
+        Map<String, Object> toMap() {
+            if (!errors.isEmpty()) {
+                log.error("GraphQL errors: {}", errors);
+                throw new RuntimeException("GraphQL API 오류: " + errors);
+            }
+            return data;
+        }
+    }
+
+    // 검색 응답 레코드를 모아서 Map 으로 구성
+    private static class SearchResult {
+        private final Map<String, Object> search = new LinkedHashMap<>();
+        private final List<Object> nodes = new ArrayList<>();
+        private final List<Object> errors = new ArrayList<>();
+
+        void add(JsonStreamDecoder.Record record) {
+            if (record.isUnder("errors")) {
+                errors.add(record.as(Map.class));
+            } else if (record.isUnder("data", "search", "nodes")) {
+                nodes.add(record.as(Map.class));
+            } else {
+                search.put(record.segment(2), record.as(Object.class));
+            }
+        }
+
+        Map<String, Object> toMap() {
+            if (!errors.isEmpty()) {
+                log.error("GraphQL errors: {}", errors);
+                throw new RuntimeException("GraphQL API 오류: " + errors);
+            }
+            search.put("nodes", nodes);
+            Map<String, Object> result = new HashMap<>();
+            result.put("search", search);
+            return result;
+        }
     }
 
     /**
      * 프로젝트 검색
      */
-    public Map<String, Object> searchProjects(Map<String, Object> filters, String cursor) {
+    public Mono<Map<String, Object>> searchProjects(Map<String, Object> filters, String cursor) {
         String searchQuery = (String) filters.getOrDefault("searchQuery", "");
         String language = (String) filters.getOrDefault("language", "");
         String license = (String) filters.getOrDefault("license", "");
@@ -95,22 +199,27 @@ public class EcosystemService {
         String sortBy = (String) filters.getOrDefault("sortBy", "beginner-friendly");
         int limit = (Integer) filters.getOrDefault("limit", 30);
 
-        // 검색 조건 구성
-        List<String> searchTerms = new ArrayList<>();
-        
-        if (!searchQuery.isEmpty()) {
-            searchTerms.add(searchQuery);
-        }
-        
-        if (!language.isEmpty()) {
-            searchTerms.add("language:" + language);
+        return searchPage(searchString(searchQuery, language, license, timeFilter, sortBy), limit, cursor);
+    }
+
+    /**
+     * 검색 조건으로 GitHub 검색어 구성
+     * 단어 순서 / 대소문자만 다른 조건은 같은 검색어 => 검색 캐시 키로 사용
+     */
+    static String searchString(String searchQuery, String language, String license, String timeFilter, String sortBy) {
+        // 검색 조건 구성 (GitHub 검색은 대소문자를 구분하지 않으므로 소문자로 통일)
+        // 같은 조건이면 같은 검색어가 되도록 정규화 => 캐시 키로 사용
+        Set<String> searchTerms = new TreeSet<>(searchQueryTerms(searchQuery));
+
+        if (!language.isBlank()) {
+            searchTerms.add("language:" + language.trim().toLowerCase(Locale.ROOT));
         }
         
-        if (!license.isEmpty()) {
-            searchTerms.add("license:" + license);
+        if (!license.isBlank()) {
+            searchTerms.add("license:" + license.trim().toLowerCase(Locale.ROOT));
         }
 
-        // 시간 필터 적용
+        // 시간 필터 적용 (날짜 단위로 맞춰서 같은 날에는 같은 검색어)
         if (!timeFilter.isEmpty()) {
             String dateFilter = getDateFilter(timeFilter);
             if (dateFilter != null) {
@@ -134,71 +243,94 @@ public class EcosystemService {
         searchTerms.add("forks:>5");         // 최소 5개 forks
         searchTerms.add("pushed:>2023-01-01"); // 2023년 이후 업데이트된 프로젝트
 
-        String searchString = String.join(" ", searchTerms) + " sort:" + getSortField(sortBy);
+        // 검색 한정자 순서는 결과에 영향이 없으므로 정렬된 순서로 조합
+        return String.join(" ", searchTerms) + " sort:" + getSortField(sortBy);
+    }
 
-        String query = """
-            query SearchRepositories($query: String!, $first: Int!, $after: String) {
-              search(query: $query, type: REPOSITORY, first: $first, after: $after) {
-                repositoryCount
-                pageInfo {
-                  hasNextPage
-                  hasPreviousPage
-                  startCursor
-                  endCursor
-                }
-                nodes {
-                  ... on Repository {
-                    id
-                    name
-                    nameWithOwner
-                    description
-                    url
-                    stargazerCount
-                    forkCount
-                    createdAt
-                    updatedAt
-                    pushedAt
-                    primaryLanguage {
-                      name
-                    }
-                    licenseInfo {
-                      name
-                      spdxId
-                    }
-                    repositoryTopics(first: 5) {
-                      nodes {
-                        topic {
-                          name
-                        }
-                      }
-                    }
-                    issues(states: [OPEN], labels: ["good first issue"]) {
-                      totalCount
-                    }
-                    owner {
-                      login
-                      avatarUrl
-                    }
-                  }
-                }
-              }
-            }
-            """;
+    // 검색 결과 한 페이지 (검색어 + 페이지 크기 + 커서 단위로 캐시)
+    // GitHub 에서 새로 가져온 페이지에 다음 페이지가 있으면 백그라운드에서 미리 조회 (캐시 hit 은 미리 조회하지 않음)
+    private Mono<Map<String, Object>> searchPage(String searchString, int limit, String cursor) {
+        ReactiveTtlCache<String, Map<String, Object>> cache = cacheManager.getCache(GitHubCacheManager.SEARCH);
+
+        return cache.get(searchKey(searchString, limit, cursor),
+                () -> executeSearch(SEARCH_REPOSITORIES_QUERY, searchVariables(searchString, limit, cursor),
+                        GitHubRateLimitGovernor.Priority.HIGH)
+                        .doOnNext(page -> prefetchNextPage(cache, searchString, limit, page)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void prefetchNextPage(ReactiveTtlCache<String, Map<String, Object>> cache,
+                                  String searchString, int limit, Map<String, Object> page) {
+        Map<String, Object> search = (Map<String, Object>) page.get("search");
+        Map<String, Object> pageInfo = search != null ? (Map<String, Object>) search.get("pageInfo") : null;
+        if (pageInfo == null || !Boolean.TRUE.equals(pageInfo.get("hasNextPage"))
+                || !(pageInfo.get("endCursor") instanceof String endCursor)) {
+            return;
+        }
+
+        String nextKey = searchKey(searchString, limit, endCursor);
+        // 한도가 부족하면 LOW 요청은 리셋까지 대기하므로 미리 조회하지 않음
+        if (cache.contains(nextKey) || !rateLimitGovernor.hasCapacity(GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.LOW)) {
+            return;
+        }
+        // 캐시의 single-flight 를 거치지 않음 => 사용자가 다음 페이지를 요청하면 LOW 조회에 합류하지 않고 따로 HIGH 로 조회
+        executeSearch(SEARCH_REPOSITORIES_QUERY, searchVariables(searchString, limit, endCursor), GitHubRateLimitGovernor.Priority.LOW)
+                .subscribe(
+                        next -> {
+                            cache.put(nextKey, next);
+                            log.debug("다음 검색 페이지 미리 조회: {}", nextKey);
+                        },
+                        error -> log.debug("다음 검색 페이지 미리 조회 실패 ({}): {}", nextKey, error.getMessage()));
+    }
+
+    private static String searchKey(String searchString, int limit, String cursor) {
+        return searchString + "|" + limit + "|" + (cursor == null ? "" : cursor);
+    }
+
+    /**
+     * 자유 검색어를 단어 단위로 나눠서 소문자로 정규화 => 단어 순서 / 대소문자만 다른 검색은 같은 캐시 키
+     * - NOT 은 다음 단어와 묶어서 한 단어로 취급
+     * - AND / OR 가 있으면 단어 순서가 결과에 영향을 줄 수 있으므로 나누지 않고 한 단어로 취급
+     */
+    private static List<String> searchQueryTerms(String searchQuery) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = SEARCH_TOKEN.matcher(searchQuery);
+        while (matcher.find()) {
+            String token = matcher.group();
+            tokens.add(SEARCH_OPERATORS.contains(token) ? token : token.toLowerCase(Locale.ROOT));
+        }
+        if (tokens.contains("AND") || tokens.contains("OR")) {
+            return List.of(String.join(" ", tokens));
+        }
 
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            terms.add("NOT".equals(token) && i + 1 < tokens.size() ? token + " " + tokens.get(++i) : token);
+        }
+        return terms;
+    }
+
+    private static Map<String, Object> searchVariables(String searchString, int limit, String cursor) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("query", searchString);
         variables.put("first", limit);
         if (cursor != null && !cursor.isEmpty()) {
             variables.put("after", cursor);
         }
-
-        return executeGraphQL(query, variables).block();
+        return variables;
     }
 
     /**
      * 저장소 활동 정보 조회
      */
-    public Map<String, Object> getRepositoryActivity(String owner, String name, String timeFilter) {
+    public Mono<Map<String, Object>> getRepositoryActivity(String owner, String name, String timeFilter) {
+        return getCached(GitHubResilience.REPOSITORY_ACTIVITY,
+                "activity:" + GitHubCacheManager.repoKey(owner, name) + ":" + timeFilter,
+                () -> fetchRepositoryActivity(owner, name, timeFilter));
+    }
+
+    private Mono<Map<String, Object>> fetchRepositoryActivity(String owner, String name, String timeFilter) {
         String query = """
             query GetRepositoryActivity($owner: String!, $name: String!) {
               repository(owner: $owner, name: $name) {
@@ -228,15 +360,8 @@ public class EcosystemService {
                 defaultBranchRef {
                   target {
                     ... on Commit {
-                      history(first: 100) {
+                      history {
                         totalCount
-                        nodes {
-                          committedDate
-                          author {
-                            name
-                            email
-                          }
-                        }
                       }
                     }
                   }
@@ -249,23 +374,51 @@ public class EcosystemService {
         variables.put("owner", owner);
         variables.put("name", name);
 
-        return executeGraphQL(query, variables).block();
+        // 기간 내 커밋은 페이지를 따라가며 날짜별로 집계 (first: 100 에서 잘리지 않도록)
+        Instant since = getActivitySince(timeFilter);
+
+        return executeGraphQL(GitHubResilience.REPOSITORY_ACTIVITY, query, variables)
+                .zipWith(resilience.protect(GitHubCacheManager.COMMIT_ACTIVITY,
+                        GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH,
+                        historyFetcher.dailyCommits(owner, name, since, null)), (result, history) -> {
+                    List<Map<String, Object>> dailyCommits = new ArrayList<>();
+                    history.getCounts().forEach((date, count) -> dailyCommits.add(Map.of("date", date.toString(), "commits", count)));
+                    result.put("dailyCommits", dailyCommits);
+                    result.put("dailyCommitsTruncated", history.isTruncated()); // 커밋이 너무 많아 일부만 집계
+                    result.put("since", since.toString());
+                    return result;
+                });
     }
 
     /**
      * 컨트리뷰터 통계 조회
      */
-    public Map<String, Object> getContributorStats(String owner, String name, String timeFilter) {
-        // REST API를 사용하여 컨트리뷰터 정보 조회
-        String endpoint = "/" + owner + "/" + name + "/contributors";
-        
-        return executeRestAPI(endpoint).block();
+    public Mono<Map<String, Object>> getContributorStats(String owner, String name, String timeFilter) {
+        // REST API를 사용하여 컨트리뷰터 정보 조회 (ETag 조건부 요청)
+        // 응답은 배열이므로 contributors 키로 감싸서 반환
+        return getCached(GitHubResilience.CONTRIBUTOR_STATS, "contributors:" + GitHubCacheManager.repoKey(owner, name),
+                () -> resilience.protect(GitHubResilience.CONTRIBUTOR_STATS,
+                                GitHubRateLimitGovernor.CORE, GitHubRateLimitGovernor.Priority.HIGH,
+                                restClient.get("/repos/{owner}/{name}/contributors", owner, name))
+                        .map(response -> {
+                            Map<String, Object> result = new HashMap<>();
+                            result.put("contributors", objectMapper.convertValue(response.getBody(), List.class));
+                            return result;
+                        }));
     }
 
     /**
      * 추천 프로젝트 조회
      */
-    public Map<String, Object> getRecommendedProjects(int count, String category) {
+    public Mono<Map<String, Object>> getRecommendedProjects(int count, String category) {
+        return getRecommendedProjects(count, category, GitHubRateLimitGovernor.Priority.HIGH);
+    }
+
+    /**
+     * @param priority 백그라운드 갱신(RecommendationSnapshotService)은 LOW
+     */
+    public Mono<Map<String, Object>> getRecommendedProjects(int count, String category,
+                                                            GitHubRateLimitGovernor.Priority priority) {
         String searchQuery = getRecommendedQuery(category);
         
         String query = """
@@ -313,11 +466,11 @@ public class EcosystemService {
         variables.put("query", searchQuery);
         variables.put("first", count);
 
-        return executeGraphQL(query, variables).block();
+        return executeSearch(query, variables, priority);
     }
 
     // Helper methods
-    private String getDateFilter(String timeFilter) {
+    private static String getDateFilter(String timeFilter) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime since;
         
@@ -350,7 +503,16 @@ public class EcosystemService {
         return ">=" + since.format(DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
-    private String getSortQuery(String sortBy) {
+    // 활동 조회 기간 시작 시각 (필터가 없으면 최근 한 달)
+    private Instant getActivitySince(String timeFilter) {
+        String dateFilter = timeFilter != null ? getDateFilter(timeFilter) : null;
+        LocalDate since = dateFilter != null
+                ? LocalDate.parse(dateFilter.substring(2))
+                : LocalDate.now().minusMonths(1);
+        return since.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static String getSortQuery(String sortBy) {
         switch (sortBy) {
             case "good-first-issues":
                 return "good-first-issues:>0";
@@ -371,7 +533,7 @@ public class EcosystemService {
         }
     }
 
-    private String getSortField(String sortBy) {
+    private static String getSortField(String sortBy) {
         switch (sortBy) {
             case "stars":
                 return "stars";
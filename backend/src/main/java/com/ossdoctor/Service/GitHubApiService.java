@@ -5,29 +5,31 @@ import com.ossdoctor.DTO.*;
 import com.ossdoctor.Entity.*;
 import com.ossdoctor.config.GithubApiProperties;
 import com.ossdoctor.exception.GitHubApiException;
+import com.ossdoctor.util.JsonStreamDecoder;
+import com.ossdoctor.util.ReactiveTtlCache;
+import com.ossdoctor.util.SingleFlight;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,105 +45,28 @@ public class GitHubApiService {
     private final RepositoryService repositoryService;
     private final ActivityService activityService;
     private final ScoreService scoreService;
+    private final GitHubCacheManager cacheManager;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final GitHubTokenPool tokenPool;
+    private final GitHubRestClient restClient;
+    private final GitHubGraphQLClient graphQLClient;
+    private final GitHubRepositoryBatcher repositoryBatcher;
+    private final GitHubCommitHistoryFetcher historyFetcher;
+    private final GitHubConnectionPoolMonitor poolMonitor;
+    private final GitHubResponseStore responseStore;
+    private final GitHubRetryPolicy retryPolicy;
+    private final GitHubResilience resilience;
 
 
     // ========== REST API 사용 메서드 ==========
-    private final ScoreCalculatorService scoreCalculator;
 
-    // Repository 기본 정보 GraphQL Query (databaseId, watcher 추가)
-    private static final String REPOSITORY_QUERY = """
-      query GetRepository($owner: String!, $name: String!) {
-        repository(owner: $owner, name: $name) {
-          databaseId
-          name
-          nameWithOwner
-          description
-          url
-          stargazerCount
-          forkCount
-          diskUsage
-          createdAt
-          updatedAt
-          pushedAt
-          primaryLanguage {
-            name
-          }
-          licenseInfo {
-            name
-            spdxId
-          }
-          repositoryTopics(first: 10) {
-            nodes {
-              topic {
-                name
-              }
-            }
-          }
-          defaultBranchRef {
-            name
-            target {
-              ... on Commit {
-                history(first: 1) {
-                 totalCommit: totalCount
-                 nodes {
-                   committedDate
-                 }
-               }
-              }
-            }
-          }
-          totalPullRequests: pullRequests { totalCount }
-          openPullRequests:  pullRequests(states: [OPEN])   { totalCount }
-          closedPullRequests: pullRequests(states: [CLOSED]){ totalCount }
-          mergedPullRequests: pullRequests(states: [MERGED]){ totalCount }
-
-          totalIssues: issues { totalCount }
-          openIssues:  issues(states: [OPEN])  { totalCount }
-          closedIssues: issues(states: [CLOSED]){ totalCount }
-          languages(first: 10) {
-            edges {
-              size
-              node {
-                name
-              }
-            }
-          }
-          watchers {
-            totalCount
-          }
-        }
-      }
-      """;
-
-    // 특정 시점 이후의 커밋 정보 GraphQL Query
-    private static final String COMMIT_ACTIVITY_QUERY = """
-      query GetCommitActivity($owner: String!, $name: String!, $since: GitTimestamp!) {
-        repository(owner: $owner, name: $name) {
-          defaultBranchRef {
-            target {
-              ... on Commit {
-                history(since: $since, first: 100) {
-                  nodes {
-                    message
-                    committedDate
-                    author {
-                      name
-                      user {
-                        login
-                      }
-                    }
-                  }
-                }
-              }
-            }
-          }
-        }
-      }
-      """;
+    // 같은 저장소에 대한 백그라운드 갱신은 하나만 실행
+    private final SingleFlight<String, RepositoryDTO> inFlightRefreshes = new SingleFlight<>();
 
     // 최근 PR & Issue 정보 GraphQL Query => id 추가, since 삭제(추후 논의)
     private static final String RECENT_ACTIVITIES_QUERY = """
       query GetRecentActivities($owner: String!, $name: String!) {
+        rateLimit { cost limit remaining resetAt }
         repository(owner: $owner, name: $name) {
           databaseId
           pullRequests(first: 20, orderBy: {field: UPDATED_AT, direction: DESC}) {
@@ -176,6 +101,7 @@ public class GitHubApiService {
 
     private static final String FULL_CONTRIBUTIONS_QUERY = """
     query GetFullContributions($login: String!, $since: DateTime!) {
+      rateLimit { cost limit remaining resetAt }
       user(login: $login) {
         login
         contributionsCollection(from: $since) {
@@ -252,59 +178,147 @@ public class GitHubApiService {
     }
     """;
 
+    // 기여 이력 스트리밍 경로
+    private static final String CONTRIBUTIONS_PATH = "data.user.contributionsCollection.";
+    private static final String PR_CONTRIBUTIONS = "pullRequestContributionsByRepository";
+    private static final String ISSUE_CONTRIBUTIONS = "issueContributionsByRepository";
+    private static final String REVIEW_CONTRIBUTIONS = "pullRequestReviewContributionsByRepository";
+
     // =========== 공개 API 메서드 ===========
 
     // Repository 기본 정보 조회
-    // owner_repo 키로 캐시 있나?
-    // 있으면 -> 메서드 본문 실행 X, 저장된 값을 바로 리턴
-    // 없으면 메서드 실행하고, 결과를 캐시에 저장
-    @Cacheable(value = "repositoryInfo", key = "#owner + '_' + #repo")
+    // owner/repo 키로 캐시 있나?
+    // 있으면 -> GitHub 호출 X, 저장된 값을 바로 리턴
+    // 없으면 DB 에 저장된 값의 신선도에 따라 응답 (loadRepositoryInfo), 결과를 캐시에 저장
     public Mono<RepositoryDTO> getRepositoryInfo(String owner, String repo) {
+        return getCached(GitHubCacheManager.REPOSITORY_INFO, GitHubCacheManager.repoKey(owner, repo),
+                () -> loadRepositoryInfo(owner, repo))
+                .doOnNext(dto -> repositoryService.recordView(dto.getGithubRepoId()));
+    }
+
+    // DB 에 저장된 저장소인지 (처음 보는 저장소는 GitHub 에 없을 수도 있음)
+    public Mono<Boolean> isStoredRepository(String owner, String repo) {
+        return Mono.fromCallable(() -> repositoryService.existsByFullNameIgnoreCase(owner, repo))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // DB 에 저장된 저장소 정보 사용 (stale-while-revalidate)
+    // - soft TTL 이내: 저장된 값
+    // - soft TTL ~ hard TTL: 저장된 값으로 바로 응답하고 백그라운드에서 갱신
+    // - hard TTL 초과 또는 저장된 값 없음: GitHub 에서 가져온 뒤 응답
+    private Mono<RepositoryDTO> loadRepositoryInfo(String owner, String repo) {
+        GithubApiProperties.Freshness freshness = properties.getFreshness();
+
+        return Mono.fromCallable(() -> repositoryService.findByFullNameIgnoreCase(owner, repo))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stored -> {
+                    if (stored.isEmpty() || stored.get().getLastFetchedAt() == null) {
+                        return fetchRepositoryInfo(owner, repo, GitHubRateLimitGovernor.Priority.HIGH);
+                    }
+
+                    RepositoryDTO dto = stored.get();
+                    Duration age = Duration.between(dto.getLastFetchedAt(), LocalDateTime.now());
+                    if (age.compareTo(freshness.getHardTtl()) >= 0) {
+                        return fetchRepositoryInfo(owner, repo, GitHubRateLimitGovernor.Priority.HIGH);
+                    }
+                    if (age.compareTo(freshness.getSoftTtl()) >= 0) {
+                        // 사용자는 저장된 값으로 이미 응답받으므로 낮은 우선순위로 갱신
+                        refreshRepositoryInfo(owner, repo, GitHubRateLimitGovernor.Priority.LOW).subscribe(
+                                refreshed -> log.debug("저장소 정보 백그라운드 갱신: {}/{}", owner, repo),
+                                error -> log.warn("저장소 정보 백그라운드 갱신 실패 {}/{}: {}", owner, repo, error.getMessage()));
+                    }
+                    return Mono.just(dto);
+                });
+    }
+
+    /**
+     * GitHub 에서 저장소 정보를 다시 가져와서 DB 와 캐시 갱신
+     * 같은 저장소의 갱신이 진행 중이면 그 결과를 공유
+     * @param priority 백그라운드 갱신은 LOW (한도가 부족하면 리셋까지 미룸)
+     */
+    public Mono<RepositoryDTO> refreshRepositoryInfo(String owner, String repo, GitHubRateLimitGovernor.Priority priority) {
+        String key = GitHubCacheManager.repoKey(owner, repo);
+        return inFlightRefreshes.execute(key, () -> fetchRepositoryInfo(owner, repo, priority)
+                .doOnNext(dto -> cacheManager.<RepositoryDTO>getCache(GitHubCacheManager.REPOSITORY_INFO).put(key, dto)));
+    }
+
+    private Mono<RepositoryDTO> fetchRepositoryInfo(String owner, String repo, GitHubRateLimitGovernor.Priority priority) {
         log.info("Fetching repository info for {}/{}", owner, repo);
 
-        Map<String, Object> variables = Map.of(
-                "owner", owner,
-                "name", repo);
-
-        // GraphQL Query 호출
-        return executeGraphQLQuery(REPOSITORY_QUERY, variables)
-                .map(this::parseRepositoryInfo) // JSON -> DTO
-                .flatMap(dto ->
-                        // contributor 수를 가져와 DTO에 설정
-                        getContributorCount(owner, repo)
-                                .doOnNext(totalContributorCount -> {
-                                    dto.setTotalContributors(totalContributorCount);
-                                    dto.setContributors(Math.min(totalContributorCount, 9));
-                                })
-                                .then(Mono.fromCallable(() -> {
-                                    RepositoryDTO savedDto = repositoryService.findByGithubId(dto.getGithubRepoId())
-                                            .orElseGet(() -> repositoryService.save(dto));
-                                    calculateTotalScore(savedDto);
-                                    return savedDto;
-                                }).subscribeOn(Schedulers.boundedElastic())))
+        // 비슷한 시점의 다른 저장소 조회와 묶어서 GraphQL Query 하나로 호출
+        // 디스크 응답 저장소에 신선한 응답이 있으면 GitHub 호출 없이 사용
+        Mono<RepositoryDTO> repositoryMono = responseStore.cached(
+                        "graphql:repository:" + GitHubCacheManager.repoKey(owner, repo),
+                        cacheManager.ttl(GitHubCacheManager.REPOSITORY_INFO), JsonNode.class,
+                        () -> resilience.protect(GitHubCacheManager.REPOSITORY_INFO,
+                                GitHubRateLimitGovernor.GRAPHQL, priority,
+                                repositoryBatcher.fetch(owner, repo, priority)))
+                .map(this::parseRepositoryInfo); // JSON -> DTO
+
+        // contributor 수는 저장소 정보와 무관하므로 GraphQL 호출과 동시에 조회해서 DTO에 설정
+        return Mono.zip(repositoryMono, getContributorCount(owner, repo, priority))
+                .flatMap(tuple -> {
+                    RepositoryDTO dto = tuple.getT1();
+                    int totalContributorCount = tuple.getT2();
+                    dto.setTotalContributors(totalContributorCount);
+                    dto.setContributors(Math.min(totalContributorCount, 9));
+
+                    // 저장된 행이 있으면 최신 값으로 갱신 (마지막 조회 시각 기록)
+                    return Mono.fromCallable(() -> {
+                        RepositoryDTO savedDto = repositoryService.upsert(dto);
+                        scoreService.getSnapshot(savedDto); // 점수 입력값이 바뀐 경우에만 점수 행 저장
+                        return savedDto;
+                    }).subscribeOn(Schedulers.boundedElastic());
+                })
                 .onErrorMap(this::handleApiError); // 에러 핸들링
     }
 
+    // 여러 저장소 정보를 한 번에 다시 가져와서 DB 와 캐시 갱신 ("owner/repo" 목록, 백그라운드 갱신이므로 LOW)
+    // 배치 최대 크기만큼 동시에 요청해서 저장소 정보 조회가 GraphQL 요청 하나로 묶임, 실패한 저장소는 건너뜀
+    public Flux<RepositoryDTO> refreshRepositoryInfos(Collection<String> fullNames) {
+        return Flux.fromIterable(fullNames)
+                .map(fullName -> fullName.split("/", 2))
+                .filter(parts -> parts.length == 2)
+                .flatMap(parts -> refreshRepositoryInfo(parts[0], parts[1], GitHubRateLimitGovernor.Priority.LOW)
+                        .onErrorResume(e -> {
+                            log.warn("저장소 정보 갱신 실패 {}/{}: {}", parts[0], parts[1], e.getMessage());
+                            return Mono.empty();
+                        }), properties.getBatch().getMaxSize());
+    }
+
     // 커밋 활동 통계 조회 - 최근 30일간 커밋 활동 분석하여 일별 통계 반환
     // 프론트엔드의 차트에서 활용 (통계 일자는 변경 가능)
-    @Cacheable(value = "commitActivity", key = "#owner + '_' + #repo")
     public Mono<List<CommitDTO>> getCommitActivity(String owner, String repo) {
-        // 최근 30일간의 커밋만 요청하기 위한 조건
-        LocalDateTime since = LocalDateTime.now().minusDays(30);
-
-        Map<String, Object> variables = Map.of(
-                "owner", owner,
-                "name", repo,
-                "since", since.format(DateTimeFormatter.ISO_DATE_TIME));
-
-        return executeGraphQLQuery(COMMIT_ACTIVITY_QUERY, variables)
-                .map(this::parseCommitActivity)
+        return getCached(GitHubCacheManager.COMMIT_ACTIVITY, GitHubCacheManager.repoKey(owner, repo),
+                () -> fetchCommitActivity(owner, repo));
+    }
+
+    private Mono<List<CommitDTO>> fetchCommitActivity(String owner, String repo) {
+        // 최근 30일간의 커밋 (100개가 넘으면 다음 페이지까지 조회)
+        // 시작 시각을 날짜 단위로 맞춰서 같은 날의 요청은 같은 쿼리가 되도록 함 (응답 저장소 재사용)
+        Instant since = Instant.now().truncatedTo(ChronoUnit.DAYS).minus(Duration.ofDays(30));
+
+        return resilience.protect(GitHubCacheManager.COMMIT_ACTIVITY,
+                        GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH,
+                        historyFetcher.dailyCommits(owner, repo, since, null))
+                .doOnNext(history -> {
+                    // 차트는 날짜별 개수만 쓰므로 응답 형식은 그대로 두고, 일부만 집계된 경우 기록
+                    if (history.isTruncated()) {
+                        log.warn("커밋 활동 일부만 집계 {}/{}: github.history.max-pages({}) 초과",
+                                owner, repo, properties.getHistory().getMaxPages());
+                    }
+                })
+                .map(history -> toCommitActivity(history.getCounts()))
                 .onErrorMap(this::handleApiError);
     }
 
     // 최근 활동 이력 조회 - 최근 7일간 Pull Request, Issue 등 활동 가져와 프로젝트 최근 동향 파악
-    @Cacheable(value = "recentActivities", key = "#owner + '_' +#repo")
     public Mono<List<ActivityDTO>> getRecentActivities(String owner, String repo) {
+        return getCached(GitHubCacheManager.RECENT_ACTIVITIES, GitHubCacheManager.repoKey(owner, repo),
+                () -> fetchRecentActivities(owner, repo));
+    }
+
+    private Mono<List<ActivityDTO>> fetchRecentActivities(String owner, String repo) {
         // LocalDateTime since = LocalDateTime.now().minusDays(7);
 
         Map<String, Object> variables = Map.of(
@@ -313,7 +327,10 @@ public class GitHubApiService {
                 // "since", since.format(DateTimeFormatter.ISO_DATE_TIME)
         );
 
-        return executeGraphQLQuery(RECENT_ACTIVITIES_QUERY, variables)
+        return resilience.protect(GitHubCacheManager.RECENT_ACTIVITIES,
+                        GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH,
+                        graphQLClient.execute(RECENT_ACTIVITIES_QUERY, variables,
+                                cacheManager.ttl(GitHubCacheManager.RECENT_ACTIVITIES)))
                 .map(this::parseRecentActivities)
                 // ActivityDTO -> PR, Issue 저장(비동기식)
                 .flatMap(result -> activityService.saveActivities(result.getActivities(), result.getRepositoryId()))
@@ -346,58 +363,75 @@ public class GitHubApiService {
                 "since", since.format(DateTimeFormatter.ISO_DATE_TIME)
         );
         
-        return executeGraphQLQuery(FULL_CONTRIBUTIONS_QUERY, variables)
+        // 저장소별 기여 목록을 하나씩 읽어서 바로 DTO로 변환 (응답 전체를 트리로 만들지 않음)
+        Mono<List<ContributionDTO>> contributions = graphQLClient.stream(FULL_CONTRIBUTIONS_QUERY, variables,
+                        CONTRIBUTIONS_PATH + PR_CONTRIBUTIONS + ".*",
+                        CONTRIBUTIONS_PATH + ISSUE_CONTRIBUTIONS + ".*",
+                        CONTRIBUTIONS_PATH + REVIEW_CONTRIBUTIONS + ".*")
                 .doOnError(error -> {
                     log.error("GitHub GraphQL API 호출 실패: {}", error.getMessage());
                 })
-                .flatMap(this::parseContributions)
+                .concatMap(record -> parseContributions(owner, record))
+                .collectList();
+
+        return resilience.protect(GitHubResilience.CONTRIBUTIONS,
+                        GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH, contributions)
                 .doOnError(error -> log.error("GraphQL 응답 파싱 실패: {}", error.getMessage()))
                 .onErrorMap(this::handleApiError);
     }
 
     // ========== REST API 사용 메서드 ==========
     // Contributors 9명 정보 조회
-    @Cacheable(value = "contributors", key = "#owner + '_' + #repo")
     public Mono<List<ContributorDTO>> getContributors(String owner, String repo) {
+        return getCached(GitHubCacheManager.CONTRIBUTORS, GitHubCacheManager.repoKey(owner, repo),
+                () -> fetchContributors(owner, repo));
+    }
+
+    private Mono<List<ContributorDTO>> fetchContributors(String owner, String repo) {
         log.info("Fetching contributors for {}/{}", owner, repo);
 
-        return webClient.get()
-                .uri("/repos/{owner}/{repo}/contributors?per_page=9", owner, repo)
-                .header(HttpHeaders.AUTHORIZATION, "token " + properties.getToken())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                // .doOnNext(jsonNode -> log.info("RESTAPI Response: {}",
-                // jsonNode.toPrettyString()))
+        // ETag 조건부 요청 => 변경 없으면 304 + 저장된 본문 사용
+        return resilience.protect(GitHubCacheManager.CONTRIBUTORS,
+                        GitHubRateLimitGovernor.CORE, GitHubRateLimitGovernor.Priority.HIGH,
+                        restClient.get("/repos/{owner}/{repo}/contributors?per_page=9", owner, repo))
+                .map(GitHubRestClient.StoredResponse::getBody)
                 .map(this::parseContributors)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
+                .retryWhen(retryPolicy.forOperation("contributors"))
                 .onErrorMap(this::handleApiError);
     }
 
     // 언어 분포 정보 조회
-    @Cacheable(value = "languages", key = "#owner + '_' + #repo")
     public Mono<Map<String, Double>> getLanguages(String owner, String repo) {
+        return getCached(GitHubCacheManager.LANGUAGES, GitHubCacheManager.repoKey(owner, repo),
+                () -> fetchLanguages(owner, repo));
+    }
+
+    private Mono<Map<String, Double>> fetchLanguages(String owner, String repo) {
         log.info("Fetching languages for {}/{}", owner, repo);
 
-        return webClient.get()
-                .uri("/repos/{owner}/{repo}/languages", owner, repo)
-                .header(HttpHeaders.AUTHORIZATION, "token " + properties.getToken())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
+        return resilience.protect(GitHubCacheManager.LANGUAGES,
+                        GitHubRateLimitGovernor.CORE, GitHubRateLimitGovernor.Priority.HIGH,
+                        restClient.get("/repos/{owner}/{repo}/languages", owner, repo))
+                .map(GitHubRestClient.StoredResponse::getBody)
                 .map(this::parseLanguages)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
+                .retryWhen(retryPolicy.forOperation("languages"))
                 .onErrorMap(this::handleApiError);
     }
 
     // Contributors 수 조회
-    @Cacheable(value = "contributorCount", key = "#owner + '_' + #repo")
-    public Mono<Integer> getContributorCount(String owner, String repo) {
-        return webClient.get()
-                // 한 페이지에 1명만 응답 => 마지막 페이지 번호 = 전체 contributor 수
-                .uri("/repos/{owner}/{repo}/contributors?per_page=1&anon=true", owner, repo)
-                .header(HttpHeaders.AUTHORIZATION, "token " + properties.getToken())
-                .exchangeToMono(response -> {
-                    HttpHeaders headers = response.headers().asHttpHeaders();
-                    String linkHeader = headers.getFirst("Link"); // Link 헤더(페이징 정보)
+    public Mono<Integer> getContributorCount(String owner, String repo, GitHubRateLimitGovernor.Priority priority) {
+        return getCached(GitHubCacheManager.CONTRIBUTOR_COUNT, GitHubCacheManager.repoKey(owner, repo),
+                () -> fetchContributorCount(owner, repo, priority));
+    }
+
+    private Mono<Integer> fetchContributorCount(String owner, String repo, GitHubRateLimitGovernor.Priority priority) {
+        // 한 페이지에 1명만 응답 => 마지막 페이지 번호 = 전체 contributor 수
+        // Link 헤더도 ETag와 함께 저장되므로 304 응답이어도 계산 가능
+        return resilience.protect(GitHubCacheManager.CONTRIBUTOR_COUNT,
+                        GitHubRateLimitGovernor.CORE, priority,
+                        restClient.get(priority, "/repos/{owner}/{repo}/contributors?per_page=1&anon=true", owner, repo))
+                .map(response -> {
+                    String linkHeader = response.getLink(); // Link 헤더(페이징 정보)
 
                     // rel="last"가 포함 => 어러 페이지 존재
                     if (linkHeader != null && linkHeader.contains("rel=\"last\"")) {
@@ -406,54 +440,44 @@ public class GitHubApiService {
                         if (matcher.find()) {
                             int lastPage = Integer.parseInt(matcher.group(1));
                             log.info("Parsed contributor count from Link header: {}", lastPage);
-                            return Mono.just(lastPage);
+                            return lastPage;
                         }
                     }
 
                     log.info("No Link header found. Defaulting contributor count to 1.");
-                    return Mono.just(1); // Link 헤더 없음 => 1명 이하
+                    return 1; // Link 헤더 없음 => 1명 이하
+                })
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.warn("Contributor count 조회 실패 ({}), 1로 처리: {}/{}", e.getStatusCode(), owner, repo);
+                    return Mono.just(1);
                 });
     }
 
-    // API 상태 확인
+    // 캐시 조회 (GitHub 장애로 실패하면 만료된 캐시 값이라도 응답)
+    private <V> Mono<V> getCached(String cacheName, String key, Supplier<Mono<V>> loader) {
+        ReactiveTtlCache<String, V> cache = cacheManager.getCache(cacheName);
+        return resilience.withFallback(cacheName, cache.get(key, loader), () -> cache.getStale(key));
+    }
+
+    // API 상태 확인 - 토큰 풀의 토큰마다 /rate_limit 조회 (한도를 소모하지 않음)
     public Mono<ApiStatusDTO> getApiStatus() {
-        return webClient.get()
-                .uri("/rate_limit")
-                .header(HttpHeaders.AUTHORIZATION, "token " + properties.getToken())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .doOnNext(json -> log.info("GitHub API rate_limit response: {}", json.toPrettyString()))
-                .map(this::parseApiStatus)
-                .onErrorReturn(ApiStatusDTO.builder()
-                        .tokenValid(false)
-                        .error("API unavailable")
-                        .build());
+        return Flux.fromIterable(tokenPool.getSlots())
+                .flatMap(slot -> resilience.timed(GitHubResilience.RATE_LIMIT, webClient.get()
+                                .uri("/rate_limit")
+                                .attribute(GitHubRateLimitGovernor.TOKEN_ATTRIBUTE, slot.getId())
+                                .retrieve()
+                                .bodyToMono(JsonNode.class))
+                        .doOnNext(json -> log.info("GitHub API rate_limit response ({}): {}", slot.getId(), json.path("resources").path("core")))
+                        .doOnNext(json -> rateLimitGovernor.sync(slot, json.path("resources")))
+                        .map(json -> true)
+                        .onErrorReturn(false))
+                .collectList()
+                .map(results -> buildApiStatus(results.contains(true)));
     }
 
     // ========== 내부 유틸리티 메서드들 ==========
-    // Webclient 사용해서 GraphQL Query를 비동기로 호출하는 메서드
-    private Mono<JsonNode> executeGraphQLQuery(String query, Map<String, Object> variables) {
-        // GraphQL Json 형식
-        Map<String, Object> body = Map.of(
-                "query", query,
-                "variables", variables);
-
-        return webClient.post() // post 방식으로 요청
-                .uri(properties.getApi().getGraphqlUrl()) // 요청할 URL
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getToken())
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(body)
-                .retrieve() // 서버 응답 가져옴
-                .bodyToMono(JsonNode.class)
-                .timeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds()))
-                // 요청이 실패했을 때 어떻게 재시도할지, Retry.backoff(재시도횟수, 최초대기시간)
-                .retryWhen(Retry.backoff(properties.getApi().getRateLimitMaxRetries(), Duration.ofSeconds(1))
-                    .doBeforeRetry(retrySignal -> log.warn("GraphQL 재시도 시도 #{}: {}", 
-                        retrySignal.totalRetries() + 1, retrySignal.failure().getMessage())));
-    }
-
-    // Repository 정보 파싱
-    private RepositoryDTO parseRepositoryInfo(JsonNode response) {
+    // Repository 정보 파싱 (벤치마크에서 호출하므로 package-private)
+    RepositoryDTO parseRepositoryInfo(JsonNode response) {
         if (response.has("errors")) { // 응답에 errors 필드가 있으면 호출 실패
             throw new GitHubApiException("GraphQL Error: " + response.get("errors").toString());
         }
@@ -541,33 +565,20 @@ public class GitHubApiService {
                 .build();
     }
 
-    // 커밋 활동 파싱
-    public List<CommitDTO> parseCommitActivity(JsonNode response) {
-        // defaultBranchRef.target.history.nodes : 기본 브랜치 기준의 커밋 목록
-        JsonNode commits = response.path("data").path("repository")
-                .path("defaultBranchRef").path("target").path("history").path("nodes");
-
-        // 날짜별 커밋 수
-        Map<String, Integer> dailyCommits = new HashMap<>();
-
-        // "yyyy-MM-dd" 형식으로 추출 + 날짜별 커밋 수 누적
-        for (JsonNode commit : commits) {
-            String date = commit.path("committedDate").asText().substring(0, 10);
-            dailyCommits.merge(date, 1, Integer::sum);
-        }
-
+    // 날짜별 커밋 수 -> CommitDTO 목록
+    public List<CommitDTO> toCommitActivity(SortedMap<LocalDate, Integer> dailyCommits) {
+        // 날짜 순으로 정렬된 상태
         return dailyCommits.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey()) // 오래된 순으로 정렬
                 .map(entry -> CommitDTO.builder()
-                        .date(entry.getKey())
+                        .date(entry.getKey().toString())
                         .commits(entry.getValue())
-                        .day(getDayOfWeek(entry.getKey()))
+                        .day(getDayOfWeek(entry.getKey().toString()))
                         .build())
                 .collect(Collectors.toList());
     }
 
     // 최근 활동 파싱
-    private ActivitiesWithRepoId parseRecentActivities(JsonNode response) {
+    ActivitiesWithRepoId parseRecentActivities(JsonNode response) {
         List<ActivityDTO> activities = new ArrayList<>();
         JsonNode repository = response.path("data").path("repository");
         Long repoId = repository.path("databaseId").asLong();
@@ -617,31 +628,15 @@ public class GitHubApiService {
     }
 
     // 기여 파싱
-    public Mono<List<ContributionDTO>> parseContributions(JsonNode response) {
-        JsonNode userNode = response.path("data").path("user");
-        String userLogin = userNode.path("login").asText();
-        JsonNode contributionsCollection = userNode.path("contributionsCollection");
-
-        Mono<List<ContributionDTO>> prMono = Flux.fromIterable(contributionsCollection.path("pullRequestContributionsByRepository"))
-                .flatMap(repoNode -> parsePrNodes(userLogin, repoNode))
-                .collectList();
-
-        Mono<List<ContributionDTO>> issueMono = Flux.fromIterable(contributionsCollection.path("issueContributionsByRepository"))
-                .flatMap(repoNode -> parseIssueNodes(userLogin, repoNode))
-                .collectList();
-
-        Mono<List<ContributionDTO>> reviewMono = Flux.fromIterable(contributionsCollection.path("pullRequestReviewContributionsByRepository"))
-                .flatMap(repoNode -> parseReviewNodes(userLogin, repoNode))
-                .collectList();
-
-        return Mono.zip(prMono, issueMono, reviewMono)
-                .map(tuple -> {
-                    List<ContributionDTO> all = new ArrayList<>();
-                    all.addAll(tuple.getT1());
-                    all.addAll(tuple.getT2());
-                    all.addAll(tuple.getT3());
-                    return all;
-                });
+    public Flux<ContributionDTO> parseContributions(String userLogin, JsonStreamDecoder.Record record) {
+        // data.user.contributionsCollection.{종류}ByRepository.* => 저장소 하나의 기여 목록
+        JsonNode repoNode = record.asTree();
+        return switch (record.segment(3)) {
+            case PR_CONTRIBUTIONS -> parsePrNodes(userLogin, repoNode);
+            case ISSUE_CONTRIBUTIONS -> parseIssueNodes(userLogin, repoNode);
+            case REVIEW_CONTRIBUTIONS -> parseReviewNodes(userLogin, repoNode);
+            default -> Flux.empty();
+        };
     }
 
     // 기여 파싱 공통 함수
@@ -658,7 +653,7 @@ public class GitHubApiService {
         JsonNode repo = repoNode.path("repository");
         String owner = repo.path("owner").path("login").asText();
         String repoName = owner + "/" + repo.path("name").asText();
-        if (owner.equals(userLogin)) return Flux.empty(); // 사용자의 저장소인지 확인
+        if (owner.equalsIgnoreCase(userLogin)) return Flux.empty(); // 사용자의 저장소인지 확인
 
         return Flux.fromIterable(repoNode.path("contributions").path("nodes"))
                 .flatMap(node -> {
@@ -782,18 +777,20 @@ public class GitHubApiService {
         return languages;
     }
 
-    // API 상태 파싱
-    private ApiStatusDTO parseApiStatus(JsonNode response) {
-        JsonNode coreLimit = response.path("resources").path("core");
+    // API 상태 구성 (rateLimit은 전체 토큰의 core 한도 합계)
+    private ApiStatusDTO buildApiStatus(boolean anyTokenValid) {
+        Map<String, RateLimitDTO> resources = rateLimitGovernor.snapshot();
 
         return ApiStatusDTO.builder()
-                .tokenValid(true)
-                .rateLimit(RateLimitDTO.builder()
-                        .limit(coreLimit.path("limit").asInt())
-                        .used(coreLimit.path("used").asInt())
-                        .remaining(coreLimit.path("remaining").asInt())
-                        .resetAt(coreLimit.path("reset").asText())
-                        .build())
+                .tokenValid(anyTokenValid)
+                .rateLimit(resources.get(GitHubRateLimitGovernor.CORE))
+                .resources(resources)
+                .tokens(rateLimitGovernor.tokenStatuses())
+                .queuedRequests(rateLimitGovernor.getQueuedCount())
+                .connectionPools(poolMonitor.snapshot())
+                .retries(retryPolicy.snapshot())
+                .circuitBreakers(resilience.snapshot())
+                .error(anyTokenValid ? null : "API unavailable")
                 .build();
     }
 
@@ -803,7 +800,7 @@ public class GitHubApiService {
         if (repo_dto == null) {
             throw new RuntimeException("Repository not found: " + owner + "/" + repo);
         }
-        return calculateTotalScore(repo_dto);
+        return scoreService.getSnapshot(repo_dto).toDTO(SCORE_TYPE.TOTAL);
     }
 
     // 저장소의 건강 점수만 조회
@@ -812,7 +809,7 @@ public class GitHubApiService {
         if (repo_dto == null) {
             throw new RuntimeException("Repository not found: " + owner + "/" + repo);
         }
-        return calculateHealthScore(repo_dto);
+        return scoreService.getSnapshot(repo_dto).toDTO(SCORE_TYPE.HEALTH);
     }
 
     // 저장소의 소셜 점수만 조회
@@ -821,113 +818,30 @@ public class GitHubApiService {
         if (repo_dto == null) {
             throw new RuntimeException("Repository not found: " + owner + "/" + repo);
         }
-        return calculateSocialScore(repo_dto);
+        return scoreService.getSnapshot(repo_dto).toDTO(SCORE_TYPE.SOCIAL);
     }
 
-    // 저장소의 모든 점수 정보 조회
+    // 저장소의 모든 점수 정보 조회 (저장소 상태가 그대로면 마지막 스냅샷으로 응답, 점수 행을 새로 쓰지 않음)
     public Map<String, Object> getAllScores(String owner, String repo) {
         RepositoryDTO repo_dto = repositoryService.findByFullName(owner, repo);
         if (repo_dto == null) {
             throw new RuntimeException("Repository not found: " + owner + "/" + repo);
         }
 
-        ScoreDTO healthScore = calculateHealthScore(repo_dto);
-        ScoreDTO socialScore = calculateSocialScore(repo_dto);
-        ScoreDTO totalScore = calculateTotalScore(repo_dto);
+        ScoreService.Snapshot snapshot = scoreService.getSnapshot(repo_dto);
 
         Map<String, Object> scores = new HashMap<>();
-        scores.put("healthScore", healthScore.getScore());
-        scores.put("socialScore", socialScore.getScore());
-        scores.put("totalScore", totalScore.getScore());
+        scores.put("healthScore", snapshot.getHealthScore());
+        scores.put("socialScore", snapshot.getSocialScore());
+        scores.put("totalScore", snapshot.getTotalScore());
 
         // 점수별 세부 정보
-        scores.put("healthDetails", getHealthScoreDetails(repo_dto));
-        scores.put("socialDetails", getSocialScoreDetails(repo_dto));
+        scores.put("healthDetails", snapshot.getHealthDetails());
+        scores.put("socialDetails", snapshot.getSocialDetails());
 
         return scores;
     }
 
-    // 건강 점수 세부 정보
-    private Map<String, Integer> getHealthScoreDetails(RepositoryDTO repo) {
-        Map<String, Integer> details = new HashMap<>();
-        details.put("commitScore", scoreCalculator.calculateCommitScore(repo.getTotalCommits()));
-        details.put("updateScore", scoreCalculator.calculateUpdateScore(repo.getLastUpdatedAt()));
-        details.put("prScore", scoreCalculator.calculatePRScore(repo.getMergedPullRequests()));
-        details.put("issueScore", scoreCalculator.calculateIssueScore(repo.getClosedIssues()));
-        return details;
-    }
-
-    // 소셜 점수 세부 정보
-    private Map<String, Integer> getSocialScoreDetails(RepositoryDTO repo) {
-        Map<String, Integer> details = new HashMap<>();
-        details.put("starScore", scoreCalculator.calculateStarScore(repo.getStar()));
-        details.put("forkScore", scoreCalculator.calculateForkScore(repo.getFork()));
-        details.put("watcherScore", scoreCalculator.calculateWatcherScore(repo.getWatchers()));
-        details.put("contributorScore", scoreCalculator.calculateContributorScore(repo.getTotalContributors())); // 총 기여자 수 사용
-        return details;
-    }
-
-    // 건강 점수 계산 최종
-    private ScoreDTO calculateHealthScore(RepositoryDTO repo) {
-
-        int commitScore = scoreCalculator.calculateCommitScore(repo.getTotalCommits());
-        int updateScore = scoreCalculator.calculateUpdateScore(repo.getLastUpdatedAt());
-        int prScore = scoreCalculator.calculatePRScore(repo.getMergedPullRequests());
-        int issueScore = scoreCalculator.calculateIssueScore(repo.getClosedIssues());
-
-        log.info("repo: " + repo.getName());
-
-        int healthScore = commitScore + updateScore + prScore + issueScore;
-
-        return scoreService.save(ScoreDTO.builder()
-                .repositoryId(repo.getIdx())
-                .scoreType(SCORE_TYPE.HEALTH)
-                .score(healthScore)
-                .build());
-    }
-
-    // 소셜 점수 계산 최종
-    private ScoreDTO calculateSocialScore(RepositoryDTO repo) {
-
-        int star = repo.getStar();
-        int fork = repo.getFork();
-        int watchers = repo.getWatchers();
-        int totalContributors = repo.getTotalContributors(); // 총 기여자 수 사용
-
-        int starScore = scoreCalculator.calculateStarScore(star);
-        int forkScore = scoreCalculator.calculateForkScore(fork);
-        int watcherScore = scoreCalculator.calculateWatcherScore(watchers);
-        int contributorScore = scoreCalculator.calculateContributorScore(totalContributors); // 총 기여자 수로 점수 계산
-
-        log.info("repo: " + repo.getName());
-
-        int socialScore = starScore + forkScore + watcherScore + contributorScore;
-
-        return scoreService.save(ScoreDTO.builder()
-                .repositoryId(repo.getIdx())
-                .scoreType(SCORE_TYPE.SOCIAL)
-                .score(socialScore)
-                .build());
-    }
-
-    // 종합 점수 계산
-    private ScoreDTO calculateTotalScore(RepositoryDTO repo) {
-
-        int healthScore = calculateHealthScore(repo).getScore() * 5;
-        int socialScore = calculateSocialScore(repo).getScore() * 2;
-
-        log.info("repo: " + repo.getName());
-
-        // 최종 점수는 반올림
-        int totalScore = (healthScore + socialScore) / 10;
-
-        return scoreService.save(ScoreDTO.builder()
-                .repositoryId(repo.getIdx())
-                .scoreType(SCORE_TYPE.TOTAL)
-                .score(totalScore)
-                .build());
-    }
-
     // ========== 유틸리티 메서드들 ==========
 
     /*// 날짜 계산
@@ -967,6 +881,11 @@ public class GitHubApiService {
 
     // GitHub Api 예외 처리
     private GitHubApiException handleApiError(Throwable throwable) {
+        // 이미 분류된 예외 (서킷 브레이커 차단 등)는 그대로 전달
+        if (throwable instanceof GitHubApiException gitHubApiException) {
+            return gitHubApiException;
+        }
+
         // WebClientResponseException : HTTP 결과 4xx or 5xx
         if (throwable instanceof WebClientResponseException webClientResponseException) {
             // 응답의 상태코드(400, 401, ...)를 HttpStatus 타입(BAD_REQUEST, UNAUTHORIZED, ...)으로 추출
@@ -974,7 +893,7 @@ public class GitHubApiService {
 
             return switch (status) {
                 case UNAUTHORIZED -> new GitHubApiException("GitHub Token이 유효하지 않습니다", throwable);
-                case FORBIDDEN -> new GitHubApiException("API 요청 한도를 초과했거나 권한이 부족합니다", throwable);
+                case FORBIDDEN, TOO_MANY_REQUESTS -> new GitHubApiException("API 요청 한도를 초과했거나 권한이 부족합니다", throwable);
                 case NOT_FOUND -> new GitHubApiException("Repository를 찾을 수 없습니다", throwable);
                 default -> new GitHubApiException("GitHub API 오류: " + status, throwable);
             };
@@ -0,0 +1,77 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.ReactiveTtlCache;
+import com.ossdoctor.util.ReactiveTtlCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub API 조회 결과 캐시 관리
+ * 캐시 이름별로 ReactiveTtlCache를 만들어 두고 통계를 모아서 제공 (만들 때 cache.* 메트릭도 등록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubCacheManager {
+
+    public static final String REPOSITORY_INFO = "repositoryInfo";
+    public static final String COMMIT_ACTIVITY = "commitActivity";
+    public static final String RECENT_ACTIVITIES = "recentActivities";
+    public static final String CONTRIBUTORS = "contributors";
+    public static final String LANGUAGES = "languages";
+    public static final String CONTRIBUTOR_COUNT = "contributorCount";
+    public static final String ECOSYSTEM = "ecosystem";
+    public static final String SEARCH = "search";
+    public static final String WEBHOOK_DELIVERIES = "webhookDeliveries";
+
+    private final GithubApiProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ReactiveTtlCache<String, ?>> caches = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <V> ReactiveTtlCache<String, V> getCache(String name) {
+        return (ReactiveTtlCache<String, V>) caches.computeIfAbsent(name, this::createCache);
+    }
+
+    // 캐시 이름 => 통계
+    public Map<String, ReactiveTtlCache.Stats> getStats() {
+        Map<String, ReactiveTtlCache.Stats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(ReactiveTtlCache::invalidateAll);
+    }
+
+    // owner/repo 캐시 키 (GitHub은 대소문자를 구분하지 않음)
+    public static String repoKey(String owner, String repo) {
+        return owner.toLowerCase(Locale.ROOT) + "/" + repo.toLowerCase(Locale.ROOT);
+    }
+
+    // 캐시 이름별 TTL (디스크 응답 저장소의 신선도 기준으로도 사용)
+    public Duration ttl(String name) {
+        return Duration.ofMinutes(properties.getCache().getTtlMinutes()
+                .getOrDefault(name, properties.getApi().getCacheExpiryMinutes()));
+    }
+
+    private ReactiveTtlCache<String, ?> createCache(String name) {
+        Duration ttl = ttl(name);
+        int maxEntries = properties.getCache().getMaxEntries();
+
+        log.info("Creating cache '{}' (ttl={}m, maxEntries={})", name, ttl.toMinutes(), maxEntries);
+        ReactiveTtlCache<String, ?> cache = new ReactiveTtlCache<>(name, maxEntries, ttl);
+        ReactiveTtlCacheMetrics.monitor(meterRegistry, cache);
+        return cache;
+    }
+}
@@ -0,0 +1,155 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기본 브랜치 커밋 이력 조회 (커서 페이지네이션)
+ * - history(first: 100) 한 번으로는 100개 이후 커밋이 잘려서 pageInfo.endCursor 를 따라 끝까지 조회
+ * - 다음 페이지는 현재 페이지를 집계하는 동안 미리 요청 (동시에 최대 1페이지만 요청 중)
+ * - 커밋은 날짜별 개수로만 누적하므로 메모리는 커밋 수가 아니라 기간(일수)에 비례
+ * - 한 번에 조회할 최대 페이지 수는 github.history.max-pages 로 제한 (넘으면 다음 페이지를 요청하지 않고 truncated 로 표시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubCommitHistoryFetcher {
+
+    // 날짜 집계에 필요한 committedDate 만 요청
+    private static final String COMMIT_HISTORY_QUERY = """
+      query GetCommitHistory($owner: String!, $name: String!, $since: GitTimestamp!, $until: GitTimestamp, $first: Int!, $after: String) {
+        rateLimit { cost limit remaining resetAt }
+        repository(owner: $owner, name: $name) {
+          defaultBranchRef {
+            target {
+              ... on Commit {
+                history(since: $since, until: $until, first: $first, after: $after) {
+                  totalCount
+                  pageInfo {
+                    hasNextPage
+                    endCursor
+                  }
+                  nodes {
+                    committedDate
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+      """;
+
+    private final GitHubGraphQLClient graphQLClient;
+    private final GithubApiProperties properties;
+    private final GitHubCacheManager cacheManager;
+
+    /**
+     * 기간 내 날짜별 커밋 수 (오래된 날짜 순)
+     * @param until null 이면 현재까지
+     */
+    public Mono<DailyCommits> dailyCommits(String owner, String repo, Instant since, Instant until) {
+        return Mono.defer(() -> {
+            SortedMap<LocalDate, Integer> counts = new TreeMap<>();
+            AtomicBoolean truncated = new AtomicBoolean();
+            return pages(owner, repo, since, until)
+                    .doOnNext(history -> {
+                        toDates(history.path("nodes")).forEach(date -> counts.merge(date, 1, Integer::sum));
+                        // 마지막으로 받은 페이지에 다음 페이지가 남아 있으면 max-pages 에서 멈춘 것
+                        truncated.set(history.path("pageInfo").path("hasNextPage").asBoolean(false));
+                    })
+                    .then(Mono.fromSupplier(() -> new DailyCommits(counts, truncated.get())));
+        });
+    }
+
+    /**
+     * 기간 내 커밋 이력 페이지 (최신 커밋부터, 최대 max-pages 페이지)
+     */
+    private Flux<JsonNode> pages(String owner, String repo, Instant since, Instant until) {
+        int maxPages = properties.getHistory().getMaxPages();
+
+        return Flux.defer(() -> {
+            AtomicInteger fetched = new AtomicInteger(1);
+            return fetchPage(owner, repo, since, until, null)
+                    // 다음 페이지가 있으면 endCursor 로 이어서 조회 (max-pages 에 도달하면 더 요청하지 않음)
+                    .expand(history -> {
+                        JsonNode pageInfo = history.path("pageInfo");
+                        if (!pageInfo.path("hasNextPage").asBoolean(false)) {
+                            return Mono.empty();
+                        }
+                        if (fetched.getAndIncrement() >= maxPages) {
+                            log.debug("{}/{} 커밋 이력이 {}페이지를 넘어 일부만 집계 (전체 {}건)",
+                                    owner, repo, maxPages, history.path("totalCount").asInt());
+                            return Mono.empty();
+                        }
+                        return fetchPage(owner, repo, since, until, pageInfo.path("endCursor").asText());
+                    });
+        });
+    }
+
+    // 커밋 이력 한 페이지 조회 => history 노드 (기본 브랜치가 없으면 빈 노드)
+    // errors 와 함께 repository 가 비어 있으면 (저장소 없음, 권한 없음 등) 빈 이력이 아니라 에러
+    private Mono<JsonNode> fetchPage(String owner, String repo, Instant since, Instant until, String after) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", owner);
+        variables.put("name", repo);
+        variables.put("since", since.toString());
+        variables.put("first", properties.getHistory().getPageSize());
+        if (until != null) {
+            variables.put("until", until.toString());
+        }
+        if (after != null) {
+            variables.put("after", after);
+        }
+
+        // 같은 기간, 같은 커서의 페이지는 디스크 응답 저장소에서 재사용
+        return graphQLClient.execute(COMMIT_HISTORY_QUERY, variables,
+                        cacheManager.ttl(GitHubCacheManager.COMMIT_ACTIVITY))
+                .handle((response, sink) -> {
+                    JsonNode repository = response.path("data").path("repository");
+                    if (response.has("errors") && (repository.isMissingNode() || repository.isNull())) {
+                        sink.error(new GitHubApiException("GraphQL Error: " + response.get("errors").toString()));
+                        return;
+                    }
+                    sink.next(repository.path("defaultBranchRef").path("target").path("history"));
+                });
+    }
+
+    // committedDate 의 "yyyy-MM-dd" 부분만 추출
+    static List<LocalDate> toDates(JsonNode nodes) {
+        List<LocalDate> dates = new ArrayList<>(nodes.size());
+        for (JsonNode commit : nodes) {
+            String committedDate = commit.path("committedDate").asText();
+            if (committedDate.length() >= 10) {
+                dates.add(LocalDate.parse(committedDate.substring(0, 10)));
+            }
+        }
+        return dates;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DailyCommits {
+        private final SortedMap<LocalDate, Integer> counts;
+        private final boolean truncated; // max-pages 에서 멈춰서 기간 내 커밋 일부만 집계됨
+    }
+}
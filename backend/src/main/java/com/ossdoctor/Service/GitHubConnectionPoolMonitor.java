@@ -0,0 +1,60 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.DTO.ConnectionPoolDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub 연결 풀 상태 수집
+ * Reactor Netty 가 원격 주소별로 풀을 만들 때 등록하는 ConnectionPoolMetrics 를 보관해서
+ * 사용 중 / 유휴 / 대기 연결 수를 조회할 수 있게 함
+ */
+@Slf4j
+@Component
+public class GitHubConnectionPoolMonitor implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, Registration> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        log.info("GitHub 연결 풀 생성: {} -> {}", poolName, remoteAddress);
+        pools.put(id, new Registration(poolName, String.valueOf(remoteAddress), metrics));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id);
+    }
+
+    public List<ConnectionPoolDTO> snapshot() {
+        return pools.values().stream()
+                .map(pool -> ConnectionPoolDTO.builder()
+                        .name(pool.getName())
+                        .remoteAddress(pool.getRemoteAddress())
+                        .active(pool.getMetrics().acquiredSize())
+                        .idle(pool.getMetrics().idleSize())
+                        .pending(pool.getMetrics().pendingAcquireSize())
+                        .allocated(pool.getMetrics().allocatedSize())
+                        .maxConnections(pool.getMetrics().maxAllocatedSize())
+                        .maxPending(pool.getMetrics().maxPendingAcquireSize())
+                        .build())
+                .toList();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Registration {
+        private final String name;
+        private final String remoteAddress;
+        private final ConnectionPoolMetrics metrics;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.JsonStreamDecoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GitHub GraphQL API 호출
+ * GitHubApiService, GitHubRepositoryBatcher, EcosystemService 가 공통으로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubGraphQLClient {
+
+    private final WebClient webClient;
+    private final GithubApiProperties properties;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final ObjectMapper objectMapper;
+    private final GitHubResponseStore responseStore;
+    private final GitHubRetryPolicy retryPolicy;
+
+    private static final String RATE_LIMIT_PATH = "data.rateLimit";
+
+    // Webclient 사용해서 GraphQL Query를 비동기로 호출하는 메서드
+    public Mono<JsonNode> execute(String query, Map<String, Object> variables) {
+        // GraphQL Json 형식
+        Map<String, Object> body = Map.of(
+                "query", query,
+                "variables", variables);
+
+        // 한도 대기는 타임아웃 밖에서 먼저 끝내고, 타임아웃은 실제 요청에만 적용
+        return rateLimitGovernor.acquire(GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.Priority.HIGH)
+                .flatMap(slot -> webClient.post() // post 방식으로 요청
+                        .uri(properties.getApi().getGraphqlUrl()) // 요청할 URL
+                        .attribute(GitHubRateLimitGovernor.SLOT_ATTRIBUTE, slot)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve() // 서버 응답 가져옴
+                        .bodyToMono(JsonNode.class)
+                        .doOnNext(rateLimitGovernor::recordGraphQLCost) // 쿼리 비용 기록
+                        .timeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds())))
+                // 일시적인 실패만 재시도 (401, 404, 422 등은 바로 실패), 재시도마다 한도를 다시 확인
+                .retryWhen(retryPolicy.forOperation("graphql"));
+    }
+
+    /**
+     * 디스크 응답 저장소에 maxAge 이내의 같은 요청(쿼리 + 변수) 응답이 있으면 네트워크 없이 사용
+     */
+    public Mono<JsonNode> execute(String query, Map<String, Object> variables, Duration maxAge) {
+        if (!responseStore.isEnabled()) {
+            return execute(query, variables);
+        }
+        return responseStore.cached(responseStore.graphQLKey(query, variables), maxAge, JsonNode.class,
+                () -> execute(query, variables));
+    }
+
+    /**
+     * 응답 전체를 JsonNode 로 만들지 않고, 지정한 경로의 값만 레코드로 하나씩 전달
+     * 결과가 큰 쿼리(기여 이력, 검색, 저장소 배치 조회)용
+     * @param paths 꺼낼 값의 경로 (예: "data.search.nodes.*", "errors.*")
+     */
+    public Flux<JsonStreamDecoder.Record> stream(String query, Map<String, Object> variables, String... paths) {
+        return stream(query, variables, GitHubRateLimitGovernor.Priority.HIGH, paths);
+    }
+
+    /**
+     * @param priority 한도가 부족할 때의 우선순위 (미리 가져오기 등 백그라운드 요청은 LOW)
+     */
+    public Flux<JsonStreamDecoder.Record> stream(String query, Map<String, Object> variables,
+                                                 GitHubRateLimitGovernor.Priority priority, String... paths) {
+        List<String> decodePaths = new ArrayList<>(List.of(paths));
+        decodePaths.add(RATE_LIMIT_PATH);
+        JsonStreamDecoder decoder = new JsonStreamDecoder(objectMapper, decodePaths);
+
+        Map<String, Object> body = Map.of(
+                "query", query,
+                "variables", variables);
+
+        return Flux.defer(() -> {
+            // 레코드를 하나라도 전달한 뒤에는 재시도하면 중복되므로 첫 레코드 전까지만 재시도
+            AtomicBoolean emitted = new AtomicBoolean();
+            // 낮은 우선순위 요청은 리셋까지 기다릴 수 있으므로 한도 대기를 타임아웃 밖에서 먼저 처리
+            return rateLimitGovernor.acquire(GitHubRateLimitGovernor.GRAPHQL, priority)
+                    .flatMapMany(slot -> webClient.post()
+                            .uri(properties.getApi().getGraphqlUrl())
+                            .attribute(GitHubRateLimitGovernor.SLOT_ATTRIBUTE, slot)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(body)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class) // 버퍼 크기 제한(maxInMemorySize) 없이 받은 만큼 처리
+                            .as(decoder::decode)
+                            .filter(record -> {
+                                if (record.isUnder("data", "rateLimit")) {
+                                    rateLimitGovernor.recordGraphQLRateLimit(record.asTree());
+                                    return false;
+                                }
+                                return true;
+                            })
+                            .doOnNext(record -> emitted.set(true))
+                            .timeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds())))
+                    .retryWhen(retryPolicy.forOperation("graphql-stream", error -> !emitted.get()));
+        });
+    }
+}
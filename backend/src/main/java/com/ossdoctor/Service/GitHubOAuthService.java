@@ -8,6 +8,8 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import com.ossdoctor.config.GithubApiProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
@@ -21,8 +23,13 @@ import java.util.List;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GitHubOAuthService {
 
+    // 공유 RestTemplate (WebClientConfig), 요청마다 새로 만들지 않음
+    private final RestTemplate restTemplate;
+    private final GithubApiProperties properties;
+
     // GitHub OAuth 설정값 주입
     @Value("${spring.security.oauth2.client.registration.github.client-id}")
     private String clientId;
@@ -39,8 +46,6 @@ public class GitHubOAuthService {
 
     // GitHub access token 요청
     public String getAccessToken(String code) throws Exception {
-        RestTemplate restTemplate = new RestTemplate();
-
         // 요청 파라미터 설정
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("client_id", clientId);
@@ -74,8 +79,6 @@ public class GitHubOAuthService {
 
     // GitHub API로 사용자 정보 조회
     public JSONObject getUserInfo(String accessToken) throws Exception {
-        RestTemplate restTemplate = new RestTemplate();
-
         // GitHub API 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.set("Accept", "application/vnd.github+json");
@@ -86,7 +89,7 @@ public class GitHubOAuthService {
 
         // GitHub API로 사용자 정보 요청
         ResponseEntity<String> response = restTemplate.exchange(
-                "https://api.github.com/user", HttpMethod.GET, request, String.class);
+                properties.getApi().getBaseUrl() + "/user", HttpMethod.GET, request, String.class);
 
         String responseBody = response.getBody();
         JSONObject userJson = new JSONObject(responseBody);
@@ -0,0 +1,325 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ossdoctor.DTO.RateLimitDTO;
+import com.ossdoctor.DTO.TokenStatusDTO;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import com.ossdoctor.util.RateLimitBudget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub API 호출 한도 관리
+ * - 응답 헤더(X-RateLimit-*)로 토큰별, 리소스별 남은 한도를 추적
+ * - 요청마다 남은 한도가 가장 많은 토큰을 골라 Authorization 헤더를 붙임
+ * - 한도가 적으면 리셋 시각까지 요청 간격을 벌리고, 낮은 우선순위 요청은 리셋까지 대기
+ * - 모든 토큰의 한도가 없으면 사용자 요청은 바로 실패 (maxWaitSeconds 이내에 리셋되면 대기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubRateLimitGovernor {
+
+    public static final String CORE = "core";
+    public static final String GRAPHQL = "graphql";
+    public static final String SEARCH = "search";
+
+    // WebClient 요청 속성으로 우선순위 지정 (.attribute(PRIORITY_ATTRIBUTE, Priority.LOW))
+    public static final String PRIORITY_ATTRIBUTE = GitHubRateLimitGovernor.class.getName() + ".priority";
+
+    // WebClient 요청 속성으로 특정 토큰 지정 (토큰별 /rate_limit 조회 등)
+    public static final String TOKEN_ATTRIBUTE = GitHubRateLimitGovernor.class.getName() + ".token";
+
+    // WebClient 요청 속성으로 acquire 로 미리 받은 토큰 지정 (필터에서 다시 대기하지 않음)
+    // 한도 대기를 요청 타임아웃 밖에서 끝내야 하는 호출용 (GitHubGraphQLClient)
+    public static final String SLOT_ATTRIBUTE = GitHubRateLimitGovernor.class.getName() + ".slot";
+
+    public enum Priority {
+        HIGH, // 사용자 요청
+        LOW   // 백그라운드 갱신, 미리 가져오기 등
+    }
+
+    private final GithubApiProperties properties;
+    private final GitHubTokenPool tokenPool;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger lastGraphQLCost = new AtomicInteger();
+    private final AtomicLong totalGraphQLCost = new AtomicLong();
+
+    /**
+     * 요청을 보내기 전에 토큰을 고르고 한도를 확인해서 필요한 만큼 대기
+     * @return 이 요청에 사용할 토큰
+     */
+    public Mono<GitHubTokenPool.TokenSlot> acquire(String resource, Priority priority) {
+        return Mono.defer(() -> {
+            long now = System.currentTimeMillis();
+            GitHubTokenPool.TokenSlot slot = tokenPool.select(resource, now);
+            RateLimitBudget budget = slot.budget(resource);
+
+            if (!budget.isKnown(now)) {
+                return Mono.just(slot); // 아직 정보가 없거나 윈도우가 리셋됨
+            }
+
+            Mono<Void> resetWait = resetWait(resource, priority, budget, now);
+            if (resetWait != null) {
+                return resetWait.thenReturn(slot);
+            }
+
+            if (budget.tryReserve(reserve(budget))) {
+                return Mono.just(slot);
+            }
+
+            // 한도가 얼마 남지 않음 => 사용자 요청은 간격을 두고 보냄
+            long delay = budget.reservePacedSlot(now);
+            if (delay <= 0) {
+                return Mono.just(slot);
+            }
+            log.debug("GitHub {} 한도 부족 ({} 남은 {}), {}ms 후 요청", resource, slot.getId(), budget.getRemaining(), delay);
+            return Mono.delay(Duration.ofMillis(delay)).thenReturn(slot);
+        });
+    }
+
+    /**
+     * 한도 리셋 대기만 먼저 처리 (토큰을 고르거나 한도를 차감하지 않음)
+     * 서킷 브레이커 / 동시 호출 제한 앞에서 호출해서 리셋 대기가 호출 시간과 동시 호출 수에 포함되지 않도록 함
+     * 대기가 끝난 뒤 실제 요청의 acquire 는 바로 통과 (사용자 요청의 간격 조절만 남음)
+     */
+    public Mono<Void> awaitCapacity(String resource, Priority priority) {
+        return Mono.defer(() -> {
+            long now = System.currentTimeMillis();
+            RateLimitBudget budget = tokenPool.select(resource, now).budget(resource);
+            if (!budget.isKnown(now)) {
+                return Mono.empty();
+            }
+            Mono<Void> resetWait = resetWait(resource, priority, budget, now);
+            return resetWait != null ? resetWait : Mono.empty();
+        });
+    }
+
+    /**
+     * 지금 바로 보낼 수 있는지 (awaitCapacity 가 기다리지 않는지)
+     * 미리 가져오기처럼 한도가 부족하면 건너뛰어도 되는 요청용
+     */
+    public boolean hasCapacity(String resource, Priority priority) {
+        long now = System.currentTimeMillis();
+        RateLimitBudget budget = tokenPool.select(resource, now).budget(resource);
+        return !budget.isKnown(now) || resetWait(resource, priority, budget, now) == null;
+    }
+
+    // 응답 헤더로 토큰의 한도 갱신
+    public void update(GitHubTokenPool.TokenSlot slot, HttpHeaders headers) {
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String limit = headers.getFirst("X-RateLimit-Limit");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        if (remaining == null || limit == null || reset == null) {
+            return;
+        }
+
+        String resource = headers.getFirst("X-RateLimit-Resource");
+        try {
+            int remainingCount = Integer.parseInt(remaining);
+            slot.budget(resource != null ? resource : CORE).update(
+                    Integer.parseInt(limit),
+                    remainingCount,
+                    Long.parseLong(reset) * 1000);
+            if (remainingCount == 0) {
+                slot.recordExhausted();
+                log.warn("GitHub 토큰 {}의 {} 한도 소진, 리셋까지 순환에서 제외", slot.masked(), resource);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("X-RateLimit 헤더 파싱 실패: limit={}, remaining={}, reset={}", limit, remaining, reset);
+        }
+    }
+
+    // GraphQL 응답의 rateLimit { cost } 필드로 쿼리 비용 기록 (남은 한도는 응답 헤더로 갱신)
+    public void recordGraphQLCost(JsonNode response) {
+        recordGraphQLRateLimit(response.path("data").path("rateLimit"));
+    }
+
+    // rateLimit 노드만 따로 받은 경우 (스트리밍 응답)
+    public void recordGraphQLRateLimit(JsonNode rateLimit) {
+        JsonNode cost = rateLimit.path("cost");
+        if (cost.isNumber()) {
+            lastGraphQLCost.set(cost.asInt());
+            totalGraphQLCost.addAndGet(cost.asInt());
+        }
+    }
+
+    // /rate_limit 응답의 resources 노드로 토큰의 전체 리소스 한도 동기화
+    public void sync(GitHubTokenPool.TokenSlot slot, JsonNode resources) {
+        resources.properties().forEach(entry -> {
+            JsonNode node = entry.getValue();
+            slot.budget(entry.getKey()).update(
+                    node.path("limit").asInt(),
+                    node.path("remaining").asInt(),
+                    node.path("reset").asLong() * 1000);
+        });
+    }
+
+    // 리소스별 전체 토큰 합산 상태
+    public Map<String, RateLimitDTO> snapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, RateLimitDTO> result = new TreeMap<>();
+        for (GitHubTokenPool.TokenSlot slot : tokenPool.getSlots()) {
+            slot.getBudgets().forEach((resource, budget) -> {
+                if (!slot.isValid() || !budget.isKnown(now)) {
+                    return;
+                }
+                result.merge(resource, toDTO(budget), (a, b) -> RateLimitDTO.builder()
+                        .limit(a.getLimit() + b.getLimit())
+                        .used(a.getUsed() + b.getUsed())
+                        .remaining(a.getRemaining() + b.getRemaining())
+                        .resetAt(a.getResetAt().compareTo(b.getResetAt()) <= 0 ? a.getResetAt() : b.getResetAt())
+                        .build());
+            });
+        }
+        RateLimitDTO graphql = result.get(GRAPHQL);
+        if (graphql != null) {
+            graphql.setLastCost(lastGraphQLCost.get());
+        }
+        return result;
+    }
+
+    // 토큰별 사용량
+    public List<TokenStatusDTO> tokenStatuses() {
+        return tokenPool.getSlots().stream()
+                .map(slot -> {
+                    Map<String, RateLimitDTO> resources = new HashMap<>();
+                    slot.getBudgets().forEach((resource, budget) -> resources.put(resource, toDTO(budget)));
+                    return TokenStatusDTO.builder()
+                            .id(slot.getId())
+                            .valid(slot.isValid())
+                            .requests(slot.getRequests().sum())
+                            .exhaustions(slot.getExhaustions().sum())
+                            .resources(resources)
+                            .build();
+                })
+                .toList();
+    }
+
+    // 한도 리셋을 기다리고 있는 요청 수
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public long getTotalGraphQLCost() {
+        return totalGraphQLCost.get();
+    }
+
+    /**
+     * WebClient 필터: 토큰 선택 + 한도 확인 => Authorization 헤더 설정 => 응답 헤더로 한도 갱신
+     */
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> {
+            Mono<GitHubTokenPool.TokenSlot> slotMono;
+            String pinned = (String) request.attribute(TOKEN_ATTRIBUTE).orElse(null);
+            GitHubTokenPool.TokenSlot acquired = (GitHubTokenPool.TokenSlot) request.attribute(SLOT_ATTRIBUTE).orElse(null);
+            if (acquired != null) {
+                slotMono = Mono.just(acquired);
+            } else if (pinned != null) {
+                slotMono = Mono.justOrEmpty(tokenPool.findById(pinned));
+            } else if (request.url().getPath().endsWith("/rate_limit")) {
+                // 한도 조회는 한도를 소모하지 않음
+                slotMono = Mono.fromSupplier(() -> tokenPool.select(CORE, System.currentTimeMillis()));
+            } else {
+                Priority priority = request.attribute(PRIORITY_ATTRIBUTE)
+                        .map(Priority.class::cast)
+                        .orElse(Priority.HIGH);
+                slotMono = acquire(resolveResource(request), priority);
+            }
+
+            return slotMono.flatMap(slot -> {
+                slot.recordRequest();
+                return next.exchange(withToken(request, slot))
+                        .doOnNext(response -> {
+                            update(slot, response.headers().asHttpHeaders());
+                            if (response.statusCode().value() == HttpStatus.UNAUTHORIZED.value() && slot.getToken() != null) {
+                                log.error("GitHub 토큰 {} 인증 실패, 토큰 풀에서 제외", slot.masked());
+                                slot.invalidate();
+                            }
+                        });
+            });
+        };
+    }
+
+    private ClientRequest withToken(ClientRequest request, GitHubTokenPool.TokenSlot slot) {
+        if (slot.getToken() == null) {
+            return request;
+        }
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(slot.getToken()))
+                .build();
+    }
+
+    private String resolveResource(ClientRequest request) {
+        String path = request.url().getPath();
+        if (path.endsWith("/graphql")) {
+            return GRAPHQL;
+        }
+        if (path.startsWith("/search")) {
+            return SEARCH;
+        }
+        return CORE;
+    }
+
+    /**
+     * 리셋까지 기다려야 하면 대기(또는 실패) Mono, 바로 보낼 수 있으면 null
+     * - 가장 여유 있는 토큰도 한도가 없음 => 모든 토큰 소진: 사용자 요청은 maxWaitSeconds 이내에 리셋될 때만 대기
+     * - 한도가 얼마 남지 않음 => 백그라운드 작업은 리셋까지 미룸
+     */
+    private Mono<Void> resetWait(String resource, Priority priority, RateLimitBudget budget, long now) {
+        long untilReset = budget.millisUntilReset(now);
+        if (budget.isExhausted(now)) {
+            if (priority == Priority.HIGH && untilReset > properties.getRateLimit().getMaxWaitSeconds() * 1000L) {
+                return Mono.error(new GitHubApiException(
+                        "GitHub API 요청 한도를 초과했습니다 (" + resource + ", 리셋까지 " + untilReset / 1000 + "초)"));
+            }
+            return waitForReset(resource, untilReset);
+        }
+        if (priority == Priority.LOW && budget.getRemaining() <= reserve(budget)) {
+            return waitForReset(resource, untilReset);
+        }
+        return null;
+    }
+
+    // 사용자 요청을 위해 남겨두는 한도
+    private int reserve(RateLimitBudget budget) {
+        return (int) Math.ceil(budget.getLimit() * properties.getRateLimit().getReserveRatio());
+    }
+
+    // 구독할 때 대기 시작 (hasCapacity 처럼 확인만 하는 경우 대기 수에 포함되지 않도록)
+    private Mono<Void> waitForReset(String resource, long untilReset) {
+        return Mono.defer(() -> {
+            log.info("GitHub {} 한도 부족, 리셋까지 {}초 대기", resource, untilReset / 1000);
+            queued.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(untilReset))
+                    .doFinally(signal -> queued.decrementAndGet())
+                    .then();
+        });
+    }
+
+    private RateLimitDTO toDTO(RateLimitBudget budget) {
+        return RateLimitDTO.builder()
+                .limit(budget.getLimit())
+                .used(budget.getLimit() >= 0 ? budget.getLimit() - budget.getRemaining() : 0)
+                .remaining(budget.getRemaining())
+                .resetAt(Instant.ofEpochMilli(budget.getResetAtMillis()).toString())
+                .build();
+    }
+}
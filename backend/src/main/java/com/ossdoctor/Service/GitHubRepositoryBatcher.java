@@ -0,0 +1,253 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ossdoctor.config.GithubApiProperties;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 정보 GraphQL 조회 배치 처리
+ * - 짧은 시간(windowMillis) 동안 들어온 저장소 조회를 모아서 (최대 maxSize개)
+ * - 별칭(r0, r1, ...)을 붙인 하나의 GraphQL 문서로 요청하고
+ * - 응답을 스트리밍으로 읽으면서 별칭별 결과를 각 호출자의 Mono 에 전달
+ * 호출자는 단건 쿼리와 같은 {"data": {"repository": ...}} 형태를 받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubRepositoryBatcher {
+
+    // Repository 기본 정보 필드 (databaseId, watcher 추가)
+    static final String REPOSITORY_FIELDS = """
+      fragment RepositoryFields on Repository {
+        databaseId
+        name
+        nameWithOwner
+        description
+        url
+        stargazerCount
+        forkCount
+        diskUsage
+        createdAt
+        updatedAt
+        pushedAt
+        primaryLanguage {
+          name
+        }
+        licenseInfo {
+          name
+          spdxId
+        }
+        repositoryTopics(first: 10) {
+          nodes {
+            topic {
+              name
+            }
+          }
+        }
+        defaultBranchRef {
+          name
+          target {
+            ... on Commit {
+              history(first: 1) {
+               totalCommit: totalCount
+               nodes {
+                 committedDate
+               }
+             }
+            }
+          }
+        }
+        totalPullRequests: pullRequests { totalCount }
+        openPullRequests:  pullRequests(states: [OPEN])   { totalCount }
+        closedPullRequests: pullRequests(states: [CLOSED]){ totalCount }
+        mergedPullRequests: pullRequests(states: [MERGED]){ totalCount }
+
+        totalIssues: issues { totalCount }
+        openIssues:  issues(states: [OPEN])  { totalCount }
+        closedIssues: issues(states: [CLOSED]){ totalCount }
+        languages(first: 10) {
+          edges {
+            size
+            node {
+              name
+            }
+          }
+        }
+        watchers {
+          totalCount
+        }
+      }
+      """;
+
+    private final GitHubGraphQLClient graphQLClient;
+    private final GithubApiProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+
+    /**
+     * 저장소 하나를 조회 (다른 요청과 묶여서 전송될 수 있음)
+     * @param priority 배치에 HIGH 요청이 하나라도 있으면 배치 전체를 HIGH 로 전송
+     * @return {"data": {"repository": ...}} 또는 해당 저장소의 {"errors": [...]}
+     */
+    public Mono<JsonNode> fetch(String owner, String name, GitHubRateLimitGovernor.Priority priority) {
+        return Mono.defer(() -> {
+            Sinks.One<JsonNode> sink = Sinks.one();
+            List<Pending> ready = null;
+
+            synchronized (lock) {
+                pending.add(new Pending(owner, name, priority, sink));
+                if (pending.size() >= properties.getBatch().getMaxSize()) {
+                    ready = drain();
+                } else if (pending.size() == 1) {
+                    // 배치의 첫 요청이 대기 시간 타이머를 시작
+                    Schedulers.parallel().schedule(this::flush,
+                            properties.getBatch().getWindowMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (ready != null) {
+                send(ready);
+            }
+            return sink.asMono();
+        });
+    }
+
+    private void flush() {
+        List<Pending> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    private void send(List<Pending> batch) {
+        // 같은 저장소는 하나의 별칭으로 합침
+        Map<String, List<Pending>> byRepository = new LinkedHashMap<>();
+        for (Pending request : batch) {
+            String key = GitHubCacheManager.repoKey(request.owner, request.name);
+            byRepository.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+        }
+
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        Map<String, Object> variables = new HashMap<>();
+        Map<String, List<Pending>> byAlias = new LinkedHashMap<>();
+
+        int index = 0;
+        for (List<Pending> requests : byRepository.values()) {
+            String alias = "r" + index;
+            Pending first = requests.get(0);
+            declarations.append(index == 0 ? "" : ", ")
+                    .append("$o").append(index).append(": String!, $n").append(index).append(": String!");
+            selections.append("    ").append(alias)
+                    .append(": repository(owner: $o").append(index).append(", name: $n").append(index)
+                    .append(") { ...RepositoryFields }\n");
+            variables.put("o" + index, first.owner);
+            variables.put("n" + index, first.name);
+            byAlias.put(alias, requests);
+            index++;
+        }
+
+        String query = "query BatchRepositories(" + declarations + ") {\n"
+                + "    rateLimit { cost limit remaining resetAt }\n"
+                + selections
+                + "}\n"
+                + REPOSITORY_FIELDS;
+
+        // 사용자 요청이 섞인 배치는 리셋까지 미루지 않음
+        GitHubRateLimitGovernor.Priority priority = batch.stream()
+                .anyMatch(request -> request.priority == GitHubRateLimitGovernor.Priority.HIGH)
+                ? GitHubRateLimitGovernor.Priority.HIGH
+                : GitHubRateLimitGovernor.Priority.LOW;
+
+        log.debug("GraphQL 저장소 배치 조회: {}건 ({}개 저장소, {})", batch.size(), byAlias.size(), priority);
+
+        // 별칭별 결과를 응답 전체를 기다리지 않고 도착하는 대로 전달
+        // 결과가 null 인 별칭(NOT_FOUND 등)은 에러 목록이 모두 도착한 뒤 에러와 함께 전달
+        ArrayNode errors = objectMapper.createArrayNode();
+        graphQLClient.stream(query, variables, priority, "data.*", "errors.*")
+                .subscribe(
+                        record -> {
+                            if (record.isUnder("errors")) {
+                                errors.add(record.asTree());
+                                return;
+                            }
+                            JsonNode repository = record.asTree();
+                            if (repository.isNull()) {
+                                return;
+                            }
+                            List<Pending> requests = byAlias.remove(record.segment(1));
+                            if (requests != null) {
+                                JsonNode result = toSingleResponse(repository, objectMapper.createArrayNode());
+                                requests.forEach(request -> request.sink.tryEmitValue(result));
+                            }
+                        },
+                        error -> byAlias.values().forEach(requests ->
+                                requests.forEach(request -> request.sink.tryEmitError(error))),
+                        () -> byAlias.forEach((alias, requests) -> {
+                            JsonNode result = toSingleResponse(NullNode.getInstance(), errorsFor(errors, alias));
+                            requests.forEach(request -> request.sink.tryEmitValue(result));
+                        }));
+    }
+
+    // 별칭 하나의 결과를 단건 쿼리 응답 형태로 변환
+    private JsonNode toSingleResponse(JsonNode repository, ArrayNode errors) {
+        ObjectNode result = objectMapper.createObjectNode();
+        result.putObject("data").set("repository", repository);
+        if (!errors.isEmpty()) {
+            result.set("errors", errors);
+        }
+        return result;
+    }
+
+    // 별칭에 해당하는 에러 (path가 없는 에러는 쿼리 전체 오류이므로 모든 별칭에 포함)
+    private ArrayNode errorsFor(ArrayNode errors, String alias) {
+        ArrayNode result = objectMapper.createArrayNode();
+        for (JsonNode error : errors) {
+            JsonNode path = error.path("path");
+            if (path.isMissingNode() || path.isEmpty() || alias.equals(path.get(0).asText())) {
+                result.add(error);
+            }
+        }
+        // 결과도 에러도 없는 경우 (응답이 잘린 경우 등)
+        if (result.isEmpty()) {
+            result.addObject().put("message", "No data for " + alias);
+        }
+        return result;
+    }
+
+    @AllArgsConstructor
+    private static class Pending {
+        private final String owner;
+        private final String name;
+        private final GitHubRateLimitGovernor.Priority priority;
+        private final Sinks.One<JsonNode> sink;
+    }
+}
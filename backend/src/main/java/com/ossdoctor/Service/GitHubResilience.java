@@ -0,0 +1,209 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.DTO.CircuitBreakerDTO;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import com.ossdoctor.exception.GitHubUnavailableException;
+import com.ossdoctor.util.Bulkhead;
+import com.ossdoctor.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 호출 작업별 서킷 브레이커 + 동시 호출 제한
+ * - 작업(저장소 정보, contributors, 언어, 검색, 기여 내역 ...)마다 따로 두어서 한 엔드포인트의 장애가 다른 작업을 막지 않음
+ * - 차단 중이거나 동시 호출 상한에 걸리면 GitHub 를 호출하지 않고 바로 GitHubUnavailableException
+ * - 404, 401 처럼 재시도해도 같은 결과인 에러는 장애로 집계하지 않음
+ * - 작업별 응답 시간은 github.calls 타이머 (outcome: success, error, cancelled), 거절은 github.calls.rejected
+ * - 한도 리셋 대기는 차단 / 동시 호출 제한 앞에서 끝내서 호출 시간, 느린 호출, 동시 호출 수에 포함하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubResilience {
+
+    // 캐시가 없는 작업 이름 (나머지는 GitHubCacheManager 캐시 이름 사용)
+    public static final String CONTRIBUTIONS = "contributions";
+    public static final String SEARCH = "search";
+    public static final String REPOSITORY_ACTIVITY = "repositoryActivity";
+    public static final String CONTRIBUTOR_STATS = "contributorStats";
+    public static final String RATE_LIMIT = "rateLimit";
+
+    private final GithubApiProperties properties;
+    private final GitHubRetryPolicy retryPolicy;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * 리소스(core, graphql, search)의 한도 리셋 대기를 먼저 끝낸 뒤 서킷 브레이커 / 동시 호출 제한을 거쳐서 호출
+     * 리셋을 기다리는 낮은 우선순위 요청이 동시 호출 자리를 차지하거나 느린 호출로 집계되지 않음
+     */
+    public <T> Mono<T> protect(String operation, String resource, GitHubRateLimitGovernor.Priority priority, Mono<T> call) {
+        return rateLimitGovernor.awaitCapacity(resource, priority)
+                .then(protect(operation, call));
+    }
+
+    /**
+     * 작업의 서킷 브레이커 / 동시 호출 제한을 거쳐서 호출
+     */
+    public <T> Mono<T> protect(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Guard guard = guard(operation);
+            if (!guard.breaker.tryAcquire()) {
+                rejected(operation, "circuit_open");
+                return Mono.error(new GitHubUnavailableException(operation + " 호출 차단 중 (GitHub 장애)"));
+            }
+            if (!guard.bulkhead.tryAcquire()) {
+                guard.breaker.onCancel();
+                rejected(operation, "bulkhead_full");
+                return Mono.error(new GitHubUnavailableException(
+                        operation + " 동시 호출 상한 초과 (" + guard.bulkhead.getMaxConcurrentCalls() + ")"));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean finished = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (finished.compareAndSet(false, true)) {
+                            guard.breaker.onSuccess(elapsedMillis(start));
+                            record(operation, "success", start);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (finished.compareAndSet(false, true)) {
+                            guard.breaker.onError(error, elapsedMillis(start));
+                            record(operation, "error", start);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (finished.compareAndSet(false, true)) {
+                            guard.breaker.onCancel();
+                            record(operation, "cancelled", start);
+                        }
+                    })
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 서킷 브레이커 / 동시 호출 제한 없이 github.calls 타이머만 기록
+     * 한도를 소모하지 않고 장애 중에도 상태를 확인해야 하는 호출용 (/rate_limit)
+     */
+    public <T> Mono<T> timed(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> record(operation, "success", start))
+                    .doOnError(error -> record(operation, "error", start))
+                    .doOnCancel(() -> record(operation, "cancelled", start));
+        });
+    }
+
+    /**
+     * GitHub 장애(차단, 네트워크, 5xx, 한도 초과)로 실패하면 fallback 값(마지막 캐시 값)으로 대체
+     * fallback 값이 없거나 404 같은 에러는 그대로 전달
+     */
+    public <T> Mono<T> withFallback(String operation, Mono<T> call, Supplier<Optional<T>> fallback) {
+        return call.onErrorResume(this::isOutage, error -> fallback.get()
+                .map(value -> {
+                    log.warn("{} 조회 실패, 마지막 캐시 값으로 응답: {}", operation, error.getMessage());
+                    return Mono.just(value);
+                })
+                .orElseGet(() -> Mono.error(error)));
+    }
+
+    public List<CircuitBreakerDTO> snapshot() {
+        return guards.values().stream()
+                .map(guard -> CircuitBreakerDTO.builder()
+                        .operation(guard.breaker.getName())
+                        .state(guard.breaker.getState().name())
+                        .failureRate(guard.breaker.getFailureRate())
+                        .bufferedCalls(guard.breaker.getBufferedCalls())
+                        .rejectedCalls(guard.breaker.getRejectedCalls())
+                        .activeCalls(guard.bulkhead.getActiveCalls())
+                        .maxConcurrentCalls(guard.bulkhead.getMaxConcurrentCalls())
+                        .bulkheadRejectedCalls(guard.bulkhead.getRejectedCalls())
+                        .build())
+                .sorted(Comparator.comparing(CircuitBreakerDTO::getOperation))
+                .toList();
+    }
+
+    private Guard guard(String operation) {
+        return guards.computeIfAbsent(operation, name -> {
+            GithubApiProperties.Resilience config = properties.getResilience();
+            CircuitBreaker breaker = new CircuitBreaker(name,
+                    config.getWindowSize(),
+                    config.getMinimumCalls(),
+                    config.getFailureRateThreshold(),
+                    Duration.ofSeconds(config.getSlowCallSeconds()),
+                    Duration.ofSeconds(config.getOpenSeconds()),
+                    config.getHalfOpenCalls(),
+                    error -> retryPolicy.classify(unwrap(error)) != GitHubRetryPolicy.Cause.PERMANENT);
+            Bulkhead bulkhead = new Bulkhead(name, config.getMaxConcurrentCallsPerOperation()
+                    .getOrDefault(name, config.getMaxConcurrentCalls()));
+            return new Guard(breaker, bulkhead);
+        });
+    }
+
+    private void record(String operation, String outcome, long startNanos) {
+        Timer.builder("github.calls")
+                .description("GitHub 작업별 호출 시간 (재시도 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("github.calls.rejected")
+                .description("서킷 브레이커 / 동시 호출 제한으로 GitHub 를 호출하지 않은 횟수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean isOutage(Throwable error) {
+        return error instanceof GitHubUnavailableException
+                || retryPolicy.classify(unwrap(error)) != GitHubRetryPolicy.Cause.PERMANENT;
+    }
+
+    // handleApiError 로 감싼 예외는 원래 원인으로 분류
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof GitHubApiException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static class Guard {
+        private final CircuitBreaker breaker;
+        private final Bulkhead bulkhead;
+
+        Guard(CircuitBreaker breaker, Bulkhead bulkhead) {
+            this.breaker = breaker;
+            this.bulkhead = bulkhead;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.DiskResponseStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 응답 디스크 저장소 (github.store.enabled=true 일 때만 사용)
+ * - REST 응답: 본문 + ETag 를 저장해서 재시작 후에도 조건부 요청(304)으로 재검증
+ * - GraphQL 응답: 저장 시각 기준으로 maxAge 이내면 네트워크 없이 사용
+ * 재시작 직후 캐시가 비어서 요청 한도를 소모하는 것을 줄이기 위함
+ */
+@Slf4j
+@Component
+public class GitHubResponseStore {
+
+    private final ObjectMapper objectMapper;
+    private final DiskResponseStore store; // 비활성화 시 null
+
+    public GitHubResponseStore(GithubApiProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.store = open(properties.getStore());
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * 저장된 응답 조회 (없거나 비활성화면 empty)
+     */
+    public Mono<DiskResponseStore.Entry> find(String key) {
+        if (store == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> store.get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * 응답 저장 (백그라운드에서 기록, 실패해도 요청에는 영향 없음)
+     */
+    public void save(String key, DiskResponseStore.Entry entry) {
+        if (store == null) {
+            return;
+        }
+        Mono.fromRunnable(() -> {
+                    try {
+                        store.put(key, entry);
+                    } catch (IOException e) {
+                        log.warn("응답 저장소 기록 실패 ({}): {}", key, e.getMessage());
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    /**
+     * 저장된 값이 maxAge 이내면 그 값을, 아니면 loader 결과를 저장하고 반환
+     * GraphQL errors 가 있는 응답은 저장하지 않음
+     */
+    public <T> Mono<T> cached(String key, Duration maxAge, Class<T> type, Supplier<Mono<T>> loader) {
+        return cached(key, maxAge, objectMapper.constructType(type), loader);
+    }
+
+    /**
+     * 제네릭 타입(Map<String, Object> 등)으로 읽는 경우
+     */
+    public <T> Mono<T> cached(String key, Duration maxAge, TypeReference<T> type, Supplier<Mono<T>> loader) {
+        return cached(key, maxAge, objectMapper.constructType(type), loader);
+    }
+
+    private <T> Mono<T> cached(String key, Duration maxAge, JavaType type, Supplier<Mono<T>> loader) {
+        if (store == null) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        return find(key)
+                .filter(entry -> now - entry.getFetchedAt() < maxAge.toMillis())
+                .flatMap(entry -> Mono.justOrEmpty(this.<T>readValue(key, entry.getBody(), type)))
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .doOnNext(value -> {
+                            if (value instanceof JsonNode node && node.has("errors")) {
+                                return;
+                            }
+                            writeValue(value).ifPresent(body -> save(key,
+                                    new DiskResponseStore.Entry(body, null, null, null, System.currentTimeMillis())));
+                        })));
+    }
+
+    // GraphQL 요청 키: 쿼리 + 변수(키 정렬) 해시
+    public String graphQLKey(String query, Map<String, Object> variables) {
+        try {
+            String variablesJson = objectMapper.writeValueAsString(new TreeMap<>(variables));
+            return "graphql:" + sha256(query + "\n" + variablesJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("GraphQL 변수 직렬화 실패", e);
+        }
+    }
+
+    public Optional<DiskResponseStore.Stats> stats() {
+        return Optional.ofNullable(store).map(DiskResponseStore::stats);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                log.warn("응답 저장소 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private DiskResponseStore open(GithubApiProperties.Store config) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        try {
+            return new DiskResponseStore(Path.of(config.getDirectory()),
+                    config.getMaxSizeMb() * 1024L * 1024L,
+                    config.getSegmentSizeMb() * 1024L * 1024L);
+        } catch (IOException e) {
+            // 저장소를 열 수 없으면 디스크 캐시 없이 동작
+            log.error("응답 저장소를 열 수 없음 ({}): {}", config.getDirectory(), e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> Optional<T> readValue(String key, byte[] body, JavaType type) {
+        try {
+            return Optional.of(objectMapper.<T>readValue(body, type));
+        } catch (IOException e) {
+            log.warn("저장된 응답 파싱 실패 ({}): {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<byte[]> writeValue(Object value) {
+        try {
+            return Optional.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            log.warn("응답 직렬화 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
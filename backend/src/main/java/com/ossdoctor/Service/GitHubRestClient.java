@@ -0,0 +1,199 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.DiskResponseStore;
+import com.ossdoctor.util.ReactiveTtlCache;
+import com.ossdoctor.util.ReactiveTtlCacheMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GitHub REST API 조건부 요청 클라이언트
+ * - 응답 본문과 함께 ETag / Last-Modified 를 저장
+ * - 다음 요청에 If-None-Match / If-Modified-Since 를 붙여 재검증
+ * - 304 Not Modified 면 저장된 본문을 그대로 사용하고 fetchedAt 만 갱신 (304 응답은 요청 한도를 소모하지 않음)
+ * - 디스크 응답 저장소가 켜져 있으면 ETag 와 본문을 디스크에도 저장 (재시작 후에도 재검증 가능)
+ * - 304 / 본문 응답 수는 github.rest.responses{result=not_modified|full}, 재검증 저장소는 cache.*{cache=restValidators}
+ */
+@Slf4j
+@Component
+public class GitHubRestClient {
+
+    private static final String STORE_PREFIX = "rest:";
+
+    private final WebClient webClient;
+    private final GithubApiProperties properties;
+    private final GitHubResponseStore responseStore;
+    private final ObjectMapper objectMapper;
+
+    // 재검증용 저장소: 본문의 신선도와 무관하게 오래 보관 (신선도는 결과 캐시가 담당)
+    private final ReactiveTtlCache<String, StoredResponse> validators;
+
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder fullResponses = new LongAdder();
+
+    public GitHubRestClient(WebClient webClient, GithubApiProperties properties,
+                            GitHubResponseStore responseStore, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.responseStore = responseStore;
+        this.objectMapper = objectMapper;
+        this.validators = new ReactiveTtlCache<>("restValidators",
+                properties.getCache().getMaxEntries(),
+                Duration.ofHours(properties.getCache().getValidatorTtlHours()));
+
+        ReactiveTtlCacheMetrics.monitor(meterRegistry, validators);
+        FunctionCounter.builder("github.rest.responses", notModified, LongAdder::sum)
+                .description("GitHub REST 응답 수 (not_modified: 304 로 저장된 본문 재사용, 요청 한도 소모 없음)")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+        FunctionCounter.builder("github.rest.responses", fullResponses, LongAdder::sum)
+                .description("GitHub REST 응답 수 (not_modified: 304 로 저장된 본문 재사용, 요청 한도 소모 없음)")
+                .tag("result", "full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * GET 요청 (저장된 ETag 가 있으면 조건부 요청)
+     * @param path base-url 기준 경로 템플릿 (예: /repos/{owner}/{repo}/languages)
+     */
+    public Mono<StoredResponse> get(String path, Object... uriVariables) {
+        return get(GitHubRateLimitGovernor.Priority.HIGH, path, uriVariables);
+    }
+
+    /**
+     * @param priority 한도가 부족할 때의 우선순위 (백그라운드 갱신은 LOW)
+     */
+    public Mono<StoredResponse> get(GitHubRateLimitGovernor.Priority priority, String path, Object... uriVariables) {
+        URI uri = UriComponentsBuilder.fromUriString(properties.getApi().getBaseUrl() + path)
+                .buildAndExpand(uriVariables)
+                .encode()
+                .toUri();
+
+        return Mono.defer(() -> {
+            String key = uri.toString();
+
+            // 메모리에 없으면 디스크 저장소에서 ETag 복구 (재시작 직후에도 304 재검증)
+            return Mono.justOrEmpty(validators.getIfPresent(key))
+                    .switchIfEmpty(loadStored(key))
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(stored -> send(uri, key, stored.orElse(null), priority));
+        });
+    }
+
+    private Mono<StoredResponse> send(URI uri, String key, StoredResponse stored, GitHubRateLimitGovernor.Priority priority) {
+        return webClient.get()
+                .uri(uri)
+                .attribute(GitHubRateLimitGovernor.PRIORITY_ATTRIBUTE, priority)
+                .headers(headers -> {
+                    if (stored == null) {
+                        return;
+                    }
+                    if (stored.getEtag() != null) {
+                        headers.setIfNoneMatch(stored.getEtag());
+                    } else if (stored.getLastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, stored.getLastModified());
+                    }
+                })
+                .exchangeToMono(response -> handleResponse(key, stored, response));
+    }
+
+    private Mono<StoredResponse> loadStored(String key) {
+        return responseStore.find(STORE_PREFIX + key)
+                .flatMap(entry -> Mono.fromCallable(() -> new StoredResponse(
+                                objectMapper.readTree(entry.getBody()),
+                                entry.getEtag(),
+                                entry.getLastModified(),
+                                entry.getLink(),
+                                entry.getFetchedAt()))
+                        .onErrorResume(e -> Mono.empty()))
+                .doOnNext(stored -> validators.put(key, stored));
+    }
+
+    // 304 => 저장된 본문 사용 (재검증 시각 갱신), 2xx => 새 본문 저장, 나머지 => WebClientResponseException
+    private Mono<StoredResponse> handleResponse(String key, StoredResponse stored, ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && stored != null) {
+            notModified.increment();
+            log.debug("304 Not Modified: {}", key);
+            // 방금 재검증했으므로 fetchedAt 을 지금으로 (304 에 새 ETag 가 오면 그것으로 교체)
+            String etag = response.headers().asHttpHeaders().getETag();
+            StoredResponse revalidated = new StoredResponse(
+                    stored.getBody(),
+                    etag != null ? etag : stored.getEtag(),
+                    stored.getLastModified(),
+                    stored.getLink(),
+                    System.currentTimeMillis());
+            validators.put(key, revalidated);
+            persist(key, revalidated);
+            return response.releaseBody().thenReturn(revalidated);
+        }
+
+        if (response.statusCode().is2xxSuccessful()) {
+            fullResponses.increment();
+            HttpHeaders headers = response.headers().asHttpHeaders();
+            return response.bodyToMono(JsonNode.class)
+                    .defaultIfEmpty(NullNode.getInstance()) // 204 No Content (빈 저장소 등)
+                    .map(body -> {
+                        StoredResponse fresh = new StoredResponse(
+                                body,
+                                headers.getETag(),
+                                headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                                headers.getFirst(HttpHeaders.LINK),
+                                System.currentTimeMillis());
+                        if (fresh.getEtag() != null || fresh.getLastModified() != null) {
+                            validators.put(key, fresh);
+                            persist(key, fresh);
+                        }
+                        return fresh;
+                    });
+        }
+
+        return response.createError();
+    }
+
+    private void persist(String key, StoredResponse response) {
+        if (!responseStore.isEnabled()) {
+            return;
+        }
+        try {
+            responseStore.save(STORE_PREFIX + key, new DiskResponseStore.Entry(
+                    objectMapper.writeValueAsBytes(response.getBody()),
+                    response.getEtag(),
+                    response.getLastModified(),
+                    response.getLink(),
+                    response.getFetchedAt()));
+        } catch (JsonProcessingException e) {
+            log.warn("응답 직렬화 실패 ({}): {}", key, e.getMessage());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredResponse {
+        private final JsonNode body;
+        private final String etag;
+        private final String lastModified;
+        private final String link;      // 페이징 정보 (contributor 수 계산에 사용)
+        private final long fetchedAt;
+    }
+}
@@ -0,0 +1,169 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * GitHub 호출 재시도 정책
+ * - 실패 원인을 분류해서 일시적인 실패(네트워크, 타임아웃, 5xx)만 지수 백오프로 재시도
+ * - 403/429 보조 한도(secondary rate limit)는 Retry-After 만큼, 기본 한도 소진은 X-RateLimit-Reset 까지 대기 후 재시도
+ *   (대기 시간이 상한을 넘으면 바로 실패)
+ * - 401, 404, 422 등 다시 보내도 결과가 같은 에러는 바로 실패
+ * - 원인별 재시도 / 포기 횟수 기록 (github.retries, github.retry.failures)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubRetryPolicy {
+
+    public enum Cause {
+        NETWORK,              // 연결 실패, 연결 끊김
+        TIMEOUT,
+        SERVER_ERROR,         // 5xx
+        SECONDARY_RATE_LIMIT, // 403/429 + Retry-After
+        RATE_LIMIT,           // 403/429 + X-RateLimit-Remaining: 0
+        PERMANENT             // 재시도해도 같은 결과 (401, 404, 422 ...)
+    }
+
+    private final GithubApiProperties properties;
+
+    private final Map<Cause, LongAdder> retries = counters();
+    private final Map<Cause, LongAdder> failures = counters();
+
+    /**
+     * retryWhen 에 넘길 재시도 정책
+     * @param operation 로그용 이름 (graphql, contributors, ...)
+     */
+    public Retry forOperation(String operation) {
+        return forOperation(operation, error -> true);
+    }
+
+    /**
+     * @param retryable 추가 조건 (예: 스트리밍 응답에서 이미 레코드를 보냈으면 재시도하지 않음)
+     */
+    public Retry forOperation(String operation, Predicate<Throwable> retryable) {
+        GithubApiProperties.Retry config = properties.getRetry();
+
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            Cause cause = classify(failure);
+            long attempt = signal.totalRetries() + 1;
+
+            if (cause == Cause.PERMANENT || !retryable.test(failure)
+                    || attempt > properties.getApi().getRateLimitMaxRetries()) {
+                failures.get(cause).increment();
+                return Mono.error(failure);
+            }
+
+            Duration delay = delayFor(cause, failure, attempt);
+            if (delay.compareTo(Duration.ofSeconds(config.getMaxRetryAfterSeconds())) > 0) {
+                // 리셋까지 너무 오래 걸리면 붙잡고 있지 않고 바로 실패
+                log.warn("{} 재시도 포기 ({}): {}초 대기 필요", operation, cause, delay.toSeconds());
+                failures.get(cause).increment();
+                return Mono.error(failure);
+            }
+
+            retries.get(cause).increment();
+            log.warn("{} 재시도 #{} ({}, {}ms 후): {}", operation, attempt, cause, delay.toMillis(), failure.getMessage());
+            return Mono.delay(delay).thenReturn(attempt);
+        }));
+    }
+
+    // 실패 원인 분류
+    public Cause classify(Throwable failure) {
+        if (failure instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            if (status >= 500) {
+                return Cause.SERVER_ERROR;
+            }
+            if (status == 403 || status == 429) {
+                HttpHeaders headers = response.getHeaders();
+                if (headers.getFirst(HttpHeaders.RETRY_AFTER) != null) {
+                    return Cause.SECONDARY_RATE_LIMIT;
+                }
+                if ("0".equals(headers.getFirst("X-RateLimit-Remaining"))) {
+                    return Cause.RATE_LIMIT;
+                }
+            }
+            return Cause.PERMANENT;
+        }
+        if (failure instanceof TimeoutException) {
+            return Cause.TIMEOUT;
+        }
+        if (failure instanceof WebClientRequestException || failure instanceof IOException) {
+            return Cause.NETWORK;
+        }
+        return Cause.PERMANENT;
+    }
+
+    // 원인별 재시도 횟수 / 포기 횟수
+    public Map<String, Long> snapshot() {
+        Map<String, Long> result = new TreeMap<>();
+        retries.forEach((cause, count) -> result.put("retry." + cause.name().toLowerCase(), count.sum()));
+        failures.forEach((cause, count) -> result.put("failure." + cause.name().toLowerCase(), count.sum()));
+        return result;
+    }
+
+    public long retryCount(Cause cause) {
+        return retries.get(cause).sum();
+    }
+
+    public long failureCount(Cause cause) {
+        return failures.get(cause).sum();
+    }
+
+    private static Map<Cause, LongAdder> counters() {
+        Map<Cause, LongAdder> counters = new EnumMap<>(Cause.class);
+        for (Cause cause : Cause.values()) {
+            counters.put(cause, new LongAdder());
+        }
+        return counters;
+    }
+
+    private Duration delayFor(Cause cause, Throwable failure, long attempt) {
+        GithubApiProperties.Retry config = properties.getRetry();
+
+        if (cause == Cause.SECONDARY_RATE_LIMIT) {
+            String retryAfter = ((WebClientResponseException) failure).getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                return Duration.ofSeconds(60); // GitHub 권장: Retry-After 가 없으면 최소 1분
+            }
+        }
+
+        if (cause == Cause.RATE_LIMIT) {
+            String reset = ((WebClientResponseException) failure).getHeaders().getFirst("X-RateLimit-Reset");
+            try {
+                long untilReset = Long.parseLong(reset) * 1000 - System.currentTimeMillis();
+                return Duration.ofMillis(Math.max(untilReset, 0) + 1000);
+            } catch (NumberFormatException e) {
+                return Duration.ofSeconds(60);
+            }
+        }
+
+        // 지수 백오프 + jitter (동시에 실패한 요청이 한꺼번에 다시 몰리지 않도록)
+        long backoff = Math.min(
+                config.getInitialBackoffMillis() * (1L << Math.min(attempt - 1, 20)),
+                config.getMaxBackoffMillis());
+        long jitter = (long) (backoff * 0.5 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(backoff + jitter);
+    }
+}
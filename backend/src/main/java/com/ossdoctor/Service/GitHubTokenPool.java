@@ -0,0 +1,118 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.RateLimitBudget;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GitHub 토큰 풀
+ * - github.token + github.tokens 로 설정된 토큰을 모두 사용
+ * - 요청마다 해당 리소스의 남은 한도가 가장 많은 토큰을 선택
+ * - 한도를 다 쓴 토큰은 리셋 시각까지, 인증에 실패한 토큰은 재시작 전까지 제외
+ */
+@Slf4j
+@Component
+public class GitHubTokenPool {
+
+    @Getter
+    private final List<TokenSlot> slots;
+
+    public GitHubTokenPool(GithubApiProperties properties) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (properties.getToken() != null && !properties.getToken().isBlank()) {
+            tokens.add(properties.getToken().trim());
+        }
+        properties.getTokens().stream()
+                .filter(token -> token != null && !token.isBlank())
+                .map(String::trim)
+                .forEach(tokens::add);
+
+        List<TokenSlot> created = new ArrayList<>();
+        for (String token : tokens) {
+            created.add(new TokenSlot("token-" + (created.size() + 1), token));
+        }
+        if (created.isEmpty()) {
+            log.warn("GitHub 토큰이 설정되지 않아 인증 없이 요청합니다 (시간당 60회 제한)");
+            created.add(new TokenSlot("anonymous", null));
+        }
+        this.slots = List.copyOf(created);
+        log.info("GitHub 토큰 풀 초기화: {}개", slots.size());
+    }
+
+    /**
+     * 리소스의 남은 한도가 가장 많은 토큰 선택
+     * 사용 가능한 토큰이 없으면 가장 먼저 리셋되는 토큰을 반환 (호출하는 쪽에서 대기/실패 결정)
+     */
+    public TokenSlot select(String resource, long now) {
+        return slots.stream()
+                .filter(TokenSlot::isValid)
+                .filter(slot -> !slot.budget(resource).isExhausted(now))
+                .max(Comparator.comparingLong(slot -> slot.availableBudget(resource, now)))
+                .orElseGet(() -> slots.stream()
+                        .filter(TokenSlot::isValid)
+                        .min(Comparator.comparingLong(slot -> slot.budget(resource).millisUntilReset(now)))
+                        .orElse(slots.get(0)));
+    }
+
+    public Optional<TokenSlot> findById(String id) {
+        return slots.stream().filter(slot -> slot.getId().equals(id)).findFirst();
+    }
+
+    @Getter
+    public static class TokenSlot {
+
+        private final String id;
+        private final String token;
+        private final Map<String, RateLimitBudget> budgets = new ConcurrentHashMap<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder exhaustions = new LongAdder();
+        private volatile boolean valid = true;
+
+        TokenSlot(String id, String token) {
+            this.id = id;
+            this.token = token;
+        }
+
+        public RateLimitBudget budget(String resource) {
+            return budgets.computeIfAbsent(resource, RateLimitBudget::new);
+        }
+
+        // 아직 응답을 받지 못한 토큰은 최우선으로 시도
+        long availableBudget(String resource, long now) {
+            RateLimitBudget budget = budget(resource);
+            return budget.isKnown(now) ? budget.getRemaining() : Long.MAX_VALUE;
+        }
+
+        void recordRequest() {
+            requests.increment();
+        }
+
+        void recordExhausted() {
+            exhaustions.increment();
+        }
+
+        void invalidate() {
+            valid = false;
+        }
+
+        // 로그용 (토큰 원문을 남기지 않음)
+        public String masked() {
+            if (token == null) {
+                return id;
+            }
+            return id + "(..." + token.substring(Math.max(0, token.length() - 4)) + ")";
+        }
+    }
+}
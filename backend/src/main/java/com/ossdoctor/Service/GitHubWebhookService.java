@@ -0,0 +1,277 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ossdoctor.Entity.*;
+import com.ossdoctor.Repository.IssueRepository;
+import com.ossdoctor.Repository.PullRequestRepository;
+import com.ossdoctor.Repository.RepositoryRepository;
+import com.ossdoctor.Repository.UserRepository;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.ReactiveTtlCache;
+import com.ossdoctor.util.WebhookSignature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * GitHub 웹훅 반영
+ * - push, issues, pull_request, star, fork, release 이벤트를 받아서 DB 의 저장소 카운터 / issue / PR 을 부분 갱신
+ * - DB 에 있는 (한 번 이상 조회된) 저장소만 반영
+ * - 같은 전달(X-GitHub-Delivery)이 다시 오면 무시
+ * - 반영 후 해당 저장소의 캐시를 비워서 다음 조회에 바로 보이도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GitHubWebhookService {
+
+    public static final Set<String> SUPPORTED_EVENTS = Set.of("push", "issues", "pull_request", "star", "fork", "release");
+
+    private final GithubApiProperties properties;
+    private final RepositoryRepository repositoryRepository;
+    private final IssueRepository issueRepository;
+    private final PullRequestRepository pullRequestRepository;
+    private final UserRepository userRepository;
+    private final GitHubCacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * X-Hub-Signature-256 검증 (Secret 이 설정되지 않았으면 항상 실패)
+     */
+    public boolean verifySignature(byte[] body, String signature) {
+        String secret = properties.getWebhook().getSecret();
+        if (secret == null || secret.isEmpty()) {
+            log.warn("github.webhook.secret 이 설정되지 않아 웹훅 요청을 거부");
+            return false;
+        }
+        return WebhookSignature.verify(secret, body, signature);
+    }
+
+    /**
+     * 웹훅 이벤트 반영
+     * 카운터 증감이 겹치지 않도록 한 번에 하나씩 처리 (트랜잭션이 끝난 뒤 다음 이벤트 처리)
+     * @return 반영했으면 true (지원하지 않는 이벤트, DB 에 없는 저장소, 중복 전달이면 false)
+     */
+    public synchronized boolean handle(String event, String deliveryId, JsonNode payload) {
+        if (!SUPPORTED_EVENTS.contains(event)) {
+            return false;
+        }
+
+        ReactiveTtlCache<String, Boolean> deliveries = cacheManager.getCache(GitHubCacheManager.WEBHOOK_DELIVERIES);
+        if (deliveryId != null && deliveries.getIfPresent(deliveryId).isPresent()) {
+            log.info("이미 처리한 웹훅 전달: {} ({})", deliveryId, event);
+            return false;
+        }
+
+        long githubRepoId = payload.path("repository").path("id").asLong();
+        RepositoryEntity updated = transactionTemplate.execute(status ->
+                repositoryRepository.findByGithubRepoId(githubRepoId)
+                        .map(repository -> apply(event, payload, repository))
+                        .orElse(null));
+
+        if (deliveryId != null) {
+            deliveries.put(deliveryId, true);
+        }
+        if (updated == null) {
+            log.debug("추적하지 않는 저장소의 웹훅: {} ({})", payload.path("repository").path("full_name").asText(), event);
+            return false;
+        }
+
+        invalidateCaches(event, GitHubCacheManager.repoKey(updated.getOwner(), updated.getName()));
+        log.info("웹훅 반영: {}/{} {} {}", updated.getOwner(), updated.getName(), event,
+                payload.path("action").asText(""));
+        return true;
+    }
+
+    private RepositoryEntity apply(String event, JsonNode payload, RepositoryEntity repository) {
+        // 모든 이벤트의 repository 에 현재 star / fork 수가 들어 있음 => 증감 대신 그대로 반영
+        JsonNode repositoryNode = payload.path("repository");
+        if (repositoryNode.has("stargazers_count")) {
+            repository.setStar(repositoryNode.path("stargazers_count").asInt());
+        }
+        if (repositoryNode.has("forks_count")) {
+            repository.setFork(repositoryNode.path("forks_count").asInt());
+        }
+
+        switch (event) {
+            case "push" -> applyPush(payload, repository);
+            case "issues" -> applyIssue(payload, repository);
+            case "pull_request" -> applyPullRequest(payload, repository);
+            default -> {
+                // star, fork: 위에서 반영 / release: 최종 갱신일만 반영
+            }
+        }
+
+        repository.setLastUpdatedAt(LocalDate.now());
+        return repositoryRepository.save(repository);
+    }
+
+    // 기본 브랜치에 대한 push 만 커밋 수에 반영
+    private void applyPush(JsonNode payload, RepositoryEntity repository) {
+        String defaultBranch = payload.path("repository").path("default_branch").asText();
+        if (!payload.path("ref").asText().equals("refs/heads/" + defaultBranch)) {
+            return;
+        }
+
+        // commits 는 최대 20개까지만 담기므로 그 이상은 다음 조회 때 보정됨
+        int pushed = payload.path("commits").size();
+        repository.setTotalCommits(adjust(repository.getTotalCommits(), pushed));
+
+        LocalDateTime committedAt = parseDate(payload.path("head_commit").path("timestamp").asText(null));
+        if (committedAt != null) {
+            repository.setLastCommitedAt(committedAt.toLocalDate());
+        }
+    }
+
+    private void applyIssue(JsonNode payload, RepositoryEntity repository) {
+        JsonNode issueNode = payload.path("issue");
+        int number = issueNode.path("number").asInt();
+        Optional<IssueEntity> existing = issueRepository.findFirstByRepositoryAndIssueNumberOrderByIdxDesc(repository, number);
+
+        switch (payload.path("action").asText()) {
+            case "opened" -> {
+                if (existing.isEmpty()) {
+                    repository.setOpenIssues(adjust(repository.getOpenIssues(), 1));
+                    repository.setTotalIssues(adjust(repository.getTotalIssues(), 1));
+                }
+                saveIssue(existing, repository, issueNode, ISSUE_STATE.OPEN);
+            }
+            case "closed" -> {
+                if (existing.map(issue -> issue.getState() != ISSUE_STATE.CLOSED).orElse(true)) {
+                    repository.setOpenIssues(adjust(repository.getOpenIssues(), -1));
+                    repository.setClosedIssues(adjust(repository.getClosedIssues(), 1));
+                }
+                saveIssue(existing, repository, issueNode, ISSUE_STATE.CLOSED);
+            }
+            case "reopened" -> {
+                if (existing.map(issue -> issue.getState() != ISSUE_STATE.OPEN).orElse(true)) {
+                    repository.setOpenIssues(adjust(repository.getOpenIssues(), 1));
+                    repository.setClosedIssues(adjust(repository.getClosedIssues(), -1));
+                }
+                saveIssue(existing, repository, issueNode, ISSUE_STATE.OPEN);
+            }
+            case "deleted" -> {
+                if ("open".equals(issueNode.path("state").asText())) {
+                    repository.setOpenIssues(adjust(repository.getOpenIssues(), -1));
+                } else {
+                    repository.setClosedIssues(adjust(repository.getClosedIssues(), -1));
+                }
+                repository.setTotalIssues(adjust(repository.getTotalIssues(), -1));
+                existing.ifPresent(issueRepository::delete);
+            }
+            case "edited" -> existing.ifPresent(issue -> issue.setTitle(issueNode.path("title").asText()));
+            default -> {
+                // labeled, assigned 등 카운터와 무관한 액션
+            }
+        }
+    }
+
+    private void applyPullRequest(JsonNode payload, RepositoryEntity repository) {
+        JsonNode prNode = payload.path("pull_request");
+        int number = payload.path("number").asInt(prNode.path("number").asInt());
+        Optional<PullRequestEntity> existing =
+                pullRequestRepository.findFirstByRepositoryAndPrNumberOrderByIdxDesc(repository, number);
+        boolean wasOpen = existing.map(pr -> pr.getState() == PR_STATE.OPEN).orElse(true);
+
+        switch (payload.path("action").asText()) {
+            case "opened" -> {
+                if (existing.isEmpty()) {
+                    repository.setOpenPullRequests(adjust(repository.getOpenPullRequests(), 1));
+                    repository.setTotalPullRequests(adjust(repository.getTotalPullRequests(), 1));
+                }
+                savePullRequest(existing, repository, prNode, PR_STATE.OPEN);
+            }
+            case "closed" -> {
+                boolean merged = prNode.path("merged").asBoolean(false);
+                if (wasOpen) {
+                    repository.setOpenPullRequests(adjust(repository.getOpenPullRequests(), -1));
+                    if (merged) {
+                        repository.setMergedPullRequests(adjust(repository.getMergedPullRequests(), 1));
+                    }
+                }
+                savePullRequest(existing, repository, prNode, merged ? PR_STATE.MERGED : PR_STATE.CLOSED);
+            }
+            case "reopened" -> {
+                if (!wasOpen) {
+                    repository.setOpenPullRequests(adjust(repository.getOpenPullRequests(), 1));
+                }
+                savePullRequest(existing, repository, prNode, PR_STATE.OPEN);
+            }
+            case "edited" -> existing.ifPresent(pr -> pr.setTitle(prNode.path("title").asText()));
+            default -> {
+                // synchronize, labeled 등 카운터와 무관한 액션
+            }
+        }
+    }
+
+    private void saveIssue(Optional<IssueEntity> existing, RepositoryEntity repository, JsonNode issueNode,
+                           ISSUE_STATE state) {
+        IssueEntity issue = existing.orElseGet(() -> IssueEntity.builder()
+                .repository(repository)
+                .userName(issueNode.path("user").path("login").asText())
+                .user(userRepository.findByNickname(issueNode.path("user").path("login").asText()).orElse(null))
+                .issueNumber(issueNode.path("number").asInt())
+                .createdAt(Optional.ofNullable(parseDate(issueNode.path("created_at").asText(null)))
+                        .orElseGet(LocalDateTime::now))
+                .build());
+
+        issue.setTitle(issueNode.path("title").asText());
+        issue.setState(state);
+        issue.setClosedAt(state == ISSUE_STATE.CLOSED ? parseDate(issueNode.path("closed_at").asText(null)) : null);
+        issueRepository.save(issue);
+    }
+
+    private void savePullRequest(Optional<PullRequestEntity> existing, RepositoryEntity repository, JsonNode prNode,
+                                 PR_STATE state) {
+        PullRequestEntity pr = existing.orElseGet(() -> PullRequestEntity.builder()
+                .repository(repository)
+                .userName(prNode.path("user").path("login").asText())
+                .user(userRepository.findByNickname(prNode.path("user").path("login").asText()).orElse(null))
+                .prNumber(prNode.path("number").asInt())
+                .createdAt(Optional.ofNullable(parseDate(prNode.path("created_at").asText(null)))
+                        .orElseGet(LocalDateTime::now))
+                .build());
+
+        pr.setTitle(prNode.path("title").asText());
+        pr.setState(state);
+        pr.setMergedAt(state == PR_STATE.MERGED ? parseDate(prNode.path("merged_at").asText(null)) : null);
+        pullRequestRepository.save(pr);
+    }
+
+    // 반영한 데이터가 다음 조회에 보이도록 관련 캐시 제거
+    private void invalidateCaches(String event, String repoKey) {
+        cacheManager.getCache(GitHubCacheManager.REPOSITORY_INFO).invalidate(repoKey);
+        switch (event) {
+            case "push" -> cacheManager.getCache(GitHubCacheManager.COMMIT_ACTIVITY).invalidate(repoKey);
+            case "issues", "pull_request" ->
+                    cacheManager.getCache(GitHubCacheManager.RECENT_ACTIVITIES).invalidate(repoKey);
+            default -> {
+            }
+        }
+    }
+
+    // 카운터 증감 (음수가 되지 않도록)
+    private static int adjust(Integer value, int delta) {
+        return Math.max(0, (value == null ? 0 : value) + delta);
+    }
+
+    private static LocalDateTime parseDate(String isoDateTime) {
+        if (isoDateTime == null || isoDateTime.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(isoDateTime, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            log.info("날짜 파싱 실패: {}", isoDateTime);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.DiskResponseStore;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 추천 프로젝트 스냅샷
+ * - 카테고리별 검색어가 고정되어 있어서 모든 사용자가 같은 결과를 받음 => 주기적으로 미리 조회해서 메모리에 보관
+ * - 갱신할 때는 새 스냅샷을 만든 뒤 참조만 교체 (요청은 항상 완성된 스냅샷 하나를 읽음)
+ * - 갱신에 실패한 카테고리는 이전 값과 이전 갱신 시각을 유지, maxAge 가 지난 카테고리는 GitHub 에서 직접 조회
+ * - 디스크 응답 저장소가 켜져 있으면 스냅샷을 저장해서 재시작 직후에도 바로 응답 (maxAge 이내인 경우만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationSnapshotService {
+
+    private static final String STORE_KEY = "snapshot:recommendations";
+
+    private final GithubApiProperties properties;
+    private final EcosystemService ecosystemService;
+    private final GitHubResponseStore responseStore;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @PostConstruct
+    public void load() {
+        if (!properties.getRecommendation().isEnabled()) {
+            return;
+        }
+        responseStore.find(STORE_KEY)
+                .blockOptional()
+                .ifPresent(entry -> {
+                    Instant fetchedAt = Instant.ofEpochMilli(entry.getFetchedAt());
+                    if (isExpired(fetchedAt)) {
+                        log.info("저장된 추천 스냅샷이 오래되어 사용하지 않음 (저장 시각 {})", fetchedAt);
+                        return;
+                    }
+                    try {
+                        Map<String, Map<String, Object>> categories = objectMapper.readValue(entry.getBody(),
+                                new TypeReference<Map<String, Map<String, Object>>>() {});
+                        Map<String, Instant> refreshedAt = new LinkedHashMap<>();
+                        categories.keySet().forEach(category -> refreshedAt.put(category, fetchedAt));
+                        snapshot.set(new Snapshot(freeze(categories), refreshedAt));
+                        log.info("저장된 추천 스냅샷 로드: {}개 카테고리", categories.size());
+                    } catch (IOException e) {
+                        log.warn("저장된 추천 스냅샷 파싱 실패: {}", e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 추천 프로젝트 (스냅샷에 있으면 메모리에서 바로 응답, 없으면 GitHub 검색)
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, Object>> getRecommendedProjects(int count, String category) {
+        Snapshot current = snapshot.get();
+        Map<String, Object> cached = current.getCategories().get(category);
+        if (cached == null || count > properties.getRecommendation().getMaxCount()
+                || isExpired(current.getRefreshedAt().get(category))) {
+            return ecosystemService.getRecommendedProjects(count, category);
+        }
+
+        // 스냅샷은 maxCount 개를 담고 있으므로 요청 개수만큼 잘라서 응답
+        Map<String, Object> search = (Map<String, Object>) cached.get("search");
+        List<Object> nodes = (List<Object>) search.getOrDefault("nodes", List.of());
+        Map<String, Object> sliced = new LinkedHashMap<>(search);
+        sliced.put("nodes", nodes.subList(0, Math.min(count, nodes.size())));
+        return Mono.just(Map.of("search", sliced));
+    }
+
+    // 가장 오래된 카테고리의 갱신 시각 (갱신에 실패해서 이전 값을 유지한 카테고리 포함)
+    public Instant getRefreshedAt() {
+        return snapshot.get().getRefreshedAt().values().stream()
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    /**
+     * 카테고리별 추천 프로젝트를 다시 조회해서 스냅샷 교체
+     */
+    @Scheduled(initialDelayString = "${github.recommendation.initial-delay:5s}",
+            fixedDelayString = "${github.recommendation.refresh-interval:30m}")
+    public void refresh() {
+        GithubApiProperties.Recommendation config = properties.getRecommendation();
+        if (!config.isEnabled() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Snapshot previous = snapshot.get();
+        Map<String, Map<String, Object>> categories = new LinkedHashMap<>();
+        Map<String, Instant> refreshedAt = new LinkedHashMap<>();
+        Flux.fromIterable(config.getCategories())
+                .concatMap(category -> ecosystemService
+                        .getRecommendedProjects(config.getMaxCount(), category, GitHubRateLimitGovernor.Priority.LOW)
+                        .doOnNext(result -> {
+                            categories.put(category, result);
+                            refreshedAt.put(category, Instant.now());
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("추천 스냅샷 갱신 실패 ({}), 이전 값 유지: {}", category, e.getMessage());
+                            Map<String, Object> carried = previous.getCategories().get(category);
+                            if (carried != null) {
+                                categories.put(category, carried);
+                                refreshedAt.put(category, previous.getRefreshedAt().get(category));
+                            }
+                            return Mono.empty();
+                        }))
+                .then()
+                .doFinally(signal -> refreshing.set(false))
+                .subscribe(null,
+                        error -> log.warn("추천 스냅샷 갱신 실패: {}", error.getMessage()),
+                        () -> {
+                            snapshot.set(new Snapshot(freeze(categories), Collections.unmodifiableMap(refreshedAt)));
+                            persist(categories, refreshedAt);
+                            log.info("추천 스냅샷 갱신: {}개 카테고리", categories.size());
+                        });
+    }
+
+    // maxAge 가 지난 스냅샷은 "현재" 추천으로 응답하지 않음
+    private boolean isExpired(Instant refreshedAt) {
+        return refreshedAt == null
+                || refreshedAt.plus(properties.getRecommendation().getMaxAge()).isBefore(Instant.now());
+    }
+
+    // 저장 시각은 가장 오래된 카테고리 기준 (이전 값을 유지한 카테고리가 재시작 후 새 값으로 보이지 않도록)
+    private void persist(Map<String, Map<String, Object>> categories, Map<String, Instant> refreshedAt) {
+        if (!responseStore.isEnabled() || categories.isEmpty()) {
+            return;
+        }
+        long fetchedAt = refreshedAt.values().stream()
+                .min(Comparator.naturalOrder())
+                .map(Instant::toEpochMilli)
+                .orElseGet(System::currentTimeMillis);
+        try {
+            responseStore.save(STORE_KEY, new DiskResponseStore.Entry(objectMapper.writeValueAsBytes(categories),
+                    null, null, null, fetchedAt));
+        } catch (IOException e) {
+            log.warn("추천 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 응답 Map 을 읽기 전용으로 감싸서 요청 처리 중 변경되지 않도록 함
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> freeze(Map<String, Map<String, Object>> categories) {
+        Map<String, Map<String, Object>> frozen = new LinkedHashMap<>();
+        categories.forEach((category, result) -> {
+            Map<String, Object> search = new LinkedHashMap<>((Map<String, Object>) result.getOrDefault("search", Map.of()));
+            search.put("nodes", Collections.unmodifiableList(
+                    new ArrayList<>((List<Object>) search.getOrDefault("nodes", List.of()))));
+            frozen.put(category, Map.of("search", Collections.unmodifiableMap(search)));
+        });
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        private final Map<String, Map<String, Object>> categories;
+        private final Map<String, Instant> refreshedAt; // 카테고리별 마지막 갱신 시각
+    }
+}
@@ -0,0 +1,71 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 조회수 상위 저장소 정보를 soft TTL 이 지나기 전에 미리 갱신
+ * 자주 보는 저장소는 사용자 요청이 백그라운드 갱신을 기다리지 않고 항상 신선한 값을 받도록 함
+ * 메모리에 모아둔 조회수는 갱신 여부와 관계없이 주기적으로, 그리고 종료할 때 DB 에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepositoryRefreshScheduler {
+
+    private final GithubApiProperties properties;
+    private final RepositoryService repositoryService;
+    private final GitHubApiService gitHubApiService;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @PreDestroy
+    @Scheduled(initialDelayString = "${github.freshness.view-flush-interval:1m}",
+            fixedDelayString = "${github.freshness.view-flush-interval:1m}")
+    public void flushViews() {
+        try {
+            repositoryService.flushViews();
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${github.freshness.refresh-initial-delay:1m}",
+            fixedDelayString = "${github.freshness.refresh-interval:15m}")
+    public void refreshMostViewed() {
+        if (!properties.getFreshness().isRefreshEnabled() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        GithubApiProperties.Freshness freshness = properties.getFreshness();
+        // 다음 갱신 전에 soft TTL 이 지날 저장소까지 미리 갱신
+        LocalDateTime threshold = LocalDateTime.now().minus(freshness.getSoftTtl()).plus(freshness.getRefreshInterval());
+
+        Mono.fromRunnable(repositoryService::flushViews)
+                .thenMany(Flux.defer(() -> Flux.fromIterable(repositoryService.findMostViewed(freshness.getRefreshTopN()))))
+                .filter(repository -> repository.getLastFetchedAt() == null
+                        || repository.getLastFetchedAt().isBefore(threshold))
+                .map(repository -> repository.getOwner() + "/" + repository.getName())
+                .collectList()
+                // 한 번에 요청해서 저장소 정보 조회가 배치로 묶임
+                .flatMapMany(gitHubApiService::refreshRepositoryInfos)
+                .count()
+                .doFinally(signal -> refreshing.set(false))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(count -> {
+                    if (count > 0) {
+                        log.info("조회수 상위 저장소 {}개 갱신", count);
+                    }
+                }, error -> log.warn("저장소 정보 주기 갱신 실패: {}", error.getMessage()));
+    }
+}
@@ -7,18 +7,33 @@ import com.ossdoctor.Repository.RepositoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class RepositoryService {
 
     private final RepositoryRepository repositoryRepository;
 
+    // 저장소별 아직 DB 에 반영하지 않은 조회수 (githubRepoId => 조회수)
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
     @Transactional
     public Optional<RepositoryDTO> findByGithubId(Long githubId) {
         return repositoryRepository.findByGithubRepoId(githubId)
@@ -29,6 +44,66 @@ public class RepositoryService {
         return toDTO(repositoryRepository.save(toEntity(dto)));
     }
 
+    @Transactional
+    public Optional<RepositoryDTO> findByFullNameIgnoreCase(String owner, String name) {
+        return repositoryRepository.findByOwnerIgnoreCaseAndNameIgnoreCase(owner, name)
+                .map(this::toDTO);
+    }
+
+    // GitHub 에서 한 번 이상 조회에 성공해서 저장된 저장소인지
+    public boolean existsByFullNameIgnoreCase(String owner, String name) {
+        return repositoryRepository.existsByOwnerIgnoreCaseAndNameIgnoreCase(owner, name);
+    }
+
+    /**
+     * GitHub 에서 가져온 정보로 저장 (있으면 갱신, 없으면 추가) => 마지막 조회 시각 기록
+     * 이미 있는 저장소는 저장된 값과 비교해서 바뀐 필드만 반영 => 커밋할 때 바뀐 컬럼만 UPDATE (@DynamicUpdate)
+     * 바뀐 값이 없으면 last_fetched_at 한 컬럼만 갱신, 토픽은 추가 / 삭제된 것만 INSERT / DELETE
+     */
+    @Transactional
+    public RepositoryDTO upsert(RepositoryDTO dto) {
+        LocalDateTime now = LocalDateTime.now();
+        return repositoryRepository.findByGithubRepoId(dto.getGithubRepoId())
+                .map(entity -> {
+                    List<String> changed = applyChanges(dto, entity);
+                    if (!changed.isEmpty()) {
+                        log.debug("저장소 정보 변경 {}/{}: {}", entity.getOwner(), entity.getName(), changed);
+                    }
+                    entity.setLastFetchedAt(now);
+                    return toDTO(entity); // 영속 상태 => 커밋할 때 dirty checking 으로 반영
+                })
+                .orElseGet(() -> {
+                    RepositoryEntity entity = toEntity(dto);
+                    entity.setLastFetchedAt(now);
+                    return toDTO(repositoryRepository.save(entity));
+                });
+    }
+
+    // 조회수는 요청마다 DB 에 쓰지 않고 메모리에 모아서 flushViews 로 반영
+    public void recordView(Long githubRepoId) {
+        if (githubRepoId != null) {
+            pendingViews.computeIfAbsent(githubRepoId, id -> new LongAdder()).increment();
+        }
+    }
+
+    @Transactional
+    public void flushViews() {
+        pendingViews.forEach((githubRepoId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                repositoryRepository.addViewCount(githubRepoId, count);
+            }
+        });
+    }
+
+    // 조회수 상위 저장소
+    @Transactional
+    public List<RepositoryDTO> findMostViewed(int limit) {
+        return repositoryRepository.findByOrderByViewCountDesc(PageRequest.of(0, limit)).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
     private RepositoryDTO toDTO(RepositoryEntity entity) {
 
         List<String> topics;
@@ -68,6 +143,7 @@ public class RepositoryService {
                 .totalIssues(entity.getTotalIssues())
                 .lastUpdatedAt(entity.getLastUpdatedAt())
                 .lastCommitedAt(entity.getLastCommitedAt())
+                .lastFetchedAt(entity.getLastFetchedAt())
                 .topics(topics)
                 .build();
     }
@@ -113,6 +189,67 @@ public class RepositoryService {
         return entity;
     }
 
+    /**
+     * GitHub 응답으로 채워지는 값 중 바뀐 것만 덮어씀 (idx, 조회수는 유지)
+     * @return 바뀐 필드 이름
+     */
+    private List<String> applyChanges(RepositoryDTO dto, RepositoryEntity entity) {
+        List<String> changed = new ArrayList<>();
+        change(changed, "name", entity.getName(), dto.getName(), entity::setName);
+        change(changed, "url", entity.getUrl(), dto.getUrl(), entity::setUrl);
+        change(changed, "owner", entity.getOwner(), dto.getOwner(), entity::setOwner);
+        change(changed, "language", entity.getLanguage(), dto.getLanguage(), entity::setLanguage);
+        change(changed, "sourceType", entity.getSourceType(), dto.getSourceType(), entity::setSourceType);
+        change(changed, "license", entity.getLicense(), dto.getLicense(), entity::setLicense);
+        change(changed, "star", entity.getStar(), dto.getStar(), entity::setStar);
+        change(changed, "fork", entity.getFork(), dto.getFork(), entity::setFork);
+        change(changed, "watchers", entity.getWatchers(), dto.getWatchers(), entity::setWatchers);
+        change(changed, "contributors", entity.getContributors(), dto.getContributors(), entity::setContributors);
+        change(changed, "totalContributors", entity.getTotalContributors(), dto.getTotalContributors(), entity::setTotalContributors);
+        change(changed, "description", entity.getDescription(), dto.getDescription(), entity::setDescription);
+        change(changed, "totalCommits", entity.getTotalCommits(), dto.getTotalCommits(), entity::setTotalCommits);
+        change(changed, "openPullRequests", entity.getOpenPullRequests(), dto.getOpenPullRequests(), entity::setOpenPullRequests);
+        change(changed, "mergedPullRequests", entity.getMergedPullRequests(), dto.getMergedPullRequests(), entity::setMergedPullRequests);
+        change(changed, "totalPullRequests", entity.getTotalPullRequests(), dto.getTotalPullRequests(), entity::setTotalPullRequests);
+        change(changed, "openIssues", entity.getOpenIssues(), dto.getOpenIssues(), entity::setOpenIssues);
+        change(changed, "closedIssues", entity.getClosedIssues(), dto.getClosedIssues(), entity::setClosedIssues);
+        change(changed, "totalIssues", entity.getTotalIssues(), dto.getTotalIssues(), entity::setTotalIssues);
+        change(changed, "lastUpdatedAt", entity.getLastUpdatedAt(), dto.getLastUpdatedAt(), entity::setLastUpdatedAt);
+        change(changed, "lastCommitedAt", entity.getLastCommitedAt(), dto.getLastCommitedAt(), entity::setLastCommitedAt);
+
+        if (dto.getTopics() != null && applyTopicChanges(dto.getTopics(), entity)) {
+            changed.add("topics");
+        }
+        return changed;
+    }
+
+    private static <T> void change(List<String> changed, String field, T stored, T fetched, Consumer<T> setter) {
+        if (!Objects.equals(stored, fetched)) {
+            setter.accept(fetched);
+            changed.add(field);
+        }
+    }
+
+    // 토픽은 순서와 관계없이 집합으로 비교 => 빠진 토픽만 삭제(orphanRemoval), 새 토픽만 추가
+    private boolean applyTopicChanges(List<String> fetchedTopics, RepositoryEntity entity) {
+        Set<String> fetched = new LinkedHashSet<>(fetchedTopics);
+        boolean removed = entity.getTopics().removeIf(topic -> !fetched.contains(topic.getTopic()));
+
+        Set<String> stored = new HashSet<>();
+        entity.getTopics().forEach(topic -> stored.add(topic.getTopic()));
+        boolean added = false;
+        for (String topic : fetched) {
+            if (stored.add(topic)) {
+                entity.getTopics().add(TopicEntity.builder()
+                        .topic(topic)
+                        .repository(entity)
+                        .build());
+                added = true;
+            }
+        }
+        return removed || added;
+    }
+
     @Transactional
     public RepositoryDTO findByFullName(String owner, String name) {
         return toDTO(repositoryRepository.findByOwnerAndName(owner, name)
@@ -1,19 +1,40 @@
 package com.ossdoctor.Service;
 
+import com.ossdoctor.DTO.RepositoryDTO;
+import com.ossdoctor.DTO.ScoreDTO;
+import com.ossdoctor.Entity.RepositoryEntity;
+import com.ossdoctor.Entity.SCORE_TYPE;
 import com.ossdoctor.Entity.ScoreEntity;
 import com.ossdoctor.Repository.ScoreRepository;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class ScoreService {
 
     private final ScoreRepository scoreRepository;
+    private final ScoreCalculatorService scoreCalculator;
+
+    // 저장소별 마지막 점수 스냅샷 (repository idx => 스냅샷)
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 저장소별 스냅샷 계산 / 저장 잠금 (DB 조회 / 저장을 ConcurrentHashMap.compute 안에서 하지 않도록 분리)
+    private final Map<Long, Lock> locks = new ConcurrentHashMap<>();
 
     // 저장소 ID로 점수 조회 (최소 형태)
     public Map<String, Integer> getScoresByRepositoryId(Long repositoryId) {
@@ -25,20 +46,126 @@ public class ScoreService {
         return scoreMap;
     }
 
-    // 점수 저장 기능 추가
-    public com.ossdoctor.DTO.ScoreDTO save(com.ossdoctor.DTO.ScoreDTO scoreDTO) {
-        ScoreEntity scoreEntity = ScoreEntity.builder()
-                .repository(com.ossdoctor.Entity.RepositoryEntity.builder().idx(scoreDTO.getRepositoryId()).build())
-                .scoreType(scoreDTO.getScoreType())
-                .score(scoreDTO.getScore())
-                .build();
-        ScoreEntity saved = scoreRepository.save(scoreEntity);
-        return com.ossdoctor.DTO.ScoreDTO.builder()
-                .idx(saved.getIdx())
-                .repositoryId(saved.getRepository().getIdx())
-                .scoreType(saved.getScoreType())
-                .score(saved.getScore())
-                .createdAt(saved.getCreatedAt())
+    /**
+     * 저장소 점수 스냅샷 (건강 / 소셜 / 종합 점수 + 세부 점수)
+     * - 점수 입력값(커밋, PR, 이슈, star, fork, watcher, 기여자 수, 최종 업데이트일)과 날짜(업데이트 점수가 날짜에 따라 바뀜)가
+     *   마지막 스냅샷과 같으면 계산 / 저장 없이 그대로 반환
+     * - 바뀌었을 때만 한 번 계산해서 점수 행 3개(HEALTH, SOCIAL, TOTAL)를 저장
+     * - 재시작 후에는 DB 의 마지막 행(input_hash, score_date)과 비교해서 같은 스냅샷을 다시 저장하지 않음
+     */
+    public Snapshot getSnapshot(RepositoryDTO repo) {
+        List<Object> inputs = inputs(repo);
+        LocalDate today = LocalDate.now();
+
+        Snapshot current = snapshots.get(repo.getIdx());
+        if (current != null && current.matches(inputs, today)) {
+            return current;
+        }
+        // 같은 저장소의 동시 요청은 한 번만 계산 / 저장 (다른 저장소는 기다리지 않음)
+        Lock lock = locks.computeIfAbsent(repo.getIdx(), idx -> new ReentrantLock());
+        lock.lock();
+        try {
+            Snapshot latest = snapshots.get(repo.getIdx());
+            if (latest != null && latest.matches(inputs, today)) {
+                return latest;
+            }
+            Snapshot recorded = record(repo, inputs, today);
+            snapshots.put(repo.getIdx(), recorded);
+            return recorded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot record(RepositoryDTO repo, List<Object> inputs, LocalDate today) {
+        Map<String, Integer> healthDetails = new LinkedHashMap<>();
+        healthDetails.put("commitScore", scoreCalculator.calculateCommitScore(repo.getTotalCommits()));
+        healthDetails.put("updateScore", scoreCalculator.calculateUpdateScore(repo.getLastUpdatedAt()));
+        healthDetails.put("prScore", scoreCalculator.calculatePRScore(repo.getMergedPullRequests()));
+        healthDetails.put("issueScore", scoreCalculator.calculateIssueScore(repo.getClosedIssues()));
+
+        Map<String, Integer> socialDetails = new LinkedHashMap<>();
+        socialDetails.put("starScore", scoreCalculator.calculateStarScore(repo.getStar()));
+        socialDetails.put("forkScore", scoreCalculator.calculateForkScore(repo.getFork()));
+        socialDetails.put("watcherScore", scoreCalculator.calculateWatcherScore(repo.getWatchers()));
+        socialDetails.put("contributorScore", scoreCalculator.calculateContributorScore(repo.getTotalContributors())); // 총 기여자 수 사용
+
+        int healthScore = sum(healthDetails);
+        int socialScore = sum(socialDetails);
+        int totalScore = (healthScore * 5 + socialScore * 2) / 10;
+
+        int inputHash = inputs.hashCode();
+        LocalDateTime createdAt = scoreRepository.findTopByRepositoryIdxOrderByIdxDesc(repo.getIdx())
+                .filter(stored -> Integer.valueOf(inputHash).equals(stored.getInputHash()) && today.equals(stored.getScoreDate()))
+                .map(ScoreEntity::getCreatedAt)
+                .orElseGet(() -> save(repo.getIdx(), inputHash, today, healthScore, socialScore, totalScore));
+
+        return new Snapshot(repo.getIdx(), inputs, today, healthScore, socialScore, totalScore,
+                healthDetails, socialDetails, createdAt);
+    }
+
+    private LocalDateTime save(Long repositoryId, int inputHash, LocalDate today,
+                               int healthScore, int socialScore, int totalScore) {
+        RepositoryEntity repository = RepositoryEntity.builder().idx(repositoryId).build();
+        List<ScoreEntity> saved = scoreRepository.saveAll(List.of(
+                scoreEntity(repository, SCORE_TYPE.HEALTH, healthScore, inputHash, today),
+                scoreEntity(repository, SCORE_TYPE.SOCIAL, socialScore, inputHash, today),
+                scoreEntity(repository, SCORE_TYPE.TOTAL, totalScore, inputHash, today)));
+        log.debug("점수 스냅샷 저장: repository={}, health={}, social={}, total={}", repositoryId, healthScore, socialScore, totalScore);
+        return saved.get(0).getCreatedAt();
+    }
+
+    private static ScoreEntity scoreEntity(RepositoryEntity repository, SCORE_TYPE type, int score, int inputHash, LocalDate today) {
+        return ScoreEntity.builder()
+                .repository(repository)
+                .scoreType(type)
+                .score(score)
+                .inputHash(inputHash)
+                .scoreDate(today)
                 .build();
     }
+
+    // 점수 계산에 쓰이는 값 (null 포함 가능)
+    private static List<Object> inputs(RepositoryDTO repo) {
+        return Arrays.asList(
+                repo.getTotalCommits(), repo.getLastUpdatedAt(), repo.getMergedPullRequests(), repo.getClosedIssues(),
+                repo.getStar(), repo.getFork(), repo.getWatchers(), repo.getTotalContributors());
+    }
+
+    private static int sum(Map<String, Integer> details) {
+        return details.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final Long repositoryId;
+        private final List<Object> inputs;
+        private final LocalDate scoreDate;
+        private final int healthScore;
+        private final int socialScore;
+        private final int totalScore;
+        private final Map<String, Integer> healthDetails;
+        private final Map<String, Integer> socialDetails;
+        private final LocalDateTime createdAt;
+
+        boolean matches(List<Object> inputs, LocalDate today) {
+            return this.inputs.equals(inputs) && scoreDate.equals(today);
+        }
+
+        public ScoreDTO toDTO(SCORE_TYPE type) {
+            int score = switch (type) {
+                case HEALTH -> healthScore;
+                case SOCIAL -> socialScore;
+                case TOTAL -> totalScore;
+                default -> throw new IllegalArgumentException("점수 스냅샷에 없는 점수 종류: " + type);
+            };
+            return ScoreDTO.builder()
+                    .repositoryId(repositoryId)
+                    .scoreType(type)
+                    .score(score)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
 }
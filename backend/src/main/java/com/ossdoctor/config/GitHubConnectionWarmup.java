@@ -0,0 +1,49 @@
+package com.ossdoctor.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * 서버 시작 후 GitHub 연결을 미리 열어둠
+ * - event loop, DNS resolver 초기화 (HttpClient.warmup)
+ * - /rate_limit 을 동시에 여러 번 호출해서 TLS 연결을 풀에 만들어 둠 (/rate_limit 은 한도를 소모하지 않음)
+ * 첫 사용자 요청이 연결 수립, TLS 핸드셰이크 비용을 내지 않도록 하기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubConnectionWarmup {
+
+    private final GithubApiProperties properties;
+    private final HttpClient githubHttpClient;
+    private final WebClient webClient;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        int connections = properties.getPool().getWarmupConnections();
+        if (connections <= 0) {
+            return;
+        }
+
+        githubHttpClient.warmup()
+                .thenMany(Flux.range(0, connections)
+                        .flatMap(i -> webClient.get()
+                                .uri("/rate_limit")
+                                .retrieve()
+                                .bodyToMono(JsonNode.class)
+                                .onErrorResume(e -> {
+                                    log.debug("GitHub 연결 예열 실패: {}", e.getMessage());
+                                    return Mono.empty();
+                                }), connections))
+                .count()
+                .subscribe(count -> log.info("GitHub 연결 예열 완료: {}/{}개", count, connections));
+    }
+}
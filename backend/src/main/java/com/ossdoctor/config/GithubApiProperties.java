@@ -3,6 +3,13 @@ package com.ossdoctor.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Data
 @Component
@@ -11,8 +18,33 @@ public class GithubApiProperties {
 
     private String token;
 
+    // 추가 토큰 목록 (token과 함께 토큰 풀로 사용)
+    private List<String> tokens = new ArrayList<>();
+
     private Api api = new Api();
 
+    private Cache cache = new Cache();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Batch batch = new Batch();
+
+    private History history = new History();
+
+    private Pool pool = new Pool();
+
+    private Store store = new Store();
+
+    private Retry retry = new Retry();
+
+    private Resilience resilience = new Resilience();
+
+    private Recommendation recommendation = new Recommendation();
+
+    private Webhook webhook = new Webhook();
+
+    private Freshness freshness = new Freshness();
+
     @Data
     public static class Api {
         private String baseUrl = "https://api.github.com";
@@ -21,5 +53,159 @@ public class GithubApiProperties {
         private int rateLimitMaxRetries = 3;
         private int cacheExpiryMinutes = 10;
         private int timeoutSeconds = 30;
+
+        // 응답 전체를 메모리에 올려서 디코딩할 때의 최대 크기 (스트리밍 디코딩은 제한 없음)
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(1);
+    }
+
+    @Data
+    public static class Cache {
+        // 캐시별 최대 항목 수
+        private int maxEntries = 1000;
+
+        // 캐시 이름별 TTL(분), 지정하지 않으면 api.cacheExpiryMinutes 사용
+        private Map<String, Integer> ttlMinutes = new HashMap<>();
+
+        // ETag / Last-Modified 보관 시간 (이 시간 동안은 304 재검증 가능)
+        private int validatorTtlHours = 24;
+    }
+
+    @Data
+    public static class RateLimit {
+        // 남은 한도가 limit * reserveRatio 이하가 되면 요청 간격 조절, 낮은 우선순위 요청은 리셋까지 대기
+        private double reserveRatio = 0.1;
+
+        // 한도 소진 시 사용자 요청이 리셋을 기다릴 수 있는 최대 시간
+        private int maxWaitSeconds = 30;
+    }
+
+    @Data
+    public static class Batch {
+        // 저장소 조회를 모으는 최대 대기 시간
+        private long windowMillis = 10;
+
+        // GraphQL 쿼리 하나에 담을 최대 저장소 수 (도달하면 바로 전송)
+        private int maxSize = 20;
+    }
+
+    @Data
+    public static class History {
+        // 커밋 이력 한 페이지 크기 (GitHub 최대 100)
+        private int pageSize = 100;
+
+        // 한 번에 조회할 최대 페이지 수 (pageSize * maxPages 커밋까지 집계)
+        private int maxPages = 50;
+    }
+
+    @Data
+    public static class Pool {
+        // api.github.com 연결 풀 크기
+        private int maxConnections = 50;
+
+        // 연결을 기다리는 요청 수 / 대기 시간 제한
+        private int pendingAcquireMaxCount = 500;
+        private int pendingAcquireTimeoutSeconds = 10;
+
+        // 유휴 연결, 오래된 연결 정리
+        private int maxIdleTimeSeconds = 30;
+        private int maxLifeTimeSeconds = 300;
+        private int evictInBackgroundSeconds = 30;
+
+        // gzip 응답 압축 사용
+        private boolean compress = true;
+
+        // HTTP/2 사용 (ALPN으로 협상, 안 되면 HTTP/1.1)
+        private boolean http2 = false;
+
+        // 시작할 때 미리 열어둘 연결 수 (0이면 사용 안 함)
+        private int warmupConnections = 4;
+    }
+
+    @Data
+    public static class Store {
+        // 디스크 응답 저장소 사용 여부 (재시작 후에도 응답/ETag 유지)
+        private boolean enabled = false;
+
+        private String directory = "./data/github-store";
+
+        // 살아있는 레코드 최대 크기, 넘으면 오래 사용하지 않은 항목부터 제거
+        private int maxSizeMb = 256;
+
+        // 세그먼트 파일 하나의 최대 크기
+        private int segmentSizeMb = 16;
+    }
+
+    @Data
+    public static class Retry {
+        // 일시적인 실패(네트워크, 5xx)의 지수 백오프 (재시도 횟수는 api.rateLimitMaxRetries)
+        private long initialBackoffMillis = 500;
+        private long maxBackoffMillis = 8000;
+
+        // Retry-After / X-RateLimit-Reset 대기 상한, 넘으면 재시도하지 않고 실패
+        private int maxRetryAfterSeconds = 60;
+    }
+
+    @Data
+    public static class Resilience {
+        // 서킷 브레이커: 최근 window-size 개 호출 중 실패 비율이 failure-rate-threshold 이상이면 차단
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+
+        // 이 시간보다 오래 걸린 호출은 실패로 집계
+        private int slowCallSeconds = 10;
+
+        // 차단 유지 시간, 이후 half-open-calls 개만 시험 호출
+        private int openSeconds = 30;
+        private int halfOpenCalls = 3;
+
+        // 작업별 동시 호출 상한 (넘으면 기다리지 않고 바로 실패)
+        private int maxConcurrentCalls = 20;
+
+        // 작업별 동시 호출 상한 재정의 (예: search: 5)
+        private Map<String, Integer> maxConcurrentCallsPerOperation = new HashMap<>();
+    }
+
+    @Data
+    public static class Recommendation {
+        // 추천 프로젝트 스냅샷 사용 여부 (false 면 요청마다 GitHub 검색)
+        private boolean enabled = true;
+
+        // 미리 만들어 둘 카테고리
+        private List<String> categories = new ArrayList<>(List.of("good-first-issues", "beginner-friendly", "trending"));
+
+        // 카테고리별로 저장할 프로젝트 수 (요청 count 가 이보다 크면 GitHub 에서 직접 조회)
+        private int maxCount = 30;
+
+        // 스냅샷 갱신 주기, 서버 시작 후 첫 갱신까지의 대기 시간
+        private Duration refreshInterval = Duration.ofMinutes(30);
+        private Duration initialDelay = Duration.ofSeconds(5);
+
+        // 이보다 오래된 스냅샷(재시작 전에 저장한 것, 갱신 실패로 유지한 것)은 쓰지 않고 GitHub 에서 직접 조회
+        private Duration maxAge = Duration.ofHours(2);
+    }
+
+    @Data
+    public static class Webhook {
+        // 웹훅 설정의 Secret (X-Hub-Signature-256 검증), 비어 있으면 모든 웹훅 요청 거부
+        private String secret = "";
+    }
+
+    @Data
+    public static class Freshness {
+        // DB 에 저장된 저장소 정보의 신선도
+        // soft TTL 이 지나면 저장된 값으로 바로 응답하고 백그라운드에서 갱신
+        // hard TTL 이 지나면 GitHub 에서 다시 가져온 뒤 응답
+        private Duration softTtl = Duration.ofHours(1);
+        private Duration hardTtl = Duration.ofHours(24);
+
+        // 조회수 상위 저장소를 주기적으로 미리 갱신
+        private boolean refreshEnabled = true;
+        private int refreshTopN = 20;
+        private Duration refreshInterval = Duration.ofMinutes(15);
+        private Duration refreshInitialDelay = Duration.ofMinutes(1);
+
+        // 메모리에 모아둔 조회수를 DB 에 반영하는 주기 (refreshEnabled 와 관계없이 동작)
+        private Duration viewFlushInterval = Duration.ofMinutes(1);
     }
 }
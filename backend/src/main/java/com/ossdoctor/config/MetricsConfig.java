@@ -0,0 +1,156 @@
+package com.ossdoctor.config;
+
+import com.ossdoctor.DTO.RateLimitDTO;
+import com.ossdoctor.Service.GitHubRateLimitGovernor;
+import com.ossdoctor.Service.GitHubRetryPolicy;
+import com.ossdoctor.Service.GitHubTokenPool;
+import com.ossdoctor.util.RateLimitBudget;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 직접 등록하는 메트릭 (Prometheus 이름은 . => _)
+ * - GitHub 리소스별 남은 한도 / 전체 한도 (모든 토큰 합, 토큰별), 한도 리셋 대기 요청 수, GraphQL 쿼리 비용
+ * - GitHub 호출 실패 원인별 재시도 / 포기 횟수
+ * - boundedElastic 스케줄러의 스레드 수 / 대기 작업 수 (블로킹 DB 작업이 몰리는지 확인)
+ * HTTP 엔드포인트(http.server.requests), Hikari(hikaricp.*), JVM 메트릭은 Spring Boot 가 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> RATE_LIMIT_RESOURCES = List.of(
+            GitHubRateLimitGovernor.CORE, GitHubRateLimitGovernor.GRAPHQL, GitHubRateLimitGovernor.SEARCH);
+
+    @Bean
+    public MeterBinder gitHubRateLimitMetrics(GitHubRateLimitGovernor governor, GitHubTokenPool tokenPool) {
+        return registry -> {
+            // 아직 응답을 받지 않은 리소스는 NaN (Prometheus 에서 값 없음)
+            for (String resource : RATE_LIMIT_RESOURCES) {
+                Gauge.builder("github.ratelimit.remaining", governor, rateLimit(resource, RateLimitDTO::getRemaining))
+                        .description("GitHub 남은 요청 한도 (모든 토큰 합)")
+                        .tag("resource", resource)
+                        .register(registry);
+                Gauge.builder("github.ratelimit.limit", governor, rateLimit(resource, RateLimitDTO::getLimit))
+                        .description("GitHub 요청 한도 (모든 토큰 합)")
+                        .tag("resource", resource)
+                        .register(registry);
+            }
+            // 토큰별 한도 (token 태그는 토큰 원문이 아닌 token-1, token-2 ... 식별자)
+            for (GitHubTokenPool.TokenSlot slot : tokenPool.getSlots()) {
+                for (String resource : RATE_LIMIT_RESOURCES) {
+                    RateLimitBudget budget = slot.budget(resource);
+                    Gauge.builder("github.ratelimit.token.remaining", budget, b -> known(b, b.getRemaining()))
+                            .description("토큰별 GitHub 남은 요청 한도")
+                            .tag("token", slot.getId())
+                            .tag("resource", resource)
+                            .register(registry);
+                    Gauge.builder("github.ratelimit.token.limit", budget, b -> known(b, b.getLimit()))
+                            .description("토큰별 GitHub 요청 한도")
+                            .tag("token", slot.getId())
+                            .tag("resource", resource)
+                            .register(registry);
+                    Gauge.builder("github.ratelimit.token.exhausted", budget, b -> b.isExhausted(System.currentTimeMillis()) ? 1 : 0)
+                            .description("토큰의 한도가 소진되어 리셋까지 순환에서 제외 중이면 1")
+                            .tag("token", slot.getId())
+                            .tag("resource", resource)
+                            .register(registry);
+                }
+            }
+            Gauge.builder("github.ratelimit.queued", governor, GitHubRateLimitGovernor::getQueuedCount)
+                    .description("한도 리셋을 기다리는 요청 수")
+                    .register(registry);
+
+            FunctionCounter.builder("github.graphql.cost", governor, GitHubRateLimitGovernor::getTotalGraphQLCost)
+                    .description("GraphQL 쿼리 비용 합 (rateLimit.cost)")
+                    .register(registry);
+            Gauge.builder("github.graphql.cost.last", governor, rateLimit(GitHubRateLimitGovernor.GRAPHQL, RateLimitDTO::getLastCost))
+                    .description("마지막 GraphQL 쿼리 비용")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder gitHubRetryMetrics(GitHubRetryPolicy retryPolicy) {
+        return registry -> {
+            for (GitHubRetryPolicy.Cause cause : GitHubRetryPolicy.Cause.values()) {
+                String tag = cause.name().toLowerCase(Locale.ROOT);
+                FunctionCounter.builder("github.retries", retryPolicy, policy -> policy.retryCount(cause))
+                        .description("GitHub 호출 재시도 횟수 (실패 원인별)")
+                        .tag("cause", tag)
+                        .register(registry);
+                FunctionCounter.builder("github.retry.failures", retryPolicy, policy -> policy.failureCount(cause))
+                        .description("재시도하지 않고 실패로 끝난 GitHub 호출 수 (실패 원인별)")
+                        .tag("cause", tag)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder boundedElasticSchedulerMetrics() {
+        return registry -> {
+            Scheduler scheduler = Schedulers.boundedElastic();
+            Gauge.builder("reactor.scheduler.threads", scheduler, s -> workers(s).count())
+                    .description("boundedElastic 에 살아 있는 스레드 수")
+                    .tag("scheduler", "boundedElastic")
+                    .register(registry);
+            Gauge.builder("reactor.scheduler.threads.active", scheduler, s -> workers(s).filter(worker -> outstanding(worker) > 0).count())
+                    .description("작업을 실행 중인 boundedElastic 스레드 수")
+                    .tag("scheduler", "boundedElastic")
+                    .register(registry);
+            Gauge.builder("reactor.scheduler.threads.max", scheduler, s -> intAttr(Scannable.from(s), Scannable.Attr.CAPACITY))
+                    .description("boundedElastic 최대 스레드 수")
+                    .tag("scheduler", "boundedElastic")
+                    .register(registry);
+            // 스레드마다 한 작업씩 실행 중이므로 나머지는 큐에서 대기
+            Gauge.builder("reactor.scheduler.tasks.queued", scheduler,
+                            s -> workers(s).mapToInt(worker -> Math.max(0, outstanding(worker) - 1)).sum())
+                    .description("boundedElastic 스레드 큐에서 대기 중인 작업 수")
+                    .tag("scheduler", "boundedElastic")
+                    .register(registry);
+        };
+    }
+
+    private static <T> ToDoubleFunction<GitHubRateLimitGovernor> rateLimit(String resource, Function<RateLimitDTO, T> field) {
+        return governor -> {
+            RateLimitDTO rateLimit = governor.snapshot().get(resource);
+            T value = rateLimit == null ? null : field.apply(rateLimit);
+            return value instanceof Number number ? number.doubleValue() : Double.NaN;
+        };
+    }
+
+    // 아직 응답을 받지 않았거나 리셋 시각이 지난 한도는 NaN
+    private static double known(RateLimitBudget budget, int value) {
+        return budget.isKnown(System.currentTimeMillis()) ? value : Double.NaN;
+    }
+
+    // boundedElastic 의 작업 스레드 (스레드 하나 = 단일 스레드 executor 하나)
+    // Schedulers.boundedElastic() 는 공유 인스턴스를 감싼 객체라 inners() 가 비어 있으므로 안쪽 스케줄러를 꺼내서 조회
+    private static Stream<? extends Scannable> workers(Scheduler scheduler) {
+        Object target = scheduler instanceof Supplier<?> cached ? cached.get() : scheduler;
+        return Scannable.from(target).inners();
+    }
+
+    // 스레드에 제출됐지만 끝나지 않은 작업 수 (실행 중 포함)
+    private static int outstanding(Scannable worker) {
+        return intAttr(worker, Scannable.Attr.BUFFERED);
+    }
+
+    private static int intAttr(Scannable scannable, Scannable.Attr<Integer> attr) {
+        Integer value = scannable.scan(attr);
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ossdoctor.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 백그라운드 작업 (추천 스냅샷 갱신 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,12 +3,18 @@ package com.ossdoctor.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import com.ossdoctor.Service.GitHubConnectionPoolMonitor;
+import com.ossdoctor.Service.GitHubRateLimitGovernor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -18,20 +24,57 @@ import java.util.concurrent.TimeUnit;
 public class WebClientConfig {
 
     private final GithubApiProperties properties;
+    private final GitHubRateLimitGovernor rateLimitGovernor;
+    private final GitHubConnectionPoolMonitor poolMonitor;
+
+    // api.github.com 전용 연결 풀 (연결/TLS 핸드셰이크 재사용)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider githubConnectionProvider() {
+        GithubApiProperties.Pool pool = properties.getPool();
+
+        return ConnectionProvider.builder("github")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofSeconds(pool.getPendingAcquireTimeoutSeconds()))
+                .maxIdleTime(Duration.ofSeconds(pool.getMaxIdleTimeSeconds()))
+                .maxLifeTime(Duration.ofSeconds(pool.getMaxLifeTimeSeconds()))
+                .evictInBackground(Duration.ofSeconds(pool.getEvictInBackgroundSeconds()))
+                .metrics(true, () -> poolMonitor) // 사용 중 / 유휴 / 대기 연결 수 수집
+                .build();
+    }
 
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+    public HttpClient githubHttpClient(ConnectionProvider githubConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(githubConnectionProvider)
+                .compress(properties.getPool().isCompress()) // Accept-Encoding: gzip
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getApi().getTimeoutSeconds() * 1000)
                 .responseTimeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds()))
                 .doOnConnected(connection ->
                         connection.addHandlerLast(new ReadTimeoutHandler(properties.getApi().getTimeoutSeconds(), TimeUnit.SECONDS))
                                 .addHandlerLast(new WriteTimeoutHandler(properties.getApi().getTimeoutSeconds(), TimeUnit.SECONDS)));
 
+        if (properties.getPool().isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+
+    @Bean
+    public WebClient webClient(HttpClient githubHttpClient) {
         return WebClient.builder()
                 .baseUrl(properties.getApi().getBaseUrl())
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .clientConnector(new ReactorClientHttpConnector(githubHttpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) properties.getApi().getMaxInMemorySize().toBytes()))
+                .filter(rateLimitGovernor.exchangeFilter())
+                .build();
+    }
+
+    // OAuth 처리용 (요청마다 새로 만들지 않고 공유)
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        return builder
+                .connectTimeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds()))
+                .readTimeout(Duration.ofSeconds(properties.getApi().getTimeoutSeconds()))
                 .build();
     }
 }
@@ -1,12 +1,16 @@
 package com.ossdoctor.controller;
 
+import com.ossdoctor.DTO.ApiStatusDTO;
 import com.ossdoctor.DTO.RepositoryDTO;
 import com.ossdoctor.Service.DiagnoseService;
 import com.ossdoctor.Service.GitHubApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
@@ -44,6 +48,29 @@ public class DiagnoseController {
                 .doOnSuccess(response -> log.info("✅ 진단 완료: {}/{}", owner, repo));
     }
 
+    /**
+     * 저장소 전체 진단 (SSE) - 섹션이 준비되는 대로 이벤트로 전송
+     * event: repository, contributors, languages, commitActivities, recentActivities, scores => complete
+     * 저장소 정보 조회 실패 시 error 이벤트 후 종료
+     */
+    @GetMapping(value = "/{owner}/{repo}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamDiagnosis(
+            @PathVariable String owner,
+            @PathVariable String repo) {
+
+        log.info("🔍 진단 스트리밍 요청: {}/{}", owner, repo);
+
+        return diagnoseService.streamDiagnosisData(owner, repo)
+                .map(section -> ServerSentEvent.builder()
+                        .event(section.getName())
+                        .data(section.getData())
+                        .build())
+                .onErrorResume(throwable -> Mono.just(ServerSentEvent.builder()
+                        .event("error")
+                        .data((Object) createErrorResponse(throwable))
+                        .build()));
+    }
+
     /**
      * 저장소 기본 정보만 조회
      * @param owner 저장소 소유자
@@ -65,6 +92,16 @@ public class DiagnoseController {
                 });
     }
 
+    /**
+     * GitHub API 토큰 및 리소스별 요청 한도 상태 조회
+     * @return 토큰 유효 여부, core/graphql/search 한도, 대기 중인 요청 수
+     */
+    @GetMapping("/api-status")
+    public Mono<ResponseEntity<ApiStatusDTO>> getApiStatus() {
+        return gitHubApiService.getApiStatus()
+                .map(ResponseEntity::ok);
+    }
+
     // 에러 응답 생성
     private Map<String, Object> createErrorResponse(Throwable throwable) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -0,0 +1,50 @@
+package com.ossdoctor.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.Service.GitHubWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class WebhookController {
+
+    private final GitHubWebhookService webhookService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * GitHub 웹훅 수신 (push, issues, pull_request, star, fork, release)
+     * 서명은 원본 본문으로 검증해야 하므로 byte[] 로 받은 뒤 파싱
+     */
+    @PostMapping("/github")
+    public ResponseEntity<Map<String, Object>> receiveGitHubWebhook(
+            @RequestHeader("X-GitHub-Event") String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] body) {
+
+        if (!webhookService.verifySignature(body, signature)) {
+            log.warn("웹훅 서명 검증 실패: {} ({})", event, deliveryId);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "invalid signature"));
+        }
+
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "invalid payload"));
+        }
+
+        boolean applied = webhookService.handle(event, deliveryId, payload);
+        return ResponseEntity.ok(Map.of("event", event, "applied", applied));
+    }
+}
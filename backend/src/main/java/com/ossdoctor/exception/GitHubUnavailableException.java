@@ -0,0 +1,9 @@
+package com.ossdoctor.exception;
+
+// 서킷 브레이커 차단 / 동시 호출 상한 초과로 GitHub 를 호출하지 않은 경우
+public class GitHubUnavailableException extends GitHubApiException {
+
+    public GitHubUnavailableException(String message) {
+        super(message);
+    }
+}
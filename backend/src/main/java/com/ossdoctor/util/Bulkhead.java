@@ -0,0 +1,51 @@
+package com.ossdoctor.util;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 호출 수 제한
+ * - 한 작업이 느려져도 연결 풀과 스레드를 모두 차지하지 않도록 작업별 상한을 둠
+ * - 상한에 도달하면 기다리지 않고 바로 거절 (대기열은 연결 풀에 이미 있음)
+ */
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int maxConcurrentCalls;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrentCalls) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = active.get();
+            if (current >= maxConcurrentCalls) {
+                rejected.increment();
+                return false;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        active.decrementAndGet();
+    }
+
+    public int getActiveCalls() {
+        return active.get();
+    }
+
+    public long getRejectedCalls() {
+        return rejected.sum();
+    }
+}
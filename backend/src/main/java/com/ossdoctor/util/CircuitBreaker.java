@@ -0,0 +1,167 @@
+package com.ossdoctor.util;
+
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * 호출 결과를 보고 연속된 장애 시 호출을 차단하는 서킷 브레이커
+ * - CLOSED: 최근 windowSize 개 호출 중 실패(느린 호출 포함) 비율이 임계값을 넘으면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 실패
+ * - HALF_OPEN: openDuration 이 지나면 halfOpenCalls 개만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 어떤 에러를 실패로 볼지는 recordFailure 로 지정 (404 같은 사용자 입력 오류는 제외)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration slowCallDuration;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Predicate<Throwable> recordFailure;
+    private final Clock clock;
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long rejected;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallDuration, Duration openDuration, int halfOpenCalls,
+                          Predicate<Throwable> recordFailure) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallDuration, openDuration, halfOpenCalls,
+                recordFailure, Clock.systemUTC());
+    }
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallDuration, Duration openDuration, int halfOpenCalls,
+                          Predicate<Throwable> recordFailure, Clock clock) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+        this.recordFailure = recordFailure;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출해도 되는지 확인 (OPEN 이면 false)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openDuration.toMillis()) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                rejected++;
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public void onSuccess(long elapsedMillis) {
+        record(elapsedMillis >= slowCallDuration.toMillis());
+    }
+
+    public void onError(Throwable error, long elapsedMillis) {
+        if (recordFailure.test(error)) {
+            record(true);
+        } else {
+            onSuccess(elapsedMillis); // 호출 자체는 정상 (예: 404)
+        }
+    }
+
+    // 구독 취소 등 결과 없이 끝난 호출의 시험 호출 권한 반납
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0.0 : (double) failures / recorded;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return recorded;
+    }
+
+    public synchronized long getRejectedCalls() {
+        return rejected;
+    }
+
+    private synchronized void record(boolean failed) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // 열리기 전에 시작된 호출의 결과
+        }
+
+        if (recorded == windowSize) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failed;
+        if (failed) {
+            failures++;
+        }
+        position = (position + 1) % windowSize;
+
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
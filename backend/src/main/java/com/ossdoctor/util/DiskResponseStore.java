@@ -0,0 +1,388 @@
+package com.ossdoctor.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 디스크에 저장하는 응답 저장소 (재시작 후에도 유지)
+ * - 세그먼트 파일(segment-N.log)에 레코드를 뒤에 덧붙이기만 함 (append-only)
+ * - 메모리에는 키 => 파일 위치 인덱스만 두고, 본문은 조회할 때 파일에서 읽음
+ * - 시작할 때 세그먼트를 순서대로 읽어서 인덱스 복구 (같은 키는 나중 레코드가 우선, 깨진 꼬리는 잘라냄)
+ * - 살아있는 레코드 크기가 maxBytes 를 넘으면 가장 오래 사용하지 않은 키부터 제거 (LRU)
+ * - 파일에 남은 쓰레기가 살아있는 레코드보다 많아지면 살아있는 레코드만 새 세그먼트로 옮기고 이전 세그먼트 삭제
+ * 파일 입출력은 블로킹이므로 boundedElastic 등에서 호출해야 함
+ */
+@Slf4j
+public class DiskResponseStore implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // 레코드 헤더: MAGIC(4) + payload 길이(4), 꼬리: CRC32(4)
+    private static final int MAGIC = 0x4F534452;
+    private static final int HEADER_SIZE = 8;
+    private static final int CRC_SIZE = 4;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long segmentMaxBytes;
+
+    // access-order => 가장 오래 사용하지 않은 키가 맨 앞
+    private final LinkedHashMap<String, Location> index = new LinkedHashMap<>(16, 0.75f, true);
+    private final TreeMap<Long, FileChannel> segments = new TreeMap<>();
+
+    private long activeSegment;
+    private long liveBytes;   // 인덱스가 가리키는 레코드 크기 합
+    private long totalBytes;  // 세그먼트 파일 크기 합
+
+    private long hits;
+    private long misses;
+    private long writes;
+    private long evictions;
+    private long compactions;
+
+    public DiskResponseStore(Path directory, long maxBytes, long segmentMaxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentMaxBytes = segmentMaxBytes;
+
+        Files.createDirectories(directory);
+        load();
+    }
+
+    public synchronized Optional<Entry> get(String key) {
+        Location location = index.get(key);
+        if (location == null) {
+            misses++;
+            return Optional.empty();
+        }
+
+        try {
+            Record record = decode(read(location));
+            hits++;
+            return Optional.of(record.entry);
+        } catch (IOException e) {
+            log.warn("응답 저장소 읽기 실패 ({}), 항목 제거: {}", key, e.getMessage());
+            drop(key);
+            misses++;
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void put(String key, Entry entry) throws IOException {
+        append(key, encode(key, entry));
+        writes++;
+        evictIfNeeded();
+        compactIfNeeded();
+    }
+
+    public synchronized void remove(String key) throws IOException {
+        if (index.containsKey(key)) {
+            append(key, encode(key, null)); // 삭제 표시 (재시작 시 복구되지 않도록)
+            drop(key);
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(index.size(), liveBytes, totalBytes, maxBytes, segments.size(),
+                hits, misses, writes, evictions, compactions);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (FileChannel channel : segments.values()) {
+            channel.force(false);
+            channel.close();
+        }
+        segments.clear();
+    }
+
+    // ========== 세그먼트 관리 ==========
+
+    private void load() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> ids.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        ids.sort(null);
+
+        for (long id : ids) {
+            FileChannel channel = open(id);
+            segments.put(id, channel);
+            totalBytes += recover(id, channel);
+        }
+
+        activeSegment = ids.isEmpty() ? 0 : ids.get(ids.size() - 1);
+        if (ids.isEmpty()) {
+            segments.put(activeSegment, open(activeSegment));
+        }
+
+        evictIfNeeded();
+        log.info("응답 저장소 로드: {}개 항목, {}KB (세그먼트 {}개)", index.size(), liveBytes / 1024, segments.size());
+    }
+
+    // 세그먼트를 처음부터 읽어서 인덱스 복구, 유효한 길이 반환 (깨진 꼬리는 잘라냄)
+    private long recover(long id, FileChannel channel) throws IOException {
+        long size = channel.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (offset + HEADER_SIZE <= size) {
+            header.clear();
+            channel.read(header, offset);
+            header.flip();
+            int magic = header.getInt();
+            int payloadLength = header.getInt();
+            int recordSize = HEADER_SIZE + payloadLength + CRC_SIZE;
+            if (magic != MAGIC || payloadLength < 0 || offset + recordSize > size) {
+                break;
+            }
+
+            Location location = new Location(id, offset, recordSize);
+            Record record;
+            try {
+                record = decode(read(location));
+            } catch (IOException e) {
+                break;
+            }
+
+            drop(record.key);
+            if (record.entry != null) {
+                index.put(record.key, location);
+                liveBytes += recordSize;
+            }
+            offset += recordSize;
+        }
+
+        if (offset < size) {
+            log.warn("응답 저장소 세그먼트 {}의 손상된 꼬리 {}바이트 제거", id, size - offset);
+            channel.truncate(offset);
+        }
+        return offset;
+    }
+
+    private void append(String key, byte[] record) throws IOException {
+        FileChannel channel = segments.get(activeSegment);
+        if (channel.size() > 0 && channel.size() + record.length > segmentMaxBytes) {
+            activeSegment++;
+            channel = open(activeSegment);
+            segments.put(activeSegment, channel);
+        }
+
+        long offset = channel.size();
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        totalBytes += record.length;
+
+        drop(key);
+        index.put(key, new Location(activeSegment, offset, record.length));
+        liveBytes += record.length;
+    }
+
+    private void drop(String key) {
+        Location previous = index.remove(key);
+        if (previous != null) {
+            liveBytes -= previous.size;
+        }
+    }
+
+    // 용량 초과 => 가장 오래 사용하지 않은 항목부터 인덱스에서 제거 (파일 공간은 압축 때 회수)
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Location>> eldest = index.entrySet().iterator();
+        while (liveBytes > maxBytes && eldest.hasNext()) {
+            liveBytes -= eldest.next().getValue().size;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    // 쓰레기가 살아있는 레코드보다 많으면 살아있는 레코드만 새 세그먼트로 복사
+    private void compactIfNeeded() throws IOException {
+        long garbage = totalBytes - liveBytes;
+        if (garbage <= Math.max(liveBytes, segmentMaxBytes)) {
+            return;
+        }
+
+        List<Long> oldSegments = new ArrayList<>(segments.keySet());
+        activeSegment = oldSegments.get(oldSegments.size() - 1) + 1;
+        segments.put(activeSegment, open(activeSegment));
+
+        // LRU 순서(오래된 것부터) 그대로 옮겨서 재시작 후에도 순서 유지
+        Map<String, Location> live = new LinkedHashMap<>(index);
+        index.clear();
+        liveBytes = 0;
+        totalBytes = 0;
+        for (Map.Entry<String, Location> entry : live.entrySet()) {
+            append(entry.getKey(), read(entry.getValue()));
+        }
+
+        for (long id : oldSegments) {
+            segments.remove(id).close();
+            Files.deleteIfExists(segmentPath(id));
+        }
+        compactions++;
+        log.info("응답 저장소 압축: {}KB 회수, {}개 항목 유지", garbage / 1024, index.size());
+    }
+
+    private FileChannel open(long id) throws IOException {
+        return FileChannel.open(segmentPath(id),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+    }
+
+    private byte[] read(Location location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.size);
+        FileChannel channel = segments.get(location.segment);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, location.offset + buffer.position()) < 0) {
+                throw new IOException("세그먼트가 예상보다 짧음");
+            }
+        }
+        return buffer.array();
+    }
+
+    // ========== 레코드 인코딩 ==========
+
+    // entry 가 null 이면 삭제 표시 레코드
+    private byte[] encode(String key, Entry entry) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeUTF(key);
+        if (entry == null) {
+            out.writeLong(0);
+            writeNullable(out, null);
+            writeNullable(out, null);
+            writeNullable(out, null);
+            out.writeInt(-1);
+        } else {
+            out.writeLong(entry.getFetchedAt());
+            writeNullable(out, entry.getEtag());
+            writeNullable(out, entry.getLastModified());
+            writeNullable(out, entry.getLink());
+            out.writeInt(entry.getBody().length);
+            out.write(entry.getBody());
+        }
+        out.flush();
+
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        return ByteBuffer.allocate(HEADER_SIZE + bytes.length + CRC_SIZE)
+                .putInt(MAGIC)
+                .putInt(bytes.length)
+                .put(bytes)
+                .putInt((int) crc.getValue())
+                .array();
+    }
+
+    private Record decode(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("레코드 헤더 불일치");
+        }
+        int payloadLength = buffer.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(record, HEADER_SIZE, payloadLength);
+        if ((int) crc.getValue() != buffer.getInt(HEADER_SIZE + payloadLength)) {
+            throw new IOException("레코드 CRC 불일치");
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record, HEADER_SIZE, payloadLength));
+        String key = in.readUTF();
+        long fetchedAt = in.readLong();
+        String etag = readNullable(in);
+        String lastModified = readNullable(in);
+        String link = readNullable(in);
+        int bodyLength = in.readInt();
+        if (bodyLength < 0) {
+            return new Record(key, null);
+        }
+        byte[] body = new byte[bodyLength];
+        in.readFully(body);
+        return new Record(key, new Entry(body, etag, lastModified, link, fetchedAt));
+    }
+
+    private void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @AllArgsConstructor
+    private static class Location {
+        private final long segment;
+        private final long offset;
+        private final int size;
+    }
+
+    @AllArgsConstructor
+    private static class Record {
+        private final String key;
+        private final Entry entry; // null => 삭제 표시
+    }
+
+    /**
+     * 저장된 응답 (본문은 JSON 바이트)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final byte[] body;
+        private final String etag;
+        private final String lastModified;
+        private final String link;
+        private final long fetchedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int entries;
+        private final long liveBytes;
+        private final long totalBytes;
+        private final long maxBytes;
+        private final int segments;
+        private final long hits;
+        private final long misses;
+        private final long writes;
+        private final long evictions;
+        private final long compactions;
+    }
+}
@@ -0,0 +1,253 @@
+package com.ossdoctor.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 응답 본문(DataBuffer 스트림)을 토큰 단위로 읽어서 지정한 경로의 값만 하나씩 꺼내는 디코더
+ * - 전체 JSON 트리를 만들지 않고, 경로에 해당하는 값(레코드)만 TokenBuffer 에 모아서 전달
+ * - 지정하지 않은 경로는 읽고 버리므로 메모리는 레코드 하나 크기만큼만 사용
+ * - 경로는 "." 으로 구분, "*" 는 아무 필드 이름 또는 배열 원소
+ *   예) "data.search.nodes.*", "data.*", "errors.*"
+ */
+public class JsonStreamDecoder {
+
+    public static final String ANY = "*";
+
+    private final ObjectMapper objectMapper;
+    private final List<String[]> patterns = new ArrayList<>();
+
+    public JsonStreamDecoder(ObjectMapper objectMapper, Collection<String> paths) {
+        this.objectMapper = objectMapper;
+        for (String path : paths) {
+            patterns.add(path.split("\\."));
+        }
+    }
+
+    /**
+     * 본문을 읽으면서 경로에 해당하는 레코드를 문서 순서대로 전달
+     */
+    public Flux<Record> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            Session session = new Session();
+            return body
+                    .concatMapIterable(session::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(session.finish())))
+                    .doFinally(signal -> session.close());
+        });
+    }
+
+    // 경로 패턴 매칭 (현재 경로 + 새로 시작하는 값의 이름)
+    private boolean matches(Deque<String> path, String last) {
+        for (String[] pattern : patterns) {
+            if (pattern.length != path.size() + 1) {
+                continue;
+            }
+            int i = 0;
+            boolean matched = true;
+            for (String segment : path) {
+                if (!matchesSegment(pattern[i++], segment)) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched && matchesSegment(pattern[i], last)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesSegment(String pattern, String segment) {
+        return ANY.equals(pattern) || pattern.equals(segment);
+    }
+
+    /**
+     * 응답 하나를 읽는 동안의 파서 상태
+     */
+    private class Session {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        // 현재 위치의 경로 (배열 원소는 "*")
+        private final Deque<String> path = new ArrayDeque<>();
+        // 컨테이너마다 배열 여부 (배열이면 원소의 경로가 "*")
+        private final Deque<Boolean> containers = new ArrayDeque<>();
+
+        // 레코드를 모으는 중이면 not null
+        private TokenBuffer capture;
+        private List<String> capturePath;
+        private int captureDepth;
+
+        Session() {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<Record> feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<Record> finish() {
+            feeder.endOfInput();
+            try {
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 이미 읽기가 끝난 파서
+            }
+        }
+
+        // 지금까지 들어온 바이트로 읽을 수 있는 토큰을 모두 처리
+        private List<Record> drain() throws IOException {
+            List<Record> records = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                // 레코드를 모으는 중: 레코드가 끝날 때까지 토큰 복사
+                if (capture != null) {
+                    capture.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        captureDepth++;
+                    } else if (token.isStructEnd()) {
+                        captureDepth--;
+                    }
+                    if (captureDepth == 0) {
+                        records.add(completeCapture());
+                    }
+                    continue;
+                }
+
+                if (token == JsonToken.FIELD_NAME) {
+                    continue;
+                }
+
+                if (token.isStructEnd()) {
+                    containers.pop();
+                    if (!containers.isEmpty()) {
+                        path.removeLast();
+                    }
+                    continue;
+                }
+
+                // 최상위 값은 경로 없음
+                if (containers.isEmpty()) {
+                    if (token.isStructStart()) {
+                        containers.push(token == JsonToken.START_ARRAY);
+                    }
+                    continue;
+                }
+
+                // 새 값의 시작: 경로가 패턴과 맞으면 레코드로 모음
+                String segment = containers.peek() ? ANY : parser.currentName();
+                if (matches(path, segment)) {
+                    capturePath = new ArrayList<>(path);
+                    capturePath.add(segment);
+                    capture = new TokenBuffer(parser, null);
+                    capture.copyCurrentEvent(parser);
+                    captureDepth = token.isStructStart() ? 1 : 0;
+                    if (captureDepth == 0) {
+                        records.add(completeCapture()); // 스칼라 값
+                    }
+                    continue;
+                }
+
+                // 패턴 밖의 객체/배열은 안으로 들어가서 계속 탐색 (스칼라는 버림)
+                if (token.isStructStart()) {
+                    containers.push(token == JsonToken.START_ARRAY);
+                    path.addLast(segment);
+                }
+            }
+            return records;
+        }
+
+        private Record completeCapture() {
+            Record record = new Record(capturePath, capture, objectMapper);
+            capture = null;
+            capturePath = null;
+            return record;
+        }
+    }
+
+    /**
+     * 경로에 해당하는 값 하나
+     */
+    public static class Record {
+        private final List<String> path;
+        private final TokenBuffer tokens;
+        private final ObjectMapper objectMapper;
+
+        Record(List<String> path, TokenBuffer tokens, ObjectMapper objectMapper) {
+            this.path = path;
+            this.tokens = tokens;
+            this.objectMapper = objectMapper;
+        }
+
+        public List<String> getPath() {
+            return path;
+        }
+
+        // 경로의 index 번째 이름 (예: "data.*" 레코드의 별칭)
+        public String segment(int index) {
+            return path.get(index);
+        }
+
+        public boolean isUnder(String... prefix) {
+            return path.size() >= prefix.length
+                    && path.subList(0, prefix.length).equals(Arrays.asList(prefix));
+        }
+
+        public JsonNode asTree() {
+            try (JsonParser tokenParser = tokens.asParser(objectMapper)) {
+                JsonNode node = objectMapper.readTree(tokenParser);
+                return node != null ? node : objectMapper.nullNode();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public <T> T as(Class<T> type) {
+            try (JsonParser tokenParser = tokens.asParser(objectMapper)) {
+                return objectMapper.readValue(tokenParser, type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ossdoctor.util;
+
+import lombok.Getter;
+
+/**
+ * GitHub API 리소스(core, graphql, search) 하나의 남은 요청 한도
+ * 응답 헤더/GraphQL rateLimit 값으로 갱신하고, 요청을 보낼 때마다 낙관적으로 차감
+ * 여러 요청 스레드가 동시에 읽고 쓰므로 모든 접근은 synchronized (확인 후 차감은 tryReserve 로 한 번에)
+ */
+public class RateLimitBudget {
+
+    @Getter
+    private final String resource;
+
+    private int limit = -1;         // -1 => 아직 GitHub 응답을 받지 못함
+    private int remaining = -1;
+    private long resetAtMillis;     // 한도가 초기화되는 시각 (epoch millis)
+    private long nextPermitAtMillis; // 한도가 적을 때 다음 요청을 보낼 수 있는 시각
+
+    public RateLimitBudget(String resource) {
+        this.resource = resource;
+    }
+
+    // GitHub이 알려준 값으로 갱신
+    public synchronized void update(int limit, int remaining, long resetAtMillis) {
+        // 이미 지난 윈도우의 늦게 도착한 응답은 무시
+        if (resetAtMillis < this.resetAtMillis) {
+            return;
+        }
+        this.limit = limit;
+        this.remaining = remaining;
+        this.resetAtMillis = resetAtMillis;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getRemaining() {
+        return remaining;
+    }
+
+    public synchronized long getResetAtMillis() {
+        return resetAtMillis;
+    }
+
+    public synchronized boolean isKnown(long now) {
+        // 리셋 시각이 지나면 이전 정보는 의미 없음
+        return limit >= 0 && now < resetAtMillis;
+    }
+
+    public synchronized boolean isExhausted(long now) {
+        return isKnown(now) && remaining <= 0;
+    }
+
+    // 요청 하나를 미리 차감 (응답 헤더가 오면 정확한 값으로 덮어씀)
+    public synchronized void reserve() {
+        if (remaining > 0) {
+            remaining--;
+        }
+    }
+
+    /**
+     * 남은 한도가 reserve 보다 많을 때만 요청 하나를 차감
+     * @return 차감했으면 true (false 면 한도가 얼마 남지 않음)
+     */
+    public synchronized boolean tryReserve(int reserve) {
+        if (remaining > reserve) {
+            remaining--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 남은 한도를 리셋 시각까지 고르게 나눠 쓰도록 다음 요청 시각을 예약
+     * @return 지금부터 기다려야 하는 시간(ms)
+     */
+    public synchronized long reservePacedSlot(long now) {
+        long untilReset = Math.max(0, resetAtMillis - now);
+        long interval = untilReset / Math.max(remaining, 1);
+        long start = Math.max(now, nextPermitAtMillis);
+        nextPermitAtMillis = start + interval;
+        reserve();
+        return start - now;
+    }
+
+    public synchronized long millisUntilReset(long now) {
+        return Math.max(0, resetAtMillis - now);
+    }
+}
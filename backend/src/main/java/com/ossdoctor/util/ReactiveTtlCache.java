@@ -0,0 +1,160 @@
+package com.ossdoctor.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Mono의 "결과값"을 저장하는 TTL 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 같은 키로 동시에 들어온 요청은 하나의 로딩 결과를 공유
+ * - 에러/빈 결과는 저장하지 않음
+ * - 만료된 값은 LRU로 밀려날 때까지 남겨두고, GitHub 장애 시 대체값(getStale)으로 사용
+ */
+public class ReactiveTtlCache<K, V> {
+
+    @Getter
+    private final String name;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // accessOrder = true => get 할 때마다 순서가 갱신되어 LRU로 동작
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final SingleFlight<K, V> inFlight = new SingleFlight<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public ReactiveTtlCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, Clock.systemUTC());
+    }
+
+    public ReactiveTtlCache(String name, int maxSize, Duration ttl, Clock clock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 캐시에 값이 있으면 바로 반환, 없으면 loader를 구독해서 결과를 저장한 뒤 반환
+     * 구독 시점에 캐시를 확인하므로 반환된 Mono를 여러 번 구독해도 안전
+     */
+    public Mono<V> get(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Optional<V> cached = getIfPresent(key);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+
+            // 진행 중인 로딩이 있으면 합류, 없으면 새로 시작
+            return inFlight.execute(key, () -> loader.get()
+                    .doOnNext(value -> put(key, value))
+                    .doOnError(error -> loadFailures.increment()));
+        });
+    }
+
+    // 만료되지 않은 값만 조회 (hit/miss 통계 반영)
+    public Optional<V> getIfPresent(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.millis()) {
+                hits.increment();
+                return Optional.of(entry.value);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    // 만료되지 않은 값이 있는지만 확인 (hit/miss 통계에 반영하지 않음)
+    public boolean contains(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry != null && entry.expiresAt > clock.millis();
+        }
+    }
+
+    // 만료 여부와 관계없이 마지막으로 저장된 값 (장애 시 대체값)
+    public Optional<V> getStale(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            return entry == null ? Optional.empty() : Optional.of(entry.value);
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, clock.millis() + ttl.toMillis()));
+            puts.increment();
+            while (entries.size() > maxSize) {
+                K eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                evictions.increment();
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, size(), maxSize, ttl.toSeconds(),
+                hits.sum(), misses.sum(), puts.sum(), evictions.sum(), loadFailures.sum(),
+                inFlight.executionCount(), inFlight.coalescedCount());
+    }
+
+    @AllArgsConstructor
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final String name;
+        private final int size;
+        private final int maxSize;
+        private final long ttlSeconds;
+        private final long hits;
+        private final long misses;
+        private final long puts;
+        private final long evictions;
+        private final long loadFailures;
+        private final long loads;          // loader 를 실제로 실행한 횟수
+        private final long coalescedLoads; // 진행 중인 로딩에 합류한 횟수 (GitHub 호출 절약)
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ossdoctor.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * ReactiveTtlCache 를 Micrometer 표준 캐시 메트릭으로 노출
+ * - cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size (tag: cache)
+ * - cache.load.failures: 로딩 실패 (에러는 캐시에 저장하지 않음)
+ * - cache.loads{result=executed|coalesced}: loader 실행 / 진행 중인 로딩에 합류한 횟수
+ */
+public class ReactiveTtlCacheMetrics extends CacheMeterBinder<ReactiveTtlCache<?, ?>> {
+
+    public ReactiveTtlCacheMetrics(ReactiveTtlCache<?, ?> cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    public static void monitor(MeterRegistry registry, ReactiveTtlCache<?, ?> cache) {
+        new ReactiveTtlCacheMetrics(cache, Tags.empty()).bindTo(registry);
+    }
+
+    @Override
+    protected Long size() {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.stats().getHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.stats().getMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.stats().getEvictions();
+    }
+
+    @Override
+    protected long putCount() {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.stats().getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        ReactiveTtlCache<?, ?> cache = getCache();
+        if (cache == null) {
+            return;
+        }
+        FunctionCounter.builder("cache.load.failures", cache, c -> c.stats().getLoadFailures())
+                .tags(getTagsWithCacheName())
+                .description("캐시 로딩(GitHub 조회) 실패 수")
+                .register(registry);
+        FunctionCounter.builder("cache.loads", cache, c -> c.stats().getLoads())
+                .tags(getTagsWithCacheName())
+                .tag("result", "executed")
+                .description("캐시 로딩 수 (coalesced: 같은 키의 진행 중인 로딩에 합류)")
+                .register(registry);
+        FunctionCounter.builder("cache.loads", cache, c -> c.stats().getCoalescedLoads())
+                .tags(getTagsWithCacheName())
+                .tag("result", "coalesced")
+                .description("캐시 로딩 수 (coalesced: 같은 키의 진행 중인 로딩에 합류)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ossdoctor.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 upstream 호출로 합치는 도구
+ * - 먼저 들어온 요청이 upstream Mono를 구독하고, 나머지는 그 결과(값 또는 에러)를 공유
+ * - upstream이 끝나면 키를 지우므로 결과를 오래 보관하지 않음 (보관은 캐시의 역할)
+ * - 일부 구독자가 취소해도 upstream은 끝까지 실행되어 남은 구독자에게 전달
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> {
+            boolean[] created = {false};
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return supplier.get()
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+
+            if (created[0]) {
+                executions.increment();
+            } else {
+                coalesced.increment();
+            }
+            return shared;
+        });
+    }
+
+    // 현재 진행 중인 키 개수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // upstream을 실제로 호출한 횟수
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    // 진행 중인 호출에 합류한 횟수
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+}
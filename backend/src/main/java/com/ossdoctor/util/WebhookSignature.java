@@ -0,0 +1,44 @@
+package com.ossdoctor.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * GitHub 웹훅 서명 (X-Hub-Signature-256: "sha256=" + HMAC-SHA256(secret, body) hex)
+ */
+public final class WebhookSignature {
+
+    private static final String PREFIX = "sha256=";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private WebhookSignature() {
+    }
+
+    public static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return PREFIX + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 서명 검증 (비교 시간이 일치하는 길이에 따라 달라지지 않도록 MessageDigest.isEqual 사용)
+     */
+    public static boolean verify(String secret, byte[] body, String signature) {
+        if (secret == null || secret.isEmpty() || signature == null || !signature.startsWith(PREFIX)) {
+            return false;
+        }
+        byte[] expected = sign(secret, body).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = signature.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+}
@@ -0,0 +1,428 @@
+package com.ossdoctor.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub API 시뮬레이터 (Reactor Netty)
+ * GitHubApiService, EcosystemService 가 사용하는 GraphQL / REST 엔드포인트를 합성(또는 녹화된) 응답으로 흉내냄
+ * - 응답 지연 분포, X-RateLimit-* 헤더와 한도 소진 시 403, 403/429(Retry-After) 및 5xx 주입
+ * - REST 응답은 ETag 를 붙이고 If-None-Match 가 같으면 304 (한도 차감 없음)
+ * - 이름이 missing 으로 시작하는 저장소는 NOT_FOUND
+ * - GET /__simulator/stats 로 작업별 요청 수, 주입한 에러 수 확인
+ *
+ * 애플리케이션 연결: GITHUB_API_BASE_URL=http://127.0.0.1:8089 GITHUB_GRAPHQL_URL=http://127.0.0.1:8089/graphql
+ * 단독 실행: ./gradlew runSimulator --args="--port=8089 --latency=lognormal:80,0.5"
+ * 테스트에서 내장: new GitHubApiSimulator(settings).start() ... stop()
+ */
+@Slf4j
+public class GitHubApiSimulator {
+
+    private static final Pattern OPERATION_NAME = Pattern.compile("\\b(?:query|mutation)\\s+(\\w+)");
+    private static final String MISSING_PREFIX = "missing";
+
+    private final SimulatorSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PayloadGenerator generator;
+    private final RecordedPayloads recordings;
+    private final SimulatedRateLimit rateLimit;
+
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> injected = new ConcurrentHashMap<>();
+
+    private DisposableServer server;
+
+    public GitHubApiSimulator(SimulatorSettings settings) {
+        this.settings = settings;
+        this.generator = new PayloadGenerator(objectMapper, settings);
+        this.recordings = new RecordedPayloads(objectMapper, settings.getRecordings());
+        this.rateLimit = new SimulatedRateLimit(settings);
+    }
+
+    public static void main(String[] args) {
+        GitHubApiSimulator simulator = new GitHubApiSimulator(SimulatorSettings.fromArgs(args));
+        simulator.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::stop));
+        simulator.server.onDispose().block();
+    }
+
+    public GitHubApiSimulator start() {
+        server = HttpServer.create()
+                .host(settings.getHost())
+                .port(settings.getPort())
+                .compress(true) // Accept-Encoding: gzip 이면 압축
+                .route(routes -> routes
+                        .post("/graphql", this::graphql)
+                        .get("/rate_limit", this::rateLimitStatus)
+                        .get("/repos/{owner}/{repo}/contributors", this::contributors)
+                        .get("/repos/{owner}/{repo}/languages", this::languages)
+                        .get("/user", this::user)
+                        .get("/__simulator/stats", this::stats))
+                .bindNow();
+
+        log.info("GitHub API 시뮬레이터 시작: http://{}:{} (지연 graphql={}, rest={}, 배율 {}, 에러 403={} 429={} 5xx={})",
+                settings.getHost(), server.port(),
+                settings.latencyFor(true), settings.latencyFor(false), settings.getScale(),
+                settings.getErrorRate403(), settings.getErrorRate429(), settings.getErrorRate5xx());
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    // 임의 포트(0)로 띄웠을 때 실제 포트
+    public int port() {
+        return server.port();
+    }
+
+    public String baseUrl() {
+        return "http://" + settings.getHost() + ":" + port();
+    }
+
+    // ========== GraphQL ==========
+
+    private Mono<Void> graphql(HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asByteArray()
+                .flatMap(body -> {
+                    JsonNode payload;
+                    try {
+                        payload = objectMapper.readTree(body);
+                    } catch (IOException e) {
+                        return json(response, HttpResponseStatus.BAD_REQUEST, message("Problems parsing JSON"));
+                    }
+                    String query = payload.path("query").asText();
+                    JsonNode variables = payload.path("variables");
+                    Matcher matcher = OPERATION_NAME.matcher(query);
+                    String operation = matcher.find() ? matcher.group(1) : "anonymous";
+
+                    return handle(response, "graphql:" + operation, SimulatedRateLimit.GRAPHQL, true, null, null,
+                            () -> recordings.graphql(operation)
+                                    .orElseGet(() -> synthesize(operation, query, variables)));
+                });
+    }
+
+    private JsonNode synthesize(String operation, String query, JsonNode variables) {
+        ObjectNode data = objectMapper.createObjectNode();
+        ArrayNode errors = objectMapper.createArrayNode();
+
+        if (query.contains("rateLimit")) {
+            SimulatedRateLimit.Usage usage = rateLimit.peek(SimulatedRateLimit.GRAPHQL);
+            data.set("rateLimit", objectMapper.createObjectNode()
+                    .put("cost", 1)
+                    .put("limit", usage.getLimit())
+                    .put("remaining", usage.getRemaining())
+                    .put("resetAt", usage.getResetAt()));
+        }
+
+        String owner = variables.path("owner").asText();
+        String name = variables.path("name").asText();
+        switch (operation) {
+            case "BatchRepositories" -> {
+                // 별칭 r{i} 마다 변수 $o{i}, $n{i}
+                for (int i = 0; variables.has("o" + i); i++) {
+                    String alias = "r" + i;
+                    String aliasOwner = variables.path("o" + i).asText();
+                    String aliasName = variables.path("n" + i).asText();
+                    if (isMissing(aliasName)) {
+                        data.putNull(alias);
+                        errors.add(notFound(aliasOwner, aliasName, alias));
+                    } else {
+                        data.set(alias, recordings.repository(aliasOwner, aliasName)
+                                .orElseGet(() -> generator.repositoryFields(aliasOwner, aliasName)));
+                    }
+                }
+            }
+            case "GetCommitHistory", "GetRecentActivities", "GetRepositoryActivity" -> {
+                if (isMissing(name)) {
+                    data.putNull("repository");
+                    errors.add(notFound(owner, name, "repository"));
+                } else if (operation.equals("GetCommitHistory")) {
+                    data.set("repository", generator.commitHistory(owner, name,
+                            parseInstant(variables.path("since").asText()),
+                            variables.hasNonNull("until") ? parseInstant(variables.path("until").asText()) : null,
+                            variables.path("first").asInt(100),
+                            variables.hasNonNull("after") ? variables.path("after").asText() : null));
+                } else if (operation.equals("GetRecentActivities")) {
+                    data.set("repository", generator.recentActivities(owner, name));
+                } else {
+                    data.set("repository", generator.repositoryActivity(owner, name));
+                }
+            }
+            case "GetFullContributions" -> data.set("user", generator.userContributions(
+                    variables.path("login").asText(), parseInstant(variables.path("since").asText())));
+            case "SearchRepositories", "GetRecommendedProjects" -> data.set("search", generator.search(
+                    variables.path("query").asText(),
+                    variables.path("first").asInt(10),
+                    variables.hasNonNull("after") ? variables.path("after").asText() : null));
+            default -> errors.add(objectMapper.createObjectNode()
+                    .put("type", "UNSUPPORTED")
+                    .put("message", "시뮬레이터가 지원하지 않는 쿼리: " + operation));
+        }
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.set("data", data);
+        if (!errors.isEmpty()) {
+            result.set("errors", errors);
+        }
+        return result;
+    }
+
+    // ========== REST ==========
+
+    private Mono<Void> contributors(HttpServerRequest request, HttpServerResponse response) {
+        String owner = request.param("owner");
+        String repo = request.param("repo");
+        Map<String, List<String>> query = new QueryStringDecoder(request.uri()).parameters();
+        int perPage = Math.min(100, Integer.parseInt(first(query, "per_page", "30")));
+        int page = Math.max(1, Integer.parseInt(first(query, "page", "1")));
+        String path = "/repos/" + owner + "/" + repo + "/contributors";
+
+        if (isMissing(repo)) {
+            return handleNotFound(response, "rest:contributors");
+        }
+
+        // 페이지가 더 있으면 Link 헤더 (getContributorCount 는 rel="last" 의 page 로 전체 수 계산)
+        int lastPage = Math.max(1, (generator.contributorCount(owner, repo) + perPage - 1) / perPage);
+        String link = null;
+        if (page < lastPage) {
+            String base = baseUrl() + path + "?per_page=" + perPage + (query.containsKey("anon") ? "&anon=true" : "");
+            link = "<" + base + "&page=" + (page + 1) + ">; rel=\"next\", <" + base + "&page=" + lastPage + ">; rel=\"last\"";
+        }
+
+        return handle(response, "rest:contributors", SimulatedRateLimit.CORE, false, ifNoneMatch(request), link,
+                () -> recordings.rest(path).orElseGet(() -> generator.contributors(owner, repo, page, perPage)));
+    }
+
+    private Mono<Void> languages(HttpServerRequest request, HttpServerResponse response) {
+        String owner = request.param("owner");
+        String repo = request.param("repo");
+        if (isMissing(repo)) {
+            return handleNotFound(response, "rest:languages");
+        }
+        String path = "/repos/" + owner + "/" + repo + "/languages";
+        return handle(response, "rest:languages", SimulatedRateLimit.CORE, false, ifNoneMatch(request), null,
+                () -> recordings.rest(path).orElseGet(() -> generator.languages(owner, repo)));
+    }
+
+    private Mono<Void> user(HttpServerRequest request, HttpServerResponse response) {
+        return handle(response, "rest:user", SimulatedRateLimit.CORE, false, ifNoneMatch(request), null,
+                () -> recordings.rest("/user").orElseGet(generator::user));
+    }
+
+    // 한도 조회는 한도를 소모하지 않음
+    private Mono<Void> rateLimitStatus(HttpServerRequest request, HttpServerResponse response) {
+        count(requests, "rest:rate_limit");
+        ObjectNode resources = objectMapper.createObjectNode();
+        rateLimit.snapshot().forEach((resource, usage) -> resources.set(resource, objectMapper.createObjectNode()
+                .put("limit", usage.getLimit())
+                .put("used", usage.getUsed())
+                .put("remaining", usage.getRemaining())
+                .put("reset", usage.getResetEpochSeconds())));
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("resources", resources);
+        body.set("rate", resources.get(SimulatedRateLimit.CORE));
+        return json(response, HttpResponseStatus.OK, body);
+    }
+
+    private Mono<Void> stats(HttpServerRequest request, HttpServerResponse response) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("requests", objectMapper.valueToTree(totals(requests)));
+        body.set("injectedErrors", objectMapper.valueToTree(totals(injected)));
+        ObjectNode remaining = objectMapper.createObjectNode();
+        rateLimit.snapshot().forEach((resource, usage) -> remaining.put(resource, usage.getRemaining()));
+        body.set("remaining", remaining);
+        return json(response, HttpResponseStatus.OK, body);
+    }
+
+    // ========== 공통 ==========
+
+    /**
+     * 에러 주입 => (REST) 조건부 요청 확인 => 한도 차감 => 지연 후 응답
+     */
+    private Mono<Void> handle(HttpServerResponse response, String operation, String resource, boolean graphql,
+                              String ifNoneMatch, String link, Supplier<JsonNode> body) {
+        count(requests, operation);
+
+        Mono<Void> injectedError = injectError(response, operation, resource, graphql);
+        if (injectedError != null) {
+            return injectedError;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body.get());
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+
+        String etag = graphql ? null : etag(bytes);
+        if (etag != null && etag.equals(ifNoneMatch)) {
+            rateLimitHeaders(response, rateLimit.peek(resource));
+            response.header("ETag", etag);
+            return delayed(graphql, 0, response.status(HttpResponseStatus.NOT_MODIFIED).send());
+        }
+
+        SimulatedRateLimit.Usage usage = rateLimit.consume(resource, 1);
+        rateLimitHeaders(response, usage);
+        if (usage.isExceeded()) {
+            count(injected, "rate_limit_exceeded");
+            return delayed(graphql, 0, json(response, HttpResponseStatus.FORBIDDEN, message(
+                    "API rate limit exceeded. (시뮬레이터 " + resource + " 한도 " + usage.getLimit() + ")")));
+        }
+
+        if (etag != null) {
+            response.header("ETag", etag);
+        }
+        if (link != null) {
+            response.header("Link", link);
+        }
+        return delayed(graphql, bytes.length, response.status(HttpResponseStatus.OK)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .sendByteArray(Mono.just(bytes))
+                .then());
+    }
+
+    private Mono<Void> handleNotFound(HttpServerResponse response, String operation) {
+        count(requests, operation);
+        rateLimitHeaders(response, rateLimit.consume(SimulatedRateLimit.CORE, 1));
+        return delayed(false, 0, json(response, HttpResponseStatus.NOT_FOUND, message("Not Found")));
+    }
+
+    // 설정한 비율로 403(보조 한도) / 429 / 502 응답
+    private Mono<Void> injectError(HttpServerResponse response, String operation, String resource, boolean graphql) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        double threshold = settings.getErrorRate403();
+        HttpResponseStatus status = null;
+        if (roll < threshold) {
+            status = HttpResponseStatus.FORBIDDEN;
+        } else if (roll < (threshold += settings.getErrorRate429())) {
+            status = HttpResponseStatus.TOO_MANY_REQUESTS;
+        } else if (roll < threshold + settings.getErrorRate5xx()) {
+            status = HttpResponseStatus.BAD_GATEWAY;
+        }
+        if (status == null) {
+            return null;
+        }
+
+        count(injected, operation + ":" + status.code());
+        rateLimitHeaders(response, rateLimit.peek(resource));
+        if (status.code() == 502) {
+            return delayed(graphql, 0, json(response, status, message("Server Error")));
+        }
+        response.header("Retry-After", String.valueOf(settings.getRetryAfterSeconds()));
+        return delayed(graphql, 0, json(response, status,
+                message("You have exceeded a secondary rate limit. Please wait a few minutes before you try again.")));
+    }
+
+    private Mono<Void> delayed(boolean graphql, int bytes, Mono<Void> send) {
+        LatencyModel model = settings.latencyFor(graphql);
+        long millis = model.sample(ThreadLocalRandom.current()) + Math.round(bytes / 1024.0 * settings.getLatencyPerKb());
+        if (millis <= 0) {
+            return send;
+        }
+        return Mono.delay(Duration.ofMillis(millis)).then(send);
+    }
+
+    private Mono<Void> json(HttpServerResponse response, HttpResponseStatus status, JsonNode body) {
+        return response.status(status)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .sendByteArray(Mono.fromCallable(() -> objectMapper.writeValueAsBytes(body)))
+                .then();
+    }
+
+    private static String ifNoneMatch(HttpServerRequest request) {
+        return request.requestHeaders().get("If-None-Match");
+    }
+
+    private void rateLimitHeaders(HttpServerResponse response, SimulatedRateLimit.Usage usage) {
+        response.header("X-RateLimit-Limit", String.valueOf(usage.getLimit()))
+                .header("X-RateLimit-Remaining", String.valueOf(usage.getRemaining()))
+                .header("X-RateLimit-Used", String.valueOf(usage.getUsed()))
+                .header("X-RateLimit-Reset", String.valueOf(usage.getResetEpochSeconds()))
+                .header("X-RateLimit-Resource", usage.getResource());
+    }
+
+    private ObjectNode message(String message) {
+        return objectMapper.createObjectNode()
+                .put("message", message)
+                .put("documentation_url", "https://docs.github.com/rest");
+    }
+
+    private ObjectNode notFound(String owner, String name, String path) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("type", "NOT_FOUND");
+        error.set("path", objectMapper.createArrayNode().add(path));
+        error.put("message", "Could not resolve to a Repository with the name '" + owner + "/" + name + "'.");
+        return error;
+    }
+
+    private static boolean isMissing(String name) {
+        return name.toLowerCase().startsWith(MISSING_PREFIX);
+    }
+
+    // GitTimestamp / DateTime (오프셋이 없으면 UTC)
+    private static Instant parseInstant(String value) {
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String first(Map<String, List<String>> query, String name, String defaultValue) {
+        List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private static void count(Map<String, LongAdder> counters, String key) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> totals(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, adder) -> result.put(key, adder.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ossdoctor.simulator;
+
+import java.util.Random;
+
+/**
+ * 응답 지연 분포
+ * - none
+ * - fixed:50          항상 50ms
+ * - uniform:20-80     20 ~ 80ms 균등 분포
+ * - lognormal:60,0.5  중앙값 60ms, sigma 0.5 로그정규 분포 (긴 꼬리가 있는 실제 API 지연과 비슷)
+ */
+public abstract class LatencyModel {
+
+    /**
+     * @return 지연 시간 (ms)
+     */
+    public abstract long sample(Random random);
+
+    public static LatencyModel parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        String type = parts[0].toLowerCase();
+        String args = parts.length > 1 ? parts[1] : "";
+
+        switch (type) {
+            case "none":
+                return fixed(0);
+            case "fixed":
+                return fixed(Long.parseLong(args));
+            case "uniform": {
+                String[] range = args.split("-");
+                long min = Long.parseLong(range[0]);
+                long max = Long.parseLong(range[1]);
+                return new LatencyModel() {
+                    @Override
+                    public long sample(Random random) {
+                        return min + (long) (random.nextDouble() * (max - min));
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "uniform(" + min + "-" + max + "ms)";
+                    }
+                };
+            }
+            case "lognormal": {
+                String[] values = args.split(",");
+                double median = Double.parseDouble(values[0]);
+                double sigma = Double.parseDouble(values[1]);
+                double mu = Math.log(median);
+                return new LatencyModel() {
+                    @Override
+                    public long sample(Random random) {
+                        return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "lognormal(median=" + median + "ms, sigma=" + sigma + ")";
+                    }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+        }
+    }
+
+    private static LatencyModel fixed(long millis) {
+        return new LatencyModel() {
+            @Override
+            public long sample(Random random) {
+                return millis;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed(" + millis + "ms)";
+            }
+        };
+    }
+}
@@ -0,0 +1,522 @@
+package com.ossdoctor.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GitHub 응답 합성
+ * - 저장소마다 (시드, owner/name) 으로 프로필을 정해서 REST / GraphQL 응답이 서로 일치하고 매번 같은 값이 나옴
+ * - 필드 구성은 GitHubApiService, EcosystemService 가 보내는 쿼리의 선택 필드를 따름
+ * - 목록 크기는 scale 배율을 곱해서 응답 크기를 조절
+ */
+public class PayloadGenerator {
+
+    private static final String[] LANGUAGES = {
+            "Java", "TypeScript", "JavaScript", "Python", "Go", "Rust", "Kotlin", "C++", "Shell", "HTML", "CSS"
+    };
+    private static final String[][] LICENSES = {
+            {"MIT License", "MIT"},
+            {"Apache License 2.0", "Apache-2.0"},
+            {"GNU General Public License v3.0", "GPL-3.0"},
+            {"BSD 3-Clause \"New\" or \"Revised\" License", "BSD-3-Clause"}
+    };
+    private static final String[] TOPICS = {
+            "open-source", "library", "cli", "web", "framework", "machine-learning", "devtools", "api",
+            "database", "security", "testing", "hacktoberfest", "good-first-issue", "performance"
+    };
+    private static final String[] PR_STATES = {"OPEN", "CLOSED", "MERGED"};
+    private static final String[] ISSUE_STATES = {"OPEN", "CLOSED"};
+    private static final String[] REVIEW_STATES = {"APPROVED", "COMMENTED", "CHANGES_REQUESTED"};
+
+    private final ObjectMapper objectMapper;
+    private final long seed;
+    private final double scale;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    public PayloadGenerator(ObjectMapper objectMapper, SimulatorSettings settings) {
+        this.objectMapper = objectMapper;
+        this.seed = settings.getSeed();
+        this.scale = settings.getScale();
+    }
+
+    // ========== GraphQL ==========
+
+    /**
+     * 배치 조회(RepositoryFields fragment)의 저장소 노드
+     */
+    public ObjectNode repositoryFields(String owner, String name) {
+        Profile profile = profile(owner, name);
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("databaseId", profile.databaseId);
+        node.put("name", name);
+        node.put("nameWithOwner", owner + "/" + name);
+        node.put("description", profile.description);
+        node.put("url", "https://github.com/" + owner + "/" + name);
+        node.put("stargazerCount", profile.stars);
+        node.put("forkCount", profile.forks);
+        node.put("diskUsage", profile.diskUsage);
+        node.put("createdAt", profile.createdAt.toString());
+        node.put("updatedAt", profile.pushedAt.toString());
+        node.put("pushedAt", profile.pushedAt.toString());
+        node.set("primaryLanguage", named(profile.languages.get(0)));
+        node.set("licenseInfo", license(profile));
+        node.set("repositoryTopics", topics(profile, 10));
+
+        ObjectNode history = objectMapper.createObjectNode();
+        history.put("totalCommit", profile.totalCommits);
+        history.set("nodes", objectMapper.createArrayNode()
+                .add(objectMapper.createObjectNode().put("committedDate", profile.pushedAt.toString())));
+        node.set("defaultBranchRef", objectMapper.createObjectNode()
+                .put("name", "main")
+                .set("target", objectMapper.createObjectNode().set("history", history)));
+
+        node.set("totalPullRequests", totalCount(profile.openPullRequests + profile.closedPullRequests + profile.mergedPullRequests));
+        node.set("openPullRequests", totalCount(profile.openPullRequests));
+        node.set("closedPullRequests", totalCount(profile.closedPullRequests));
+        node.set("mergedPullRequests", totalCount(profile.mergedPullRequests));
+        node.set("totalIssues", totalCount(profile.openIssues + profile.closedIssues));
+        node.set("openIssues", totalCount(profile.openIssues));
+        node.set("closedIssues", totalCount(profile.closedIssues));
+
+        ArrayNode edges = objectMapper.createArrayNode();
+        for (int i = 0; i < profile.languages.size(); i++) {
+            edges.add(objectMapper.createObjectNode()
+                    .put("size", profile.languageSizes.get(i))
+                    .set("node", named(profile.languages.get(i))));
+        }
+        node.set("languages", objectMapper.createObjectNode().set("edges", edges));
+        node.set("watchers", totalCount(profile.watchers));
+        return node;
+    }
+
+    /**
+     * GetRepositoryActivity 의 repository 노드
+     */
+    public ObjectNode repositoryActivity(String owner, String name) {
+        Profile profile = profile(owner, name);
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("name", name);
+        node.put("nameWithOwner", owner + "/" + name);
+        node.put("description", profile.description);
+        node.put("stargazerCount", profile.stars);
+        node.put("forkCount", profile.forks);
+        node.set("issues", totalCount(profile.openIssues));
+        node.set("pullRequests", totalCount(profile.openPullRequests));
+        node.set("releases", totalCount(profile.releases));
+        node.set("primaryLanguage", named(profile.languages.get(0)));
+
+        ArrayNode languages = objectMapper.createArrayNode();
+        long totalSize = 0;
+        for (int i = 0; i < profile.languages.size(); i++) {
+            languages.add(named(profile.languages.get(i)));
+            totalSize += profile.languageSizes.get(i);
+        }
+        node.set("languages", objectMapper.createObjectNode().put("totalSize", totalSize).set("nodes", languages));
+        node.set("defaultBranchRef", objectMapper.createObjectNode()
+                .set("target", objectMapper.createObjectNode()
+                        .set("history", totalCount(profile.totalCommits))));
+        return node;
+    }
+
+    /**
+     * GetCommitHistory 의 repository 노드 (since ~ until 사이 커밋을 최신순으로, after 커서부터 first 개)
+     */
+    public ObjectNode commitHistory(String owner, String name, Instant since, Instant until, int first, String after) {
+        Profile profile = profile(owner, name);
+        Instant end = until != null ? until : now;
+        Instant start = since.isBefore(profile.createdAt) ? profile.createdAt : since;
+        long spanMillis = Math.max(0, Duration.between(start, end).toMillis());
+        int total = (int) Math.min(Integer.MAX_VALUE, Math.round(profile.commitsPerDay * spanMillis / 86_400_000.0));
+
+        int offset = decodeCursor(after);
+        int count = Math.max(0, Math.min(first, total - offset));
+        ArrayNode nodes = objectMapper.createArrayNode();
+        for (int i = offset; i < offset + count; i++) {
+            // 기간 안에 고르게 분포 (최신순)
+            long at = end.toEpochMilli() - (long) ((i + 0.5) * spanMillis / total);
+            nodes.add(objectMapper.createObjectNode().put("committedDate", Instant.ofEpochMilli(at).truncatedTo(ChronoUnit.SECONDS).toString()));
+        }
+
+        ObjectNode history = objectMapper.createObjectNode();
+        history.put("totalCount", total);
+        history.set("pageInfo", pageInfo(offset, count, total));
+        history.set("nodes", nodes);
+        ObjectNode repository = objectMapper.createObjectNode();
+        repository.set("defaultBranchRef", objectMapper.createObjectNode()
+                .set("target", objectMapper.createObjectNode().set("history", history)));
+        return repository;
+    }
+
+    /**
+     * GetRecentActivities 의 repository 노드 (최근 PR, Issue 20개씩)
+     */
+    public ObjectNode recentActivities(String owner, String name) {
+        Profile profile = profile(owner, name);
+        Random random = random(owner, name, "activities");
+
+        ArrayNode pullRequests = objectMapper.createArrayNode();
+        int totalPullRequests = profile.openPullRequests + profile.closedPullRequests + profile.mergedPullRequests;
+        for (int i = 0; i < Math.min(20, totalPullRequests); i++) {
+            Instant updatedAt = profile.pushedAt.minus(Duration.ofHours(i * 7L + random.nextInt(7)));
+            Instant createdAt = updatedAt.minus(Duration.ofHours(1 + random.nextInt(240)));
+            String state = PR_STATES[random.nextInt(PR_STATES.length)];
+            ObjectNode pullRequest = objectMapper.createObjectNode();
+            pullRequest.put("title", "Simulated pull request #" + (totalPullRequests - i));
+            pullRequest.put("number", totalPullRequests - i);
+            pullRequest.put("state", state);
+            pullRequest.put("createdAt", createdAt.toString());
+            pullRequest.put("updatedAt", updatedAt.toString());
+            pullRequest.put("mergedAt", "MERGED".equals(state) ? updatedAt.toString() : null);
+            pullRequest.set("author", objectMapper.createObjectNode().put("login", login(random.nextInt(profile.contributors))));
+            pullRequests.add(pullRequest);
+        }
+
+        ArrayNode issues = objectMapper.createArrayNode();
+        int totalIssues = profile.openIssues + profile.closedIssues;
+        for (int i = 0; i < Math.min(20, totalIssues); i++) {
+            Instant updatedAt = profile.pushedAt.minus(Duration.ofHours(i * 5L + random.nextInt(5)));
+            Instant createdAt = updatedAt.minus(Duration.ofHours(1 + random.nextInt(480)));
+            String state = ISSUE_STATES[random.nextInt(ISSUE_STATES.length)];
+            ObjectNode issue = objectMapper.createObjectNode();
+            issue.put("title", "Simulated issue #" + (totalIssues - i));
+            issue.put("number", totalIssues - i);
+            issue.put("state", state);
+            issue.put("createdAt", createdAt.toString());
+            issue.put("updatedAt", updatedAt.toString());
+            issue.put("closedAt", "CLOSED".equals(state) ? updatedAt.toString() : null);
+            issue.set("author", objectMapper.createObjectNode().put("login", "user-" + random.nextInt(1000)));
+            issues.add(issue);
+        }
+
+        ObjectNode repository = objectMapper.createObjectNode();
+        repository.put("databaseId", profile.databaseId);
+        repository.set("pullRequests", objectMapper.createObjectNode().set("nodes", pullRequests));
+        repository.set("issues", objectMapper.createObjectNode().set("nodes", issues));
+        return repository;
+    }
+
+    /**
+     * GetFullContributions 의 user 노드
+     */
+    public ObjectNode userContributions(String login, Instant since) {
+        Random random = random("user", login);
+        int repositories = Math.min(50, Math.max(1, (int) Math.round((2 + random.nextInt(6)) * scale)));
+        long spanMillis = Math.max(1, Duration.between(since, now).toMillis());
+
+        ArrayNode commits = objectMapper.createArrayNode();
+        ArrayNode pullRequests = objectMapper.createArrayNode();
+        ArrayNode issues = objectMapper.createArrayNode();
+        ArrayNode reviews = objectMapper.createArrayNode();
+        for (int r = 0; r < repositories; r++) {
+            String owner = r % 3 == 0 ? login : "sim-org-" + random.nextInt(50);
+            String name = "project-" + random.nextInt(10_000);
+            int perRepository = Math.min(100, Math.max(1, (int) Math.round((1 + random.nextInt(20)) * scale)));
+
+            ArrayNode commitNodes = objectMapper.createArrayNode();
+            ArrayNode pullRequestNodes = objectMapper.createArrayNode();
+            ArrayNode issueNodes = objectMapper.createArrayNode();
+            ArrayNode reviewNodes = objectMapper.createArrayNode();
+            for (int i = 0; i < perRepository; i++) {
+                Instant at = now.minusMillis((long) (random.nextDouble() * spanMillis));
+                commitNodes.add(objectMapper.createObjectNode()
+                        .put("commitCount", 1 + random.nextInt(5))
+                        .put("occurredAt", at.toString())
+                        .put("url", "https://github.com/" + owner + "/" + name + "/commits?author=" + login));
+
+                if (i % 3 == 0) {
+                    String state = PR_STATES[random.nextInt(PR_STATES.length)];
+                    Instant closedAt = "OPEN".equals(state) ? null : at.plus(Duration.ofHours(1 + random.nextInt(72)));
+                    ObjectNode pullRequest = objectMapper.createObjectNode();
+                    pullRequest.put("title", "Simulated contribution #" + (i + 1));
+                    pullRequest.put("number", i + 1);
+                    pullRequest.put("state", state);
+                    pullRequest.put("createdAt", at.toString());
+                    pullRequest.put("closedAt", closedAt != null ? closedAt.toString() : null);
+                    pullRequest.put("mergedAt", "MERGED".equals(state) ? closedAt.toString() : null);
+                    pullRequestNodes.add(objectMapper.createObjectNode().set("pullRequest", pullRequest));
+
+                    ObjectNode review = objectMapper.createObjectNode();
+                    review.put("state", REVIEW_STATES[random.nextInt(REVIEW_STATES.length)]);
+                    review.put("submittedAt", at.plus(Duration.ofHours(2)).toString());
+                    review.set("pullRequest", objectMapper.createObjectNode()
+                            .put("number", i + 1)
+                            .put("title", "Simulated contribution #" + (i + 1)));
+                    reviewNodes.add(objectMapper.createObjectNode().set("pullRequestReview", review));
+                }
+                if (i % 4 == 0) {
+                    String state = ISSUE_STATES[random.nextInt(ISSUE_STATES.length)];
+                    ObjectNode issue = objectMapper.createObjectNode();
+                    issue.put("title", "Simulated issue #" + (i + 1));
+                    issue.put("number", i + 1);
+                    issue.put("state", state);
+                    issue.put("createdAt", at.toString());
+                    issue.put("closedAt", "CLOSED".equals(state) ? at.plus(Duration.ofDays(1)).toString() : null);
+                    issue.set("comments", totalCount(random.nextInt(15)));
+                    issueNodes.add(objectMapper.createObjectNode().set("issue", issue));
+                }
+            }
+
+            commits.add(contributionsByRepository(owner, name, commitNodes));
+            if (!pullRequestNodes.isEmpty()) {
+                pullRequests.add(contributionsByRepository(owner, name, pullRequestNodes));
+                reviews.add(contributionsByRepository(owner, name, reviewNodes));
+            }
+            if (!issueNodes.isEmpty()) {
+                issues.add(contributionsByRepository(owner, name, issueNodes));
+            }
+        }
+
+        ObjectNode collection = objectMapper.createObjectNode();
+        collection.set("commitContributionsByRepository", commits);
+        collection.set("pullRequestContributionsByRepository", pullRequests);
+        collection.set("issueContributionsByRepository", issues);
+        collection.set("pullRequestReviewContributionsByRepository", reviews);
+        ObjectNode user = objectMapper.createObjectNode();
+        user.put("login", login);
+        user.set("contributionsCollection", collection);
+        return user;
+    }
+
+    /**
+     * 저장소 검색 (SearchRepositories, GetRecommendedProjects)
+     * 같은 검색어면 같은 결과 목록, 별 개수 내림차순
+     */
+    public ObjectNode search(String query, int first, String after) {
+        Random random = random("search", query);
+        int total = Math.max(0, (int) Math.round((200 + random.nextInt(2000)) * scale));
+        int offset = decodeCursor(after);
+        int count = Math.max(0, Math.min(first, total - offset));
+
+        ArrayNode nodes = objectMapper.createArrayNode();
+        for (int i = offset; i < offset + count; i++) {
+            Random item = random("search", query, String.valueOf(i));
+            String owner = "sim-org-" + item.nextInt(50);
+            String name = "project-" + Math.floorMod((query + "#" + i).hashCode(), 100_000);
+            Profile profile = profile(owner, name);
+
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("id", "R_sim" + profile.databaseId);
+            node.put("name", name);
+            node.put("nameWithOwner", owner + "/" + name);
+            node.put("description", profile.description);
+            node.put("url", "https://github.com/" + owner + "/" + name);
+            // 검색 결과 순서(별 개수 내림차순)와 맞도록 순위로 별 개수 결정
+            node.put("stargazerCount", Math.max(1, (int) (100_000 / Math.pow(i + 1, 0.8))));
+            node.put("forkCount", profile.forks);
+            node.put("createdAt", profile.createdAt.toString());
+            node.put("updatedAt", profile.pushedAt.toString());
+            node.put("pushedAt", profile.pushedAt.toString());
+            node.set("primaryLanguage", named(profile.languages.get(0)));
+            node.set("licenseInfo", license(profile));
+            node.set("repositoryTopics", topics(profile, 5));
+            node.set("issues", totalCount(profile.goodFirstIssues));
+            node.set("owner", objectMapper.createObjectNode()
+                    .put("login", owner)
+                    .put("avatarUrl", "https://avatars.githubusercontent.com/u/" + Math.floorMod(owner.hashCode(), 1_000_000)));
+            nodes.add(node);
+        }
+
+        ObjectNode search = objectMapper.createObjectNode();
+        search.put("repositoryCount", total);
+        search.set("pageInfo", pageInfo(offset, count, total));
+        search.set("nodes", nodes);
+        return search;
+    }
+
+    // ========== REST ==========
+
+    /**
+     * GET /repos/{owner}/{repo}/contributors (page, per_page)
+     */
+    public ArrayNode contributors(String owner, String name, int page, int perPage) {
+        Profile profile = profile(owner, name);
+        ArrayNode contributors = objectMapper.createArrayNode();
+        int from = (page - 1) * perPage;
+        for (int i = from; i < Math.min(profile.contributors, from + perPage); i++) {
+            int id = Math.floorMod((owner + "/" + name + "#" + i).hashCode(), 10_000_000);
+            ObjectNode contributor = objectMapper.createObjectNode();
+            contributor.put("login", login(i));
+            contributor.put("id", id);
+            contributor.put("avatar_url", "https://avatars.githubusercontent.com/u/" + id + "?v=4");
+            contributor.put("html_url", "https://github.com/" + login(i));
+            contributor.put("type", "User");
+            // 순위가 높을수록 기여가 많음 (멱법칙)
+            contributor.put("contributions", Math.max(1, (int) (profile.totalCommits / Math.pow(i + 1, 1.1) / 3)));
+            contributors.add(contributor);
+        }
+        return contributors;
+    }
+
+    public int contributorCount(String owner, String name) {
+        return profile(owner, name).contributors;
+    }
+
+    /**
+     * GET /repos/{owner}/{repo}/languages
+     */
+    public ObjectNode languages(String owner, String name) {
+        Profile profile = profile(owner, name);
+        ObjectNode languages = objectMapper.createObjectNode();
+        for (int i = 0; i < profile.languages.size(); i++) {
+            languages.put(profile.languages.get(i), profile.languageSizes.get(i));
+        }
+        return languages;
+    }
+
+    /**
+     * GET /user (OAuth 로그인 후 사용자 정보)
+     */
+    public ObjectNode user() {
+        ObjectNode user = objectMapper.createObjectNode();
+        user.put("login", "sim-user");
+        user.put("id", 1);
+        user.put("name", "Simulated User");
+        user.put("avatar_url", "https://avatars.githubusercontent.com/u/1?v=4");
+        user.put("html_url", "https://github.com/sim-user");
+        user.putNull("email");
+        return user;
+    }
+
+    // ========== 공통 ==========
+
+    private ObjectNode contributionsByRepository(String owner, String name, ArrayNode nodes) {
+        ObjectNode entry = objectMapper.createObjectNode();
+        entry.set("repository", objectMapper.createObjectNode()
+                .put("name", name)
+                .set("owner", objectMapper.createObjectNode().put("login", owner)));
+        entry.set("contributions", objectMapper.createObjectNode().set("nodes", nodes));
+        return entry;
+    }
+
+    private ObjectNode pageInfo(int offset, int count, int total) {
+        ObjectNode pageInfo = objectMapper.createObjectNode();
+        pageInfo.put("hasNextPage", offset + count < total);
+        pageInfo.put("hasPreviousPage", offset > 0);
+        pageInfo.put("startCursor", count > 0 ? encodeCursor(offset + 1) : null);
+        pageInfo.put("endCursor", count > 0 ? encodeCursor(offset + count) : null);
+        return pageInfo;
+    }
+
+    // 커서는 "지금까지 응답한 개수"
+    private static String encodeCursor(int position) {
+        return "cursor:" + position;
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || !cursor.startsWith("cursor:")) {
+            return 0;
+        }
+        return Integer.parseInt(cursor.substring("cursor:".length()));
+    }
+
+    private ObjectNode totalCount(long count) {
+        return objectMapper.createObjectNode().put("totalCount", count);
+    }
+
+    private ObjectNode named(String name) {
+        return objectMapper.createObjectNode().put("name", name);
+    }
+
+    private JsonNode license(Profile profile) {
+        if (profile.license == null) {
+            return objectMapper.nullNode();
+        }
+        return objectMapper.createObjectNode().put("name", profile.license[0]).put("spdxId", profile.license[1]);
+    }
+
+    private ObjectNode topics(Profile profile, int limit) {
+        ArrayNode nodes = objectMapper.createArrayNode();
+        profile.topics.stream().limit(limit)
+                .forEach(topic -> nodes.add(objectMapper.createObjectNode().set("topic", named(topic))));
+        return objectMapper.createObjectNode().set("nodes", nodes);
+    }
+
+    private static String login(int rank) {
+        return "contributor-" + rank;
+    }
+
+    private Random random(String... parts) {
+        return new Random(seed * 31 + String.join("/", parts).hashCode());
+    }
+
+    private int scaled(double value) {
+        return Math.max(1, (int) Math.round(value * scale));
+    }
+
+    // 저장소 하나의 고정 속성 (모든 응답이 같은 값을 사용)
+    private Profile profile(String owner, String name) {
+        Random random = random("repository", owner.toLowerCase(), name.toLowerCase());
+        Profile profile = new Profile();
+        profile.databaseId = Math.floorMod((owner.toLowerCase() + "/" + name.toLowerCase()).hashCode(), 900_000_000) + 1;
+        profile.description = "Simulated repository " + owner + "/" + name;
+
+        // 별 개수는 로그정규 분포 (대부분 작고 일부만 매우 큼)
+        profile.stars = scaled(Math.exp(6 + 1.5 * random.nextGaussian()));
+        profile.forks = Math.max(0, profile.stars / (4 + random.nextInt(8)));
+        profile.watchers = Math.max(1, profile.stars / 30);
+        profile.contributors = scaled(Math.exp(3 + 1.2 * random.nextGaussian()));
+        profile.commitsPerDay = Math.max(0.05, Math.exp(0.5 + random.nextGaussian())) * scale;
+        profile.createdAt = now.minus(Duration.ofDays(200 + random.nextInt(3000)));
+        profile.pushedAt = now.minus(Duration.ofMinutes(random.nextInt(60 * 24 * 30)));
+        profile.totalCommits = (int) Math.max(1, profile.commitsPerDay * Duration.between(profile.createdAt, now).toDays());
+        profile.openPullRequests = scaled(random.nextInt(40));
+        profile.closedPullRequests = scaled(random.nextInt(200));
+        profile.mergedPullRequests = scaled(random.nextInt(800));
+        profile.openIssues = scaled(random.nextInt(150));
+        profile.closedIssues = scaled(random.nextInt(900));
+        profile.goodFirstIssues = random.nextInt(Math.max(1, profile.openIssues / 5 + 1));
+        profile.releases = random.nextInt(120);
+        profile.diskUsage = 500 + random.nextInt(200_000);
+        profile.license = random.nextInt(10) == 0 ? null : LICENSES[random.nextInt(LICENSES.length)];
+
+        int languageCount = 1 + random.nextInt(5);
+        int first = random.nextInt(LANGUAGES.length);
+        long size = scaled(50_000 + random.nextInt(5_000_000));
+        for (int i = 0; i < languageCount; i++) {
+            profile.languages.add(LANGUAGES[(first + i) % LANGUAGES.length]);
+            profile.languageSizes.add(size);
+            size = Math.max(100, size / (2 + random.nextInt(6)));
+        }
+
+        int topicCount = random.nextInt(8);
+        int firstTopic = random.nextInt(TOPICS.length);
+        for (int i = 0; i < topicCount; i++) {
+            profile.topics.add(TOPICS[(firstTopic + i) % TOPICS.length]);
+        }
+        return profile;
+    }
+
+    private static class Profile {
+        private long databaseId;
+        private String description;
+        private int stars;
+        private int forks;
+        private int watchers;
+        private int contributors;
+        private double commitsPerDay;
+        private Instant createdAt;
+        private Instant pushedAt;
+        private int totalCommits;
+        private int openPullRequests;
+        private int closedPullRequests;
+        private int mergedPullRequests;
+        private int openIssues;
+        private int closedIssues;
+        private int goodFirstIssues;
+        private int releases;
+        private int diskUsage;
+        private String[] license;
+        private final List<String> languages = new ArrayList<>();
+        private final List<Long> languageSizes = new ArrayList<>();
+        private final List<String> topics = new ArrayList<>();
+    }
+}
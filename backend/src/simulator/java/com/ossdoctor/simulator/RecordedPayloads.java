@@ -0,0 +1,60 @@
+package com.ossdoctor.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 녹화된 응답 (실제 GitHub 응답을 저장해 둔 JSON 파일)
+ * 파일이 있으면 합성 응답 대신 사용
+ * - REST:    {recordings}/rest/repos/{owner}/{repo}/languages.json (요청 경로 그대로)
+ * - GraphQL: {recordings}/graphql/{operationName}.json (응답 전체, 예: SearchRepositories.json)
+ * - 저장소:  {recordings}/repository/{owner}/{name}.json (배치 조회의 저장소 노드 하나)
+ */
+@Slf4j
+public class RecordedPayloads {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    public RecordedPayloads(ObjectMapper objectMapper, Path directory) {
+        this.objectMapper = objectMapper;
+        this.directory = directory != null ? directory.toAbsolutePath().normalize() : null;
+        if (directory != null) {
+            log.info("녹화된 응답 디렉토리: {}", this.directory);
+        }
+    }
+
+    public Optional<JsonNode> rest(String path) {
+        return read("rest" + path + ".json");
+    }
+
+    public Optional<JsonNode> graphql(String operationName) {
+        return read("graphql/" + operationName + ".json");
+    }
+
+    public Optional<JsonNode> repository(String owner, String name) {
+        return read("repository/" + owner.toLowerCase() + "/" + name.toLowerCase() + ".json");
+    }
+
+    private Optional<JsonNode> read(String relativePath) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(relativePath).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readTree(file.toFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("녹화된 응답 읽기 실패: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ossdoctor.simulator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리소스(core, graphql, search)별 요청 한도
+ * GitHub 처럼 고정 윈도우 단위로 리셋, 토큰 구분 없이 시뮬레이터 전체에서 공유
+ */
+public class SimulatedRateLimit {
+
+    public static final String CORE = "core";
+    public static final String GRAPHQL = "graphql";
+    public static final String SEARCH = "search";
+
+    private final Duration window;
+    private final Map<String, Bucket> buckets = new LinkedHashMap<>();
+
+    public SimulatedRateLimit(SimulatorSettings settings) {
+        this.window = settings.getRateLimitWindow();
+        long resetAt = System.currentTimeMillis() + window.toMillis();
+        buckets.put(CORE, new Bucket(settings.getCoreLimit(), resetAt));
+        buckets.put(GRAPHQL, new Bucket(settings.getGraphqlLimit(), resetAt));
+        buckets.put(SEARCH, new Bucket(settings.getSearchLimit(), resetAt));
+    }
+
+    /**
+     * 한도 차감
+     * @return 차감 후 상태 (남은 한도가 없으면 차감하지 않고 remaining=0 상태 반환, exceeded=true)
+     */
+    public synchronized Usage consume(String resource, int cost) {
+        Bucket bucket = bucket(resource);
+        if (bucket.remaining < cost) {
+            return bucket.usage(resource, true);
+        }
+        bucket.remaining -= cost;
+        return bucket.usage(resource, false);
+    }
+
+    // 차감 없이 현재 상태 (조건부 요청 304, /rate_limit)
+    public synchronized Usage peek(String resource) {
+        return bucket(resource).usage(resource, false);
+    }
+
+    public synchronized Map<String, Usage> snapshot() {
+        Map<String, Usage> result = new LinkedHashMap<>();
+        buckets.keySet().forEach(resource -> result.put(resource, bucket(resource).usage(resource, false)));
+        return result;
+    }
+
+    private Bucket bucket(String resource) {
+        Bucket bucket = buckets.get(resource);
+        long now = System.currentTimeMillis();
+        if (now >= bucket.resetAt) {
+            bucket.remaining = bucket.limit;
+            bucket.resetAt = now + window.toMillis();
+        }
+        return bucket;
+    }
+
+    private static class Bucket {
+        private final int limit;
+        private int remaining;
+        private long resetAt;
+
+        Bucket(int limit, long resetAt) {
+            this.limit = limit;
+            this.remaining = limit;
+            this.resetAt = resetAt;
+        }
+
+        Usage usage(String resource, boolean exceeded) {
+            return new Usage(resource, limit, remaining, resetAt / 1000, exceeded);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Usage {
+        private final String resource;
+        private final int limit;
+        private final int remaining;
+        private final long resetEpochSeconds;
+        private final boolean exceeded;
+
+        public int getUsed() {
+            return limit - remaining;
+        }
+
+        public String getResetAt() {
+            return Instant.ofEpochSecond(resetEpochSeconds).toString();
+        }
+    }
+}
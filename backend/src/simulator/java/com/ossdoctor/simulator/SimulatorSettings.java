@@ -0,0 +1,107 @@
+package com.ossdoctor.simulator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이터 설정
+ * 명령행 인자(--port=8089)가 우선, 없으면 시스템 프로퍼티(-Dsimulator.port=8089), 둘 다 없으면 기본값
+ */
+@Getter
+@Builder
+public class SimulatorSettings {
+
+    @Builder.Default
+    private final String host = "127.0.0.1";
+    @Builder.Default
+    private final int port = 8089;
+
+    // 난수 시드 (같은 시드면 같은 저장소에 같은 응답)
+    @Builder.Default
+    private final long seed = 42L;
+
+    // 응답 크기 배율 (contributor 수, 커밋 수, 검색 결과 수 등에 곱함)
+    @Builder.Default
+    private final double scale = 1.0;
+
+    // 응답 지연 분포 (graphql / rest 미지정 시 latency 사용)
+    @Builder.Default
+    private final LatencyModel latency = LatencyModel.parse("lognormal:60,0.5");
+    private final LatencyModel graphqlLatency;
+    private final LatencyModel restLatency;
+
+    // 응답 크기에 비례한 추가 지연 (KB 당 ms)
+    @Builder.Default
+    private final double latencyPerKb = 0.0;
+
+    // 리소스별 시간당 요청 한도 (GitHub 기본값)
+    @Builder.Default
+    private final int coreLimit = 5000;
+    @Builder.Default
+    private final int graphqlLimit = 5000;
+    @Builder.Default
+    private final int searchLimit = 30;
+    @Builder.Default
+    private final Duration rateLimitWindow = Duration.ofHours(1);
+
+    // 에러 주입 비율 (0.0 ~ 1.0)
+    private final double errorRate403;
+    private final double errorRate429;
+    private final double errorRate5xx;
+    @Builder.Default
+    private final int retryAfterSeconds = 1;
+
+    // 녹화된 응답 디렉토리 (없으면 모두 합성)
+    private final Path recordings;
+
+    public LatencyModel latencyFor(boolean graphql) {
+        LatencyModel specific = graphql ? graphqlLatency : restLatency;
+        return specific != null ? specific : latency;
+    }
+
+    public static SimulatorSettings fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("simulator.")) {
+                values.put(key.toString().substring("simulator.".length()), value.toString());
+            }
+        });
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        SimulatorSettingsBuilder builder = SimulatorSettings.builder();
+        values.forEach((key, value) -> {
+            switch (key) {
+                case "host" -> builder.host(value);
+                case "port" -> builder.port(Integer.parseInt(value));
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "scale" -> builder.scale(Double.parseDouble(value));
+                case "latency" -> builder.latency(LatencyModel.parse(value));
+                case "latency-graphql" -> builder.graphqlLatency(LatencyModel.parse(value));
+                case "latency-rest" -> builder.restLatency(LatencyModel.parse(value));
+                case "latency-per-kb" -> builder.latencyPerKb(Double.parseDouble(value));
+                case "core-limit" -> builder.coreLimit(Integer.parseInt(value));
+                case "graphql-limit" -> builder.graphqlLimit(Integer.parseInt(value));
+                case "search-limit" -> builder.searchLimit(Integer.parseInt(value));
+                case "rate-limit-window" -> builder.rateLimitWindow(Duration.ofSeconds(Long.parseLong(value)));
+                case "error-rate-403" -> builder.errorRate403(Double.parseDouble(value));
+                case "error-rate-429" -> builder.errorRate429(Double.parseDouble(value));
+                case "error-rate-5xx" -> builder.errorRate5xx(Double.parseDouble(value));
+                case "retry-after" -> builder.retryAfterSeconds(Integer.parseInt(value));
+                case "recordings" -> builder.recordings(Path.of(value));
+                default -> throw new IllegalArgumentException("알 수 없는 설정: " + key);
+            }
+        });
+        return builder.build();
+    }
+}
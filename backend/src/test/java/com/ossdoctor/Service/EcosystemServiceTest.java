@@ -0,0 +1,45 @@
+package com.ossdoctor.Service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 검색 캐시 키: 단어 순서 / 대소문자만 다른 검색은 같은 검색어
+class EcosystemServiceTest {
+
+    @Test
+    void ignoresTermOrderCaseAndWhitespace() {
+        assertEquals(search("boot spring"), search("  Spring   BOOT "));
+        assertEquals(search("redux \"state management\""), search("\"State Management\" Redux"));
+        assertTrue(search("Spring Boot").startsWith("boot forks:>5 "));
+    }
+
+    @Test
+    void keepsNotWithFollowingTerm() {
+        String query = search("react NOT angular");
+
+        assertEquals(query, search("NOT angular react"));
+        assertTrue(query.contains("NOT angular"));
+        assertNotEquals(query, search("angular NOT react"));
+    }
+
+    @Test
+    void keepsBooleanGroupsInOriginalOrder() {
+        String query = search("React OR Vue");
+
+        assertTrue(query.contains("react OR vue"));
+        assertNotEquals(query, search("vue OR react"));
+        assertEquals(query, search("react  OR  VUE"));
+    }
+
+    @Test
+    void qualifiersAreCanonicalisedWithFreeText() {
+        assertEquals(
+                EcosystemService.searchString("web", "Java", "MIT", "", "stars"),
+                EcosystemService.searchString(" WEB ", "java ", "mit", "", "stars"));
+    }
+
+    private static String search(String searchQuery) {
+        return EcosystemService.searchString(searchQuery, "", "", "", "beginner-friendly");
+    }
+}
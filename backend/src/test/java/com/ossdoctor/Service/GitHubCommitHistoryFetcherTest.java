@@ -0,0 +1,120 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커서 페이지네이션: max-pages 제한, truncated 표시, 날짜별 집계, GraphQL 에러 처리
+class GitHubCommitHistoryFetcherTest {
+
+    private static final Instant SINCE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> pages = new ArrayList<>(); // 요청 순서대로 응답
+
+    private GitHubCommitHistoryFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        properties.getHistory().setMaxPages(2);
+        GitHubTokenPool tokenPool = new GitHubTokenPool(properties);
+        GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor(properties, tokenPool);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(pages.get(requests.getAndIncrement()))
+                        .build()))
+                .build();
+        GitHubGraphQLClient graphQLClient = new GitHubGraphQLClient(webClient, properties, governor, objectMapper,
+                new GitHubResponseStore(properties, objectMapper), new GitHubRetryPolicy(properties));
+        fetcher = new GitHubCommitHistoryFetcher(graphQLClient, properties,
+                new GitHubCacheManager(properties, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void foldsCommitsAcrossPagesByDay() {
+        pages.add(page(true, "2024-01-02T10:00:00Z", "2024-01-02T09:00:00Z", "2024-01-01T23:00:00Z"));
+        pages.add(page(false, "2024-01-01T08:00:00Z", "2023-12-31T08:00:00Z"));
+
+        GitHubCommitHistoryFetcher.DailyCommits history = dailyCommits();
+
+        assertEquals(Map.of(
+                LocalDate.parse("2023-12-31"), 1,
+                LocalDate.parse("2024-01-01"), 2,
+                LocalDate.parse("2024-01-02"), 2), history.getCounts());
+        assertEquals(LocalDate.parse("2023-12-31"), history.getCounts().firstKey());
+        assertFalse(history.isTruncated());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void stopsAtMaxPagesAndMarksTruncated() {
+        pages.add(page(true, "2024-01-03T10:00:00Z"));
+        pages.add(page(true, "2024-01-02T10:00:00Z"));
+        pages.add(page(false, "2024-01-01T10:00:00Z"));
+
+        GitHubCommitHistoryFetcher.DailyCommits history = dailyCommits();
+
+        assertTrue(history.isTruncated());
+        assertEquals(2, requests.get());
+        assertEquals(2, history.getCounts().size());
+    }
+
+    @Test
+    void missingDefaultBranchIsEmptyHistory() {
+        pages.add("{\"data\":{\"repository\":{\"defaultBranchRef\":null}}}");
+
+        GitHubCommitHistoryFetcher.DailyCommits history = dailyCommits();
+
+        assertTrue(history.getCounts().isEmpty());
+        assertFalse(history.isTruncated());
+    }
+
+    @Test
+    void graphQLErrorsWithoutRepositoryFail() {
+        pages.add("{\"data\":{\"repository\":null},\"errors\":[{\"type\":\"NOT_FOUND\"}]}");
+
+        GitHubApiException error = assertThrows(GitHubApiException.class, this::dailyCommits);
+        assertTrue(error.getMessage().contains("NOT_FOUND"));
+    }
+
+    private GitHubCommitHistoryFetcher.DailyCommits dailyCommits() {
+        return fetcher.dailyCommits("owner", "repo", SINCE, null).block(Duration.ofSeconds(10));
+    }
+
+    private static String page(boolean hasNextPage, String... committedDates) {
+        StringBuilder nodes = new StringBuilder();
+        for (String committedDate : committedDates) {
+            if (!nodes.isEmpty()) {
+                nodes.append(',');
+            }
+            nodes.append("{\"committedDate\":\"").append(committedDate).append("\"}");
+        }
+        return "{\"data\":{\"repository\":{\"defaultBranchRef\":{\"target\":{\"history\":{"
+                + "\"totalCount\":100,"
+                + "\"pageInfo\":{\"hasNextPage\":" + hasNextPage + ",\"endCursor\":\"cursor\"},"
+                + "\"nodes\":[" + nodes + "]}}}}}}";
+    }
+}
@@ -0,0 +1,82 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.JsonStreamDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 한도 리셋 대기는 요청 타임아웃에 포함되지 않음
+class GitHubGraphQLClientTest {
+
+    private static final long RESET_AFTER_MILLIS = 1500; // 타임아웃(1초)보다 길게
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private GitHubRetryPolicy retryPolicy;
+    private GitHubGraphQLClient client;
+
+    @BeforeEach
+    void setUp() {
+        properties.getApi().setTimeoutSeconds(1);
+        GitHubTokenPool tokenPool = new GitHubTokenPool(properties);
+        GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor(properties, tokenPool);
+        retryPolicy = new GitHubRetryPolicy(properties);
+
+        // 모든 토큰의 graphql 한도 소진
+        tokenPool.getSlots().forEach(slot -> slot.budget(GitHubRateLimitGovernor.GRAPHQL)
+                .update(5000, 0, System.currentTimeMillis() + RESET_AFTER_MILLIS));
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"data\":{\"viewer\":{\"login\":\"octocat\"}}}")
+                            .build());
+                })
+                .filter(governor.exchangeFilter())
+                .build();
+        client = new GitHubGraphQLClient(webClient, properties, governor, new ObjectMapper(), null, retryPolicy);
+    }
+
+    @Test
+    void lowPriorityStreamWaitsForResetWithoutTimingOut() {
+        List<JsonStreamDecoder.Record> records = client.stream("query { viewer { login } }", Map.of(),
+                        GitHubRateLimitGovernor.Priority.LOW, "data.viewer.login")
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals("octocat", records.get(0).asTree().asText());
+        assertSentOnceWithoutRetry();
+    }
+
+    @Test
+    void executeWaitsForResetWithinMaxWait() {
+        JsonNode response = client.execute("query { viewer { login } }", Map.of())
+                .block(Duration.ofSeconds(10));
+
+        assertEquals("octocat", response.path("data").path("viewer").path("login").asText());
+        assertSentOnceWithoutRetry();
+    }
+
+    private void assertSentOnceWithoutRetry() {
+        assertEquals(1, requests.get());
+        assertEquals(0L, retryPolicy.snapshot().get("retry.timeout"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import com.ossdoctor.util.RateLimitBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 한도가 충분하면 차감만, 적으면 사용자 요청은 간격 조절 / 백그라운드 요청은 리셋까지 대기, 소진되면 사용자 요청은 바로 실패
+class GitHubRateLimitGovernorTest {
+
+    private static final String CORE = GitHubRateLimitGovernor.CORE;
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private GitHubRateLimitGovernor governor;
+    private RateLimitBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        properties.setToken("ghp_test");
+        GitHubTokenPool tokenPool = new GitHubTokenPool(properties);
+        governor = new GitHubRateLimitGovernor(properties, tokenPool);
+        budget = tokenPool.getSlots().get(0).budget(CORE); // reserve = 100 * 0.1 = 10
+    }
+
+    @Test
+    void reservesOneRequestWhenBudgetIsAboveReserve() {
+        budget.update(100, 50, System.currentTimeMillis() + 60_000);
+
+        assertTrue(elapsedMillis(governor.acquire(CORE, GitHubRateLimitGovernor.Priority.LOW)) < 500);
+        assertEquals(49, budget.getRemaining());
+        assertTrue(governor.hasCapacity(CORE, GitHubRateLimitGovernor.Priority.LOW));
+    }
+
+    @Test
+    void pacesUserRequestsWhenBudgetIsLow() {
+        budget.update(100, 4, System.currentTimeMillis() + 1000); // 리셋까지 4개 => 약 250ms 간격
+
+        assertTrue(elapsedMillis(governor.acquire(CORE, GitHubRateLimitGovernor.Priority.HIGH)) < 150);
+        long second = elapsedMillis(governor.acquire(CORE, GitHubRateLimitGovernor.Priority.HIGH));
+        assertTrue(second >= 150 && second < 1000, "두 번째 요청 대기 " + second + "ms");
+        assertEquals(2, budget.getRemaining());
+    }
+
+    @Test
+    void lowPriorityWaitsForResetWhenBudgetIsLow() {
+        budget.update(100, 10, System.currentTimeMillis() + 300);
+        assertFalse(governor.hasCapacity(CORE, GitHubRateLimitGovernor.Priority.LOW));
+        assertTrue(governor.hasCapacity(CORE, GitHubRateLimitGovernor.Priority.HIGH));
+        assertEquals(0, governor.getQueuedCount()); // 확인만 해서는 대기 수에 포함되지 않음
+
+        Disposable waiting = governor.awaitCapacity(CORE, GitHubRateLimitGovernor.Priority.LOW).subscribe();
+        assertEquals(1, governor.getQueuedCount());
+        waiting.dispose();
+        assertEquals(0, governor.getQueuedCount());
+
+        assertTrue(elapsedMillis(governor.acquire(CORE, GitHubRateLimitGovernor.Priority.LOW)) >= 250);
+    }
+
+    @Test
+    void userRequestFailsFastWhenResetIsBeyondMaxWait() {
+        properties.getRateLimit().setMaxWaitSeconds(1);
+        budget.update(100, 0, System.currentTimeMillis() + 60_000);
+
+        long start = System.nanoTime();
+        assertThrows(GitHubApiException.class, () -> governor.acquire(CORE, GitHubRateLimitGovernor.Priority.HIGH).block());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000); // 리셋(60초)까지 기다리지 않음
+        assertFalse(governor.hasCapacity(CORE, GitHubRateLimitGovernor.Priority.HIGH));
+    }
+
+    @Test
+    void userRequestWaitsWhenResetIsWithinMaxWait() {
+        budget.update(100, 0, System.currentTimeMillis() + 300);
+
+        assertTrue(elapsedMillis(governor.acquire(CORE, GitHubRateLimitGovernor.Priority.HIGH)) >= 250);
+    }
+
+    private static long elapsedMillis(Mono<?> call) {
+        long start = System.nanoTime();
+        call.block();
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+}
@@ -0,0 +1,190 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.exception.GitHubApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 별칭 배치: 중복 병합, null 별칭의 에러 전달, HIGH 승격, 응답 완료 전 별칭별 전달
+class GitHubRepositoryBatcherTest {
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> requestBodies = new CopyOnWriteArrayList<>();
+
+    private Supplier<Flux<String>> response; // 요청마다 보낼 응답 조각
+    private GitHubTokenPool tokenPool;
+    private GitHubRepositoryBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        properties.getBatch().setWindowMillis(50);
+        tokenPool = new GitHubTokenPool(properties);
+        GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor(properties, tokenPool);
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> readBody(request)
+                        .doOnNext(requestBodies::add)
+                        .map(body -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body(response.get().map(GitHubRepositoryBatcherTest::toBuffer))
+                                .build()))
+                .build();
+        GitHubGraphQLClient graphQLClient = new GitHubGraphQLClient(webClient, properties, governor, objectMapper,
+                new GitHubResponseStore(properties, objectMapper), new GitHubRetryPolicy(properties));
+        batcher = new GitHubRepositoryBatcher(graphQLClient, properties, objectMapper);
+    }
+
+    @Test
+    void mergesDuplicateRepositoriesUnderOneAlias() {
+        response = () -> Flux.just("{\"data\":{\"r0\":" + repository("octo/hello") + "}}");
+
+        List<JsonNode> results = Flux.merge(
+                        batcher.fetch("octo", "hello", GitHubRateLimitGovernor.Priority.HIGH),
+                        batcher.fetch("Octo", "Hello", GitHubRateLimitGovernor.Priority.HIGH))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, requestBodies.size());
+        assertEquals(Map.of("o0", "octo", "n0", "hello"),
+                objectMapper.convertValue(requestBodies.get(0).path("variables"), Map.class));
+        assertEquals(2, results.size());
+        results.forEach(result -> {
+            assertEquals("octo/hello", result.path("data").path("repository").path("nameWithOwner").asText());
+            assertFalse(result.has("errors"));
+        });
+    }
+
+    @Test
+    void nullAliasReceivesItsErrorsOnCompletion() {
+        response = () -> Flux.just("{\"data\":{\"r0\":null,\"r1\":" + repository("octo/world") + "},"
+                + "\"errors\":[{\"type\":\"NOT_FOUND\",\"path\":[\"r0\"],\"message\":\"not found\"}]}");
+
+        CompletableFuture<JsonNode> missing = batcher.fetch("octo", "missing", GitHubRateLimitGovernor.Priority.HIGH).toFuture();
+        CompletableFuture<JsonNode> found = batcher.fetch("octo", "world", GitHubRateLimitGovernor.Priority.HIGH).toFuture();
+
+        JsonNode missingResult = missing.join();
+        assertTrue(missingResult.path("data").path("repository").isNull());
+        assertEquals(1, missingResult.path("errors").size());
+        assertEquals("NOT_FOUND", missingResult.path("errors").get(0).path("type").asText());
+
+        JsonNode foundResult = found.join();
+        assertEquals("octo/world", foundResult.path("data").path("repository").path("nameWithOwner").asText());
+        assertFalse(foundResult.has("errors"));
+    }
+
+    @Test
+    void batchWithHighRequestIsSentAsHigh() {
+        // 한도 소진, 리셋은 max-wait 보다 뒤 => LOW 는 리셋까지 대기, HIGH 는 바로 실패
+        long resetAt = System.currentTimeMillis() + Duration.ofMinutes(10).toMillis();
+        tokenPool.getSlots().forEach(slot -> slot.budget(GitHubRateLimitGovernor.GRAPHQL).update(5000, 0, resetAt));
+        response = () -> Flux.just("{\"data\":{}}");
+
+        CompletableFuture<JsonNode> low = batcher.fetch("octo", "low", GitHubRateLimitGovernor.Priority.LOW).toFuture();
+        CompletableFuture<JsonNode> high = batcher.fetch("octo", "high", GitHubRateLimitGovernor.Priority.HIGH).toFuture();
+
+        // LOW 요청도 같은 배치이므로 리셋을 기다리지 않고 HIGH 와 함께 실패
+        assertRateLimitError(low);
+        assertRateLimitError(high);
+
+        // LOW 만 있는 배치는 리셋까지 대기
+        CompletableFuture<JsonNode> lowOnly = batcher.fetch("octo", "low", GitHubRateLimitGovernor.Priority.LOW).toFuture();
+        assertThrows(TimeoutException.class, () -> lowOnly.get(500, TimeUnit.MILLISECONDS));
+        lowOnly.cancel(true);
+        assertTrue(requestBodies.isEmpty());
+    }
+
+    @Test
+    void deliversEachAliasBeforeResponseCompletes() throws Exception {
+        Sinks.Many<String> rest = Sinks.many().unicast().onBackpressureBuffer();
+        response = () -> Flux.concat(Flux.just("{\"data\":{\"r0\":" + repository("octo/first") + ","),
+                rest.asFlux());
+
+        CompletableFuture<JsonNode> first = batcher.fetch("octo", "first", GitHubRateLimitGovernor.Priority.HIGH).toFuture();
+        CompletableFuture<JsonNode> second = batcher.fetch("octo", "second", GitHubRateLimitGovernor.Priority.HIGH).toFuture();
+
+        // r0 는 응답이 끝나기 전에 전달
+        assertEquals("octo/first", first.get(5, TimeUnit.SECONDS)
+                .path("data").path("repository").path("nameWithOwner").asText());
+        assertFalse(second.isDone());
+
+        rest.tryEmitNext("\"r1\":" + repository("octo/second") + "}}");
+        rest.tryEmitComplete();
+        assertEquals("octo/second", second.get(5, TimeUnit.SECONDS)
+                .path("data").path("repository").path("nameWithOwner").asText());
+    }
+
+    private static void assertRateLimitError(CompletableFuture<JsonNode> result) {
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GitHubApiException.class, error.getCause());
+    }
+
+    private static String repository(String nameWithOwner) {
+        return "{\"nameWithOwner\":\"" + nameWithOwner + "\",\"stargazerCount\":1}";
+    }
+
+    private static DataBuffer toBuffer(String chunk) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 요청 본문 (query + variables) 을 JSON 으로 읽음
+    private Mono<JsonNode> readBody(ClientRequest request) {
+        MockClientHttpRequest httpRequest = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert(httpRequest, new BodyInserter.Context() {
+                    @Override
+                    public List<HttpMessageWriter<?>> messageWriters() {
+                        return ExchangeStrategies.withDefaults().messageWriters();
+                    }
+
+                    @Override
+                    public Optional<ServerHttpRequest> serverRequest() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Map<String, Object> hints() {
+                        return Map.of();
+                    }
+                })
+                .then(Mono.defer(httpRequest::getBodyAsString))
+                .map(body -> {
+                    try {
+                        return objectMapper.readTree(body);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+}
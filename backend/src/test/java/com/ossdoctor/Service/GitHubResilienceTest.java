@@ -0,0 +1,37 @@
+package com.ossdoctor.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// github.calls: 작업별 응답 시간 히스토그램 (application.yml 의 percentiles-histogram)
+@SpringBootTest
+@AutoConfigureObservability(tracing = false) // 테스트에서도 Prometheus 레지스트리 사용 (버킷을 내보내는 레지스트리)
+class GitHubResilienceTest {
+
+    @Autowired
+    GitHubResilience resilience;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void recordsLatencyHistogramPerOperation() {
+        resilience.protect(GitHubResilience.REPOSITORY_ACTIVITY, Mono.just(1)).block();
+        resilience.timed(GitHubResilience.RATE_LIMIT, Mono.just(1)).block();
+
+        for (String operation : new String[]{GitHubResilience.REPOSITORY_ACTIVITY, GitHubResilience.RATE_LIMIT}) {
+            Timer timer = meterRegistry.get("github.calls")
+                    .tag("operation", operation)
+                    .tag("outcome", "success")
+                    .timer();
+            assertEquals(1, timer.count());
+            assertTrue(timer.takeSnapshot().histogramCounts().length > 0, operation + " 히스토그램 버킷 없음");
+        }
+    }
+}
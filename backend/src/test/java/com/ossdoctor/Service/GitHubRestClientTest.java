@@ -0,0 +1,120 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.DiskResponseStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 조건부 요청: ETag 로 재검증, 304 면 저장된 본문 + 갱신된 fetchedAt, 재시작 후 디스크에서 ETag 복구
+class GitHubRestClientTest {
+
+    private static final String PATH = "/repos/{owner}/{repo}/languages";
+    private static final String ETAG = "\"abc\"";
+    private static final String BODY = "{\"Java\":100}";
+
+    @TempDir
+    Path directory;
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>(); // 요청마다 보낸 If-None-Match
+
+    private GitHubResponseStore responseStore;
+
+    @BeforeEach
+    void setUp() {
+        properties.getStore().setDirectory(directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (responseStore != null) {
+            responseStore.close();
+        }
+    }
+
+    @Test
+    void revalidatesWithEtagAndRefreshesFetchedAtOn304() throws InterruptedException {
+        GitHubRestClient client = client(false);
+
+        GitHubRestClient.StoredResponse first = client.get(PATH, "octo", "hello").block(Duration.ofSeconds(5));
+        Thread.sleep(20);
+        GitHubRestClient.StoredResponse second = client.get(PATH, "octo", "hello").block(Duration.ofSeconds(5));
+
+        assertEquals(List.of("", ETAG), ifNoneMatch);
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals(ETAG, second.getEtag());
+        assertTrue(second.getFetchedAt() > first.getFetchedAt());
+        assertEquals(1.0, meterRegistry.get("github.rest.responses").tag("result", "not_modified").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("github.rest.responses").tag("result", "full").functionCounter().count());
+    }
+
+    @Test
+    void recoversEtagFromDiskAfterRestart() throws Exception {
+        String storeKey = "rest:" + properties.getApi().getBaseUrl() + "/repos/octo/hello/languages";
+        long storedAt = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            store.put(storeKey, new DiskResponseStore.Entry(
+                    BODY.getBytes(StandardCharsets.UTF_8), ETAG, null, null, storedAt));
+        }
+
+        GitHubRestClient.StoredResponse response = client(true).get(PATH, "octo", "hello").block(Duration.ofSeconds(5));
+
+        // 메모리가 비어 있어도 디스크의 ETag 로 조건부 요청 => 304
+        assertEquals(List.of(ETAG), ifNoneMatch);
+        assertEquals(100, response.getBody().path("Java").asInt());
+        assertTrue(response.getFetchedAt() > storedAt);
+
+        // 재검증 시각이 디스크에도 기록됨 (백그라운드 저장)
+        long deadline = System.currentTimeMillis() + 5000;
+        long persistedAt = storedAt;
+        while (persistedAt == storedAt && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            persistedAt = responseStore.find(storeKey).map(DiskResponseStore.Entry::getFetchedAt)
+                    .block(Duration.ofSeconds(5));
+        }
+        assertEquals(response.getFetchedAt(), persistedAt);
+    }
+
+    private GitHubRestClient client(boolean storeEnabled) {
+        properties.getStore().setEnabled(storeEnabled);
+        responseStore = new GitHubResponseStore(properties, objectMapper);
+
+        // ETag 가 맞으면 304, 아니면 본문 + ETag
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String etag = String.join(",", request.headers().getIfNoneMatch());
+                    ifNoneMatch.add(etag);
+                    if (ETAG.equals(etag)) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .header(HttpHeaders.ETAG, ETAG)
+                            .body(BODY)
+                            .build());
+                })
+                .build();
+        return new GitHubRestClient(webClient, properties, responseStore, objectMapper, meterRegistry);
+    }
+}
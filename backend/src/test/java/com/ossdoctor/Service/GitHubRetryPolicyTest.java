@@ -0,0 +1,103 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실패 원인 분류: 일시적인 실패만 재시도, 보조 한도는 Retry-After 만큼 (상한 초과면 바로 실패)
+class GitHubRetryPolicyTest {
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final GitHubRetryPolicy retryPolicy = new GitHubRetryPolicy(properties);
+
+    @Test
+    void classifiesClientErrorsAsPermanent() {
+        assertEquals(GitHubRetryPolicy.Cause.PERMANENT, retryPolicy.classify(response(404, new HttpHeaders())));
+        assertEquals(GitHubRetryPolicy.Cause.PERMANENT, retryPolicy.classify(response(401, new HttpHeaders())));
+        assertEquals(GitHubRetryPolicy.Cause.PERMANENT, retryPolicy.classify(response(422, new HttpHeaders())));
+        assertEquals(GitHubRetryPolicy.Cause.PERMANENT, retryPolicy.classify(response(403, new HttpHeaders()))); // 권한 없음
+    }
+
+    @Test
+    void classifiesTransientFailures() {
+        assertEquals(GitHubRetryPolicy.Cause.SERVER_ERROR, retryPolicy.classify(response(500, new HttpHeaders())));
+        assertEquals(GitHubRetryPolicy.Cause.SERVER_ERROR, retryPolicy.classify(response(502, new HttpHeaders())));
+        assertEquals(GitHubRetryPolicy.Cause.TIMEOUT, retryPolicy.classify(new TimeoutException()));
+        assertEquals(GitHubRetryPolicy.Cause.NETWORK, retryPolicy.classify(new IOException("connection reset")));
+        assertEquals(GitHubRetryPolicy.Cause.NETWORK, retryPolicy.classify(new WebClientRequestException(
+                new ConnectException("refused"), HttpMethod.GET, URI.create("https://api.github.com"), new HttpHeaders())));
+    }
+
+    @Test
+    void classifiesRateLimits() {
+        assertEquals(GitHubRetryPolicy.Cause.SECONDARY_RATE_LIMIT, retryPolicy.classify(response(403, retryAfter("30"))));
+        assertEquals(GitHubRetryPolicy.Cause.SECONDARY_RATE_LIMIT, retryPolicy.classify(response(429, retryAfter("30"))));
+
+        HttpHeaders exhausted = new HttpHeaders();
+        exhausted.add("X-RateLimit-Remaining", "0");
+        assertEquals(GitHubRetryPolicy.Cause.RATE_LIMIT, retryPolicy.classify(response(403, exhausted)));
+    }
+
+    @Test
+    void retriesTransientFailuresButNotPermanentOnes() {
+        properties.getRetry().setInitialBackoffMillis(1);
+        properties.getRetry().setMaxBackoffMillis(1);
+
+        AtomicInteger attempts = new AtomicInteger();
+        assertEquals("ok", failing(attempts, 2, response(503, new HttpHeaders())).block());
+        assertEquals(3, attempts.get());
+        assertEquals(2, retryPolicy.retryCount(GitHubRetryPolicy.Cause.SERVER_ERROR));
+
+        attempts.set(0);
+        assertThrows(WebClientResponseException.class, () -> failing(attempts, 1, response(404, new HttpHeaders())).block());
+        assertEquals(1, attempts.get());
+        assertEquals(1, retryPolicy.failureCount(GitHubRetryPolicy.Cause.PERMANENT));
+    }
+
+    @Test
+    void waitsForRetryAfterOnlyWithinCap() {
+        properties.getRetry().setMaxRetryAfterSeconds(1);
+
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        assertEquals("ok", failing(attempts, 1, response(429, retryAfter("1"))).block());
+        assertTrue(System.nanoTime() - start >= 1_000_000_000L); // Retry-After 만큼 대기
+        assertEquals(2, attempts.get());
+
+        attempts.set(0);
+        start = System.nanoTime();
+        assertThrows(WebClientResponseException.class, () -> failing(attempts, 1, response(403, retryAfter("120"))).block());
+        assertTrue(System.nanoTime() - start < 1_000_000_000L); // 상한을 넘으면 기다리지 않음
+        assertEquals(1, attempts.get());
+        assertEquals(1, retryPolicy.retryCount(GitHubRetryPolicy.Cause.SECONDARY_RATE_LIMIT));
+        assertEquals(1, retryPolicy.failureCount(GitHubRetryPolicy.Cause.SECONDARY_RATE_LIMIT));
+    }
+
+    // 처음 failures 번은 error 로 실패하는 호출
+    private Mono<String> failing(AtomicInteger attempts, int failures, Throwable error) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures ? Mono.<String>error(error) : Mono.just("ok"))
+                .retryWhen(retryPolicy.forOperation("test"));
+    }
+
+    private static WebClientResponseException response(int status, HttpHeaders headers) {
+        return WebClientResponseException.create(status, "status " + status, headers, new byte[0], null);
+    }
+
+    private static HttpHeaders retryAfter(String seconds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.RETRY_AFTER, seconds);
+        return headers;
+    }
+}
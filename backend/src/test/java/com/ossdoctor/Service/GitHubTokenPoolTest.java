@@ -0,0 +1,68 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.config.GithubApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 토큰 선택: 남은 한도가 가장 많은 토큰, 소진된 토큰은 리셋까지 / 인증 실패한 토큰은 계속 제외
+class GitHubTokenPoolTest {
+
+    private static final String CORE = GitHubRateLimitGovernor.CORE;
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long RESET = NOW + 60_000;
+
+    private GitHubTokenPool tokenPool;
+    private GitHubTokenPool.TokenSlot first;
+    private GitHubTokenPool.TokenSlot second;
+    private GitHubTokenPool.TokenSlot third;
+
+    @BeforeEach
+    void setUp() {
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.setToken("ghp_first");
+        properties.setTokens(List.of("ghp_second", "ghp_third", "ghp_first")); // 중복은 한 번만
+        tokenPool = new GitHubTokenPool(properties);
+
+        assertEquals(3, tokenPool.getSlots().size());
+        first = tokenPool.findById("token-1").orElseThrow();
+        second = tokenPool.findById("token-2").orElseThrow();
+        third = tokenPool.findById("token-3").orElseThrow();
+    }
+
+    @Test
+    void prefersTokenWithMostRemainingAndUnknownBudgets() {
+        first.budget(CORE).update(5000, 100, RESET);
+        second.budget(CORE).update(5000, 4000, RESET);
+        assertSame(third, tokenPool.select(CORE, NOW)); // 아직 응답을 받지 않은 토큰부터
+
+        third.budget(CORE).update(5000, 2000, RESET);
+        assertSame(second, tokenPool.select(CORE, NOW));
+    }
+
+    @Test
+    void skipsExhaustedTokenUntilReset() {
+        first.budget(CORE).update(5000, 0, RESET);
+        second.budget(CORE).update(5000, 10, RESET);
+        third.budget(CORE).update(5000, 0, RESET);
+
+        assertSame(second, tokenPool.select(CORE, NOW));
+        assertSame(first, tokenPool.select(CORE, RESET)); // 리셋 후에는 한도 정보가 없는 토큰으로 취급
+    }
+
+    @Test
+    void skipsInvalidTokensAndFallsBackToEarliestReset() {
+        first.budget(CORE).update(5000, 4000, RESET);
+        second.budget(CORE).update(5000, 10, RESET);
+        third.budget(CORE).update(5000, 0, NOW + 1000);
+        first.invalidate();
+
+        assertSame(second, tokenPool.select(CORE, NOW));
+
+        second.budget(CORE).update(5000, 0, RESET);
+        assertSame(third, tokenPool.select(CORE, NOW)); // 모두 소진 => 가장 먼저 리셋되는 유효한 토큰
+    }
+}
@@ -0,0 +1,139 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.Entity.ISSUE_STATE;
+import com.ossdoctor.Entity.PR_STATE;
+import com.ossdoctor.Entity.RepositoryEntity;
+import com.ossdoctor.Repository.IssueRepository;
+import com.ossdoctor.Repository.PullRequestRepository;
+import com.ossdoctor.Repository.RepositoryRepository;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.WebhookSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// src/test/resources/webhooks 의 GitHub 웹훅 페이로드로 검증
+@SpringBootTest
+class GitHubWebhookServiceTest {
+
+    private static final long REPO_ID = 1296269L;
+
+    @Autowired
+    GitHubWebhookService webhookService;
+    @Autowired
+    RepositoryRepository repositoryRepository;
+    @Autowired
+    IssueRepository issueRepository;
+    @Autowired
+    PullRequestRepository pullRequestRepository;
+    @Autowired
+    GithubApiProperties properties;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repositoryRepository.save(RepositoryEntity.builder()
+                .githubRepoId(REPO_ID)
+                .name("Hello-World")
+                .owner("octocat")
+                .url("https://github.com/octocat/Hello-World")
+                .star(80)
+                .fork(9)
+                .watchers(80)
+                .totalCommits(10)
+                .openIssues(4)
+                .totalIssues(10)
+                .openPullRequests(3)
+                .mergedPullRequests(5)
+                .totalPullRequests(8)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueRepository.deleteAll();
+        pullRequestRepository.deleteAll();
+        repositoryRepository.deleteAll();
+        properties.getWebhook().setSecret("");
+    }
+
+    @Test
+    void verifiesSignatureOfRecordedPayload() throws IOException {
+        byte[] body = fixture("push.json");
+        properties.getWebhook().setSecret("test-secret");
+
+        assertTrue(webhookService.verifySignature(body, WebhookSignature.sign("test-secret", body)));
+        assertFalse(webhookService.verifySignature(body, WebhookSignature.sign("wrong-secret", body)));
+
+        properties.getWebhook().setSecret(""); // Secret 이 없으면 항상 거부
+        assertFalse(webhookService.verifySignature(body, WebhookSignature.sign("test-secret", body)));
+    }
+
+    @Test
+    void appliesPushAndStarToRepositoryCounters() throws IOException {
+        assertTrue(webhookService.handle("push", "push-1", payload("push.json")));
+        assertTrue(webhookService.handle("star", "star-1", payload("star-created.json")));
+
+        RepositoryEntity repository = repositoryRepository.findByGithubRepoId(REPO_ID).orElseThrow();
+        assertEquals(12, repository.getTotalCommits());
+        assertEquals(LocalDate.of(2025, 1, 10), repository.getLastCommitedAt());
+        assertEquals(82, repository.getStar());
+        assertEquals(9, repository.getFork());
+    }
+
+    @Test
+    void appliesIssueLifecycleOnceEvenWhenRedelivered() throws IOException {
+        assertTrue(webhookService.handle("issues", "issue-1", payload("issues-opened.json")));
+        assertFalse(webhookService.handle("issues", "issue-1", payload("issues-opened.json"))); // 같은 전달 재전송
+
+        RepositoryEntity repository = repositoryRepository.findByGithubRepoId(REPO_ID).orElseThrow();
+        assertEquals(5, repository.getOpenIssues());
+        assertEquals(11, repository.getTotalIssues());
+
+        assertTrue(webhookService.handle("issues", "issue-2", payload("issues-closed.json")));
+        repository = repositoryRepository.findByGithubRepoId(REPO_ID).orElseThrow();
+        assertEquals(4, repository.getOpenIssues());
+        assertEquals(1, repository.getClosedIssues());
+        assertEquals(11, repository.getTotalIssues());
+
+        assertEquals(1, issueRepository.count());
+        assertEquals(ISSUE_STATE.CLOSED, issueRepository.findAll().get(0).getState());
+    }
+
+    @Test
+    void appliesMergedPullRequest() throws IOException {
+        assertTrue(webhookService.handle("pull_request", "pr-1", payload("pull_request-closed.json")));
+
+        RepositoryEntity repository = repositoryRepository.findByGithubRepoId(REPO_ID).orElseThrow();
+        assertEquals(2, repository.getOpenPullRequests());
+        assertEquals(6, repository.getMergedPullRequests());
+        assertEquals(PR_STATE.MERGED, pullRequestRepository.findAll().get(0).getState());
+    }
+
+    @Test
+    void ignoresUntrackedRepositoryAndUnsupportedEvent() throws IOException {
+        repositoryRepository.deleteAll();
+
+        assertFalse(webhookService.handle("push", "push-2", payload("push.json")));
+        assertFalse(webhookService.handle("ping", "ping-1", objectMapper.createObjectNode()));
+    }
+
+    private byte[] fixture(String name) throws IOException {
+        return new ClassPathResource("webhooks/" + name).getInputStream().readAllBytes();
+    }
+
+    private JsonNode payload(String name) throws IOException {
+        return objectMapper.readTree(fixture(name));
+    }
+}
@@ -0,0 +1,130 @@
+package com.ossdoctor.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ossdoctor.config.GithubApiProperties;
+import com.ossdoctor.util.DiskResponseStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 추천 스냅샷: 요청 개수만큼 잘라서 응답, 없거나 오래된 카테고리는 GitHub 검색
+class RecommendationSnapshotServiceTest {
+
+    private static final String CATEGORY = "trending";
+
+    @TempDir
+    Path directory;
+
+    private final GithubApiProperties properties = new GithubApiProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EcosystemService ecosystemService = mock(EcosystemService.class);
+    private GitHubResponseStore responseStore;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRecommendation().setCategories(new ArrayList<>(List.of(CATEGORY)));
+        properties.getRecommendation().setMaxCount(3);
+        properties.getStore().setDirectory(directory.toString());
+        when(ecosystemService.getRecommendedProjects(anyInt(), anyString())).thenReturn(Mono.just(result(10)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (responseStore != null) {
+            responseStore.close();
+        }
+    }
+
+    @Test
+    void slicesSnapshotAndFallsBackToSearch() {
+        when(ecosystemService.getRecommendedProjects(3, CATEGORY, GitHubRateLimitGovernor.Priority.LOW))
+                .thenReturn(Mono.just(result(3)));
+        RecommendationSnapshotService service = service(false);
+        service.refresh();
+
+        assertEquals(2, nodes(service.getRecommendedProjects(2, CATEGORY)).size());
+        assertEquals(10, nodes(service.getRecommendedProjects(5, CATEGORY)).size()); // maxCount 보다 많으면 직접 검색
+        assertEquals(10, nodes(service.getRecommendedProjects(2, "good-first-issues")).size()); // 스냅샷에 없는 카테고리
+        verify(ecosystemService, times(2)).getRecommendedProjects(anyInt(), anyString());
+    }
+
+    @Test
+    void keepsPreviousValueAndRefreshTimeWhenRefreshFails() {
+        when(ecosystemService.getRecommendedProjects(3, CATEGORY, GitHubRateLimitGovernor.Priority.LOW))
+                .thenReturn(Mono.just(result(3)), Mono.error(new IllegalStateException("GitHub 장애")));
+        RecommendationSnapshotService service = service(false);
+
+        service.refresh();
+        Instant refreshedAt = service.getRefreshedAt();
+        service.refresh();
+
+        assertEquals(refreshedAt, service.getRefreshedAt());
+        assertEquals(3, nodes(service.getRecommendedProjects(3, CATEGORY)).size());
+        verify(ecosystemService, never()).getRecommendedProjects(anyInt(), anyString());
+    }
+
+    @Test
+    void loadsPersistedSnapshotWithinMaxAge() throws IOException {
+        persist(Duration.ofMinutes(10));
+        RecommendationSnapshotService service = service(true);
+        service.load();
+
+        assertNotNull(service.getRefreshedAt());
+        assertEquals(2, nodes(service.getRecommendedProjects(2, CATEGORY)).size());
+        verify(ecosystemService, never()).getRecommendedProjects(anyInt(), anyString());
+    }
+
+    @Test
+    void ignoresPersistedSnapshotOlderThanMaxAge() throws IOException {
+        persist(properties.getRecommendation().getMaxAge().plusMinutes(1));
+        RecommendationSnapshotService service = service(true);
+        service.load();
+
+        assertNull(service.getRefreshedAt());
+        assertEquals(10, nodes(service.getRecommendedProjects(2, CATEGORY)).size());
+    }
+
+    private RecommendationSnapshotService service(boolean storeEnabled) {
+        properties.getStore().setEnabled(storeEnabled);
+        responseStore = new GitHubResponseStore(properties, objectMapper);
+        return new RecommendationSnapshotService(properties, ecosystemService, responseStore, objectMapper);
+    }
+
+    // 재시작 전에 저장된 스냅샷
+    private void persist(Duration age) throws IOException {
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            store.put("snapshot:recommendations", new DiskResponseStore.Entry(
+                    objectMapper.writeValueAsBytes(Map.of(CATEGORY, result(3))),
+                    null, null, null, System.currentTimeMillis() - age.toMillis()));
+        }
+    }
+
+    private static Map<String, Object> result(int count) {
+        List<Object> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            nodes.add(Map.of("nameWithOwner", "owner/repo-" + i));
+        }
+        return Map.of("search", Map.of("repositoryCount", count, "nodes", nodes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> nodes(Mono<Map<String, Object>> result) {
+        Map<String, Object> search = (Map<String, Object>) result.block().get("search");
+        return (List<Object>) search.get("nodes");
+    }
+}
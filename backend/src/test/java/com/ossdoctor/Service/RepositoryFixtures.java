@@ -0,0 +1,33 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.DTO.RepositoryDTO;
+
+import java.time.LocalDate;
+
+// 테스트용 GitHub 저장소 정보 (점수 입력값까지 모두 채운 기본값, 테스트에서 필요한 필드만 덮어씀)
+final class RepositoryFixtures {
+
+    private RepositoryFixtures() {
+    }
+
+    static RepositoryDTO.RepositoryDTOBuilder repository(long githubRepoId, String owner, String name) {
+        return RepositoryDTO.builder()
+                .githubRepoId(githubRepoId)
+                .name(name)
+                .owner(owner)
+                .url("https://github.com/" + owner + "/" + name)
+                .star(100)
+                .fork(40)
+                .watchers(70)
+                .contributors(9)
+                .totalContributors(150)
+                .totalCommits(600)
+                .openPullRequests(10)
+                .mergedPullRequests(300)
+                .totalPullRequests(320)
+                .openIssues(20)
+                .closedIssues(100)
+                .totalIssues(120)
+                .lastUpdatedAt(LocalDate.now().minusDays(3));
+    }
+}
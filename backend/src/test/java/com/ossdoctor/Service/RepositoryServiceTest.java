@@ -0,0 +1,89 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.DTO.RepositoryDTO;
+import com.ossdoctor.Entity.TopicEntity;
+import com.ossdoctor.Repository.RepositoryRepository;
+import com.ossdoctor.Repository.TopicRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// upsert: 바뀐 필드만 반영, 토픽은 집합으로 비교
+@SpringBootTest
+class RepositoryServiceTest {
+
+    private static final long REPO_ID = 70107786L;
+
+    @Autowired
+    RepositoryService repositoryService;
+    @Autowired
+    RepositoryRepository repositoryRepository;
+    @Autowired
+    TopicRepository topicRepository;
+    @Autowired
+    RepositoryRefreshScheduler refreshScheduler;
+
+    @AfterEach
+    void tearDown() {
+        repositoryRepository.deleteAll();
+    }
+
+    @Test
+    void keepsRowAndTopicsWhenNothingChanged() {
+        RepositoryDTO inserted = repositoryService.upsert(fetched(120, List.of("react", "ssr")));
+        Map<String, Long> topicIds = topicIds();
+
+        RepositoryDTO updated = repositoryService.upsert(fetched(120, List.of("ssr", "react"))); // 순서만 다름
+
+        assertEquals(inserted.getIdx(), updated.getIdx());
+        assertEquals(topicIds, topicIds());
+        assertFalse(updated.getLastFetchedAt().isBefore(inserted.getLastFetchedAt()));
+    }
+
+    @Test
+    void appliesChangedFieldsAndDiffsTopics() {
+        repositoryService.upsert(fetched(120, List.of("react", "ssr")));
+        repositoryService.recordView(REPO_ID);
+        repositoryService.flushViews();
+        Long ssrId = topicIds().get("ssr");
+
+        RepositoryDTO updated = repositoryService.upsert(fetched(150, List.of("ssr", "edge")));
+
+        assertEquals(150, updated.getStar());
+        assertEquals(1L, updated.getViewCount()); // 조회수는 GitHub 값으로 덮어쓰지 않음
+        assertEquals(List.of("ssr", "edge"), updated.getTopics());
+        assertEquals(ssrId, topicIds().get("ssr")); // 남은 토픽은 다시 만들지 않음
+        assertFalse(topicIds().containsKey("react"));
+    }
+
+    @Test
+    void flushesViewsEvenWhenRefreshIsDisabled() {
+        repositoryService.upsert(fetched(120, List.of("react")));
+        repositoryService.recordView(REPO_ID);
+        repositoryService.recordView(REPO_ID);
+
+        refreshScheduler.flushViews(); // 테스트 설정은 refresh-enabled: false
+        assertEquals(2L, repositoryService.findByGithubId(REPO_ID).orElseThrow().getViewCount());
+    }
+
+    private RepositoryDTO fetched(int star, List<String> topics) {
+        return RepositoryFixtures.repository(REPO_ID, "vercel", "next.js")
+                .language("JavaScript")
+                .star(star)
+                .watchers(star)
+                .topics(topics)
+                .build();
+    }
+
+    private Map<String, Long> topicIds() {
+        return topicRepository.findAll().stream()
+                .collect(Collectors.toMap(TopicEntity::getTopic, TopicEntity::getIdx));
+    }
+}
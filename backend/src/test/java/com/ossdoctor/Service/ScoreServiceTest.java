@@ -0,0 +1,63 @@
+package com.ossdoctor.Service;
+
+import com.ossdoctor.DTO.RepositoryDTO;
+import com.ossdoctor.Entity.SCORE_TYPE;
+import com.ossdoctor.Entity.ScoreEntity;
+import com.ossdoctor.Repository.RepositoryRepository;
+import com.ossdoctor.Repository.ScoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 점수 스냅샷: 입력값이 같으면 다시 저장하지 않음
+@SpringBootTest
+class ScoreServiceTest {
+
+    @Autowired
+    ScoreService scoreService;
+    @Autowired
+    RepositoryService repositoryService;
+    @Autowired
+    ScoreRepository scoreRepository;
+    @Autowired
+    RepositoryRepository repositoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        scoreRepository.deleteAll();
+        repositoryRepository.deleteAll();
+    }
+
+    @Test
+    void writesScoreRowsOnlyWhenInputsChange() {
+        RepositoryDTO repo = repositoryService.upsert(repository(300));
+
+        ScoreService.Snapshot first = scoreService.getSnapshot(repo);
+        ScoreService.Snapshot second = scoreService.getSnapshot(repositoryService.findByFullName("spring-projects", "spring-boot"));
+
+        assertSame(first, second);
+        assertEquals(3, scoreRepository.findByRepositoryIdx(repo.getIdx()).size()); // HEALTH, SOCIAL, TOTAL 한 번만
+
+        ScoreService.Snapshot changed = scoreService.getSnapshot(repositoryService.upsert(repository(2000)));
+
+        assertEquals(6, scoreRepository.findByRepositoryIdx(repo.getIdx()).size());
+        assertEquals(25, changed.getSocialDetails().get("starScore"));
+        assertEquals((changed.getHealthScore() * 5 + changed.getSocialScore() * 2) / 10, changed.getTotalScore());
+
+        ScoreEntity latest = scoreRepository.findTopByRepositoryIdxOrderByIdxDesc(repo.getIdx()).orElseThrow(); // 마지막에 저장한 TOTAL 행
+        assertEquals(SCORE_TYPE.TOTAL, latest.getScoreType());
+        assertEquals(changed.getTotalScore(), latest.getScore());
+    }
+
+    private RepositoryDTO repository(int star) {
+        return RepositoryFixtures.repository(6296790L, "spring-projects", "spring-boot")
+                .star(star)
+                .topics(List.of("java", "spring"))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ossdoctor.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void opensWhenFailureRateExceedsThreshold() {
+        CircuitBreaker breaker = breaker(error -> true);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess(10);
+        }
+        assertTrue(breaker.tryAcquire());
+        breaker.onError(new RuntimeException("boom"), 10);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState()); // 최소 호출 수 전
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onError(new RuntimeException("boom"), 10);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    void halfOpenTrialsCloseOrReopen() {
+        CircuitBreaker breaker = breaker(error -> true);
+        trip(breaker);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire()); // 시험 호출은 2개까지
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(10);
+        breaker.onError(new RuntimeException("boom"), 10);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(10);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(10);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getBufferedCalls());
+    }
+
+    @Test
+    void ignoresNonRecordedErrorsButCountsSlowCalls() {
+        CircuitBreaker breaker = breaker(error -> !(error instanceof IllegalArgumentException));
+
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onError(new IllegalArgumentException("not found"), 10);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess(5_000);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private CircuitBreaker breaker(Predicate<Throwable> recordFailure) {
+        return new CircuitBreaker("test", 10, 10, 0.5, Duration.ofSeconds(1), Duration.ofSeconds(30), 2,
+                recordFailure, clock);
+    }
+
+    private void trip(CircuitBreaker breaker) {
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onError(new RuntimeException("boom"), 10);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ossdoctor.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskResponseStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void survivesReopen() throws IOException {
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            store.put("a", entry("first", "\"etag-a\""));
+            store.put("a", entry("second", "\"etag-b\""));
+            store.put("b", entry("other", null));
+            store.remove("b");
+        }
+
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            DiskResponseStore.Entry entry = store.get("a").orElseThrow();
+            assertEquals("second", new String(entry.getBody(), StandardCharsets.UTF_8));
+            assertEquals("\"etag-b\"", entry.getEtag());
+            assertTrue(store.get("b").isEmpty());
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndCompacts() throws IOException {
+        String body = "x".repeat(100);
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1000, 400)) {
+            for (int i = 0; i < 50; i++) {
+                store.get("key-0"); // 자주 쓰는 키는 유지
+                store.put("key-" + (i % 10), entry(body + i, null));
+            }
+
+            DiskResponseStore.Stats stats = store.stats();
+            assertTrue(stats.getLiveBytes() <= 1000);
+            assertTrue(stats.getEvictions() > 0);
+            assertTrue(stats.getCompactions() > 0);
+            assertTrue(stats.getTotalBytes() < 5000);
+            assertTrue(store.get("key-9").isPresent());
+        }
+    }
+
+    @Test
+    void truncatesCorruptedTail() throws IOException {
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            store.put("a", entry("value", null));
+        }
+        Files.write(directory.resolve("segment-0.log"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9},
+                StandardOpenOption.APPEND);
+
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            assertTrue(store.get("a").isPresent());
+            store.put("b", entry("after", null));
+        }
+        try (DiskResponseStore store = new DiskResponseStore(directory, 1024 * 1024, 64 * 1024)) {
+            assertTrue(store.get("b").isPresent());
+        }
+    }
+
+    private DiskResponseStore.Entry entry(String body, String etag) {
+        return new DiskResponseStore.Entry(body.getBytes(StandardCharsets.UTF_8), etag, null, null,
+                System.currentTimeMillis());
+    }
+}
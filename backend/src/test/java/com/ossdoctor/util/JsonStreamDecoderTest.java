@@ -0,0 +1,88 @@
+package com.ossdoctor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonStreamDecoderTest {
+
+    private static final String RESPONSE = """
+            {"data": {
+               "rateLimit": {"cost": 1},
+               "search": {
+                 "repositoryCount": 2,
+                 "nodes": [
+                   {"name": "a", "topics": [{"name": "x"}, {"name": "y"}]},
+                   {"name": "b", "topics": []}
+                 ]
+               },
+               "r0": {"name": "c"},
+               "r1": null
+             },
+             "errors": [{"message": "not found", "path": ["r1"]}]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void emitsOnlyMatchingRecordsInDocumentOrder() {
+        List<JsonStreamDecoder.Record> records = decode(chunks(RESPONSE, RESPONSE.length()),
+                "data.search.repositoryCount", "data.search.nodes.*", "errors.*");
+
+        assertEquals(4, records.size());
+        assertEquals(2, records.get(0).asTree().asInt());
+        assertEquals("a", records.get(1).asTree().path("name").asText());
+        assertEquals(2, records.get(1).asTree().path("topics").size());
+        assertEquals(List.of("data", "search", "nodes", "*"), records.get(2).getPath());
+        assertTrue(records.get(3).isUnder("errors"));
+    }
+
+    @Test
+    void wildcardMatchesFieldNames() {
+        List<JsonStreamDecoder.Record> records = decode(chunks(RESPONSE, RESPONSE.length()), "data.*");
+
+        assertEquals(List.of("rateLimit", "search", "r0", "r1"),
+                records.stream().map(record -> record.segment(1)).toList());
+        assertTrue(records.get(3).asTree().isNull());
+    }
+
+    @Test
+    void sameResultRegardlessOfBufferBoundaries() {
+        List<JsonNode> whole = trees(decode(chunks(RESPONSE, RESPONSE.length()), "data.*", "errors.*"));
+
+        for (int size = 1; size < 16; size++) {
+            assertEquals(whole, trees(decode(chunks(RESPONSE, size), "data.*", "errors.*")));
+        }
+    }
+
+    private List<JsonStreamDecoder.Record> decode(Flux<DataBuffer> body, String... paths) {
+        return new JsonStreamDecoder(objectMapper, List.of(paths)).decode(body).collectList().block();
+    }
+
+    private List<JsonNode> trees(List<JsonStreamDecoder.Record> records) {
+        return records.stream().map(JsonStreamDecoder.Record::asTree).toList();
+    }
+
+    // 본문을 size 바이트씩 나눈 DataBuffer 스트림
+    private Flux<DataBuffer> chunks(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            int length = Math.min(size, bytes.length - offset);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, offset, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ossdoctor.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveTtlCacheTest {
+
+    @Test
+    void storesResolvedValueInsteadOfMono() {
+        ReactiveTtlCache<String, Integer> cache = new ReactiveTtlCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<Integer> first = cache.get("a", () -> Mono.fromCallable(loads::incrementAndGet));
+        assertEquals(1, first.block());
+        assertEquals(1, cache.get("a", () -> Mono.fromCallable(loads::incrementAndGet)).block());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void concurrentSubscribersShareOneLoad() {
+        ReactiveTtlCache<String, Integer> cache = new ReactiveTtlCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Integer> results = Flux.range(0, 20)
+                .flatMap(i -> cache.get("a", () -> Mono.delay(Duration.ofMillis(50))
+                        .map(tick -> loads.incrementAndGet())))
+                .collectList()
+                .block();
+
+        assertEquals(20, results.size());
+        assertTrue(results.stream().allMatch(value -> value == 1));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getLoads());
+        assertEquals(19, cache.stats().getCoalescedLoads());
+    }
+
+    @Test
+    void expiresAfterTtlAndEvictsLeastRecentlyUsed() {
+        MutableClock clock = new MutableClock();
+        ReactiveTtlCache<String, String> cache = new ReactiveTtlCache<>("test", 2, Duration.ofMinutes(1), clock);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.getIfPresent("a");
+        cache.put("c", "C");
+
+        assertTrue(cache.getIfPresent("a").isPresent());
+        assertTrue(cache.getIfPresent("b").isEmpty());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(cache.getIfPresent("a").isEmpty());
+        assertEquals("A", cache.getStale("a").orElseThrow()); // 장애 시 대체값으로는 남아 있음
+    }
+
+    @Test
+    void errorsAreNotCached() {
+        ReactiveTtlCache<String, String> cache = new ReactiveTtlCache<>("test", 10, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get("a", () -> Mono.<String>error(new IllegalStateException("boom"))).block());
+        assertEquals("ok", cache.get("a", () -> Mono.just("ok")).block());
+        assertEquals(1, cache.stats().getLoadFailures());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ossdoctor.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookSignatureTest {
+
+    @Test
+    void matchesGitHubExample() {
+        // https://docs.github.com/en/webhooks/using-webhooks/validating-webhook-deliveries 의 예시 값
+        byte[] body = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+        String signature = "sha256=757107ea0eb2509fc211221cce984b8a37570b6d7586c22c46f4379c8b043e17";
+
+        assertEquals(signature, WebhookSignature.sign("It's a Secret to Everybody", body));
+        assertTrue(WebhookSignature.verify("It's a Secret to Everybody", body, signature));
+    }
+
+    @Test
+    void rejectsWrongSecretMissingHeaderAndEmptySecret() {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        String signature = WebhookSignature.sign("secret", body);
+
+        assertFalse(WebhookSignature.verify("other", body, signature));
+        assertFalse(WebhookSignature.verify("secret", "{ }".getBytes(StandardCharsets.UTF_8), signature));
+        assertFalse(WebhookSignature.verify("secret", body, null));
+        assertFalse(WebhookSignature.verify("secret", body, signature.substring("sha256=".length())));
+        assertFalse(WebhookSignature.verify("", body, signature));
+    }
+}